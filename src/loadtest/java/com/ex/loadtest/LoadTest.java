@@ -0,0 +1,115 @@
+package com.ex.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 동시 사용자 부하 테스트 (플랫폼 스레드 / 가상 스레드 모드 처리량 비교용)
+// 사용자마다 가상 스레드 하나가 duration 동안 paths 를 차례로 요청하고, 끝나면 처리량과 응답시간 분포를 출력한다.
+// 실행 : ./gradlew loadTest -PbaseUrl=http://localhost:8080 -Pusers=1000 -Pduration=60 -Ppaths=/,/searchMap/api/branches
+// 같은 조건으로 기본 모드(bootRun)와 가상 스레드 모드(bootRun -Pvthreads)에서 각각 실행해 결과를 비교한다.
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("loadtest.baseUrl", "http://localhost:8080");
+        int users = Integer.getInteger("loadtest.users", 1000);
+        int durationSeconds = Integer.getInteger("loadtest.duration", 60);
+        int warmupSeconds = Integer.getInteger("loadtest.warmup", 10);
+        String cookie = System.getProperty("loadtest.cookie", "");
+        String[] paths = System.getProperty("loadtest.paths", "/").split(",");
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        long warmupEnd = System.nanoTime() + Duration.ofSeconds(warmupSeconds).toNanos();
+        long end = warmupEnd + Duration.ofSeconds(durationSeconds).toNanos();
+        AtomicLong errors = new AtomicLong();
+
+        System.out.printf("Load test: %s, users=%d, duration=%ds (warmup %ds), paths=%s%n",
+                baseUrl, users, durationSeconds, warmupSeconds, Arrays.toString(paths));
+
+        List<Future<long[]>> results = new ArrayList<>(users);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int u = 0; u < users; u++) {
+                int offset = u;
+                results.add(executor.submit(() -> {
+                    LongList latencies = new LongList();
+                    for (int i = offset; System.nanoTime() < end; i++) {
+                        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + paths[i % paths.length].trim()))
+                                .timeout(Duration.ofSeconds(30))
+                                .GET();
+                        if (!cookie.isEmpty()) {
+                            request.header("Cookie", cookie);
+                        }
+                        long started = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request.build(), HttpResponse.BodyHandlers.discarding());
+                            if (started >= warmupEnd) {
+                                if (response.statusCode() >= 400) {
+                                    errors.incrementAndGet();
+                                } else {
+                                    latencies.add(System.nanoTime() - started);
+                                }
+                            }
+                        } catch (Exception e) {
+                            if (started >= warmupEnd) {
+                                errors.incrementAndGet();
+                            }
+                        }
+                    }
+                    return latencies.toArray();
+                }));
+            }
+        }
+
+        LongList all = new LongList();
+        for (Future<long[]> result : results) {
+            for (long latency : result.get()) {
+                all.add(latency);
+            }
+        }
+        long[] sorted = all.toArray();
+        Arrays.sort(sorted);
+        System.out.printf("requests=%d, errors=%d, throughput=%.1f req/s%n",
+                sorted.length, errors.get(), sorted.length / (double) durationSeconds);
+        if (sorted.length > 0) {
+            System.out.printf("latency ms: p50=%.1f p90=%.1f p99=%.1f max=%.1f%n",
+                    percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99),
+                    sorted[sorted.length - 1] / 1_000_000.0);
+        }
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1_000_000.0;
+    }
+
+    // 박싱 없이 응답시간을 모으는 리스트
+    private static final class LongList {
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -1,27 +1,31 @@
 package com.ex.controller;
 import com.ex.data.AdmissionsDTO;
+import com.ex.data.CursorPageDTO;
 import com.ex.data.DogsDTO;
+import com.ex.data.MemberProfileDTO;
 import com.ex.data.MonthcareGroupsDTO;
 import com.ex.data.TicketDTO;
 import com.ex.entity.BranchEntity;
 import com.ex.entity.DogsEntity;
-import com.ex.entity.MembersEntity;
 import com.ex.entity.VaccinationsEntity;
 import com.ex.service.AdmissionsService;
 import com.ex.service.DogService;
 import com.ex.service.MembersService;
 import com.ex.service.TicketService;
+import com.ex.service.UploadFileServer;
 import com.ex.service.VaccinationsService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.Resource;
-import org.springframework.data.domain.Page;
-import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import java.io.IOException;
 import java.security.Principal;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -38,16 +42,17 @@ public class AdmissionsController {
         private final MembersService membersService;
         private final VaccinationsService vaccinationsService;
         private final TicketService ticketService;
+        private final UploadFileServer uploadFileServer;
             
         @GetMapping("")
         @PreAuthorize("isAuthenticated()")
         public String AdmissionForm(Model model, Principal principal) {
             // 현재 로그인한 사용자 정보 가져오기
             String username = principal.getName();
-            MembersEntity member = membersService.findByUsername(username);
+            MemberProfileDTO member = membersService.getProfile(username);
 
             // 사용자의 강아지 정보 가져오기
-            List<DogsEntity> userDogs = dogService.findDogsByMember(member);
+            List<DogsEntity> userDogs = dogService.findDogsByMemberId(member.getMemberId());
             
             // 지점 목록 가져오기
             List<BranchEntity> branches = admissionsService.getAllBranches();
@@ -119,13 +124,19 @@ public class AdmissionsController {
         @GetMapping("/admissionsList")
         @PreAuthorize("isAuthenticated()")
         public String admissionsList(Model model, Principal principal,
-                                     @RequestParam(value = "page", defaultValue = "0") int page,
-                                     @RequestParam(value = "status", required = false) String status) {
+                                     @RequestParam(value = "status", required = false) String status,
+                                     @RequestParam(value = "cursor", required = false) String cursor) {
 
             String username = principal.getName();
-            MembersEntity member = membersService.findByUsername(username);
+            MemberProfileDTO member = membersService.getProfile(username);
 
-            Page<AdmissionsDTO> paginatedAdmissions = admissionsService.getAdmissionsByRole(username, page, status);
+            // 커서 조회 (다음 페이지는 nextCursor 를 cursor 로 전달, 잘못된 커서는 400)
+            CursorPageDTO<AdmissionsDTO> paginatedAdmissions;
+            try {
+                paginatedAdmissions = admissionsService.getAdmissionsByRoleCursor(username, status, cursor, 10, false);
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+            }
 
             model.addAttribute("userType", member.getUserType());
             model.addAttribute("admissionsList", paginatedAdmissions);
@@ -138,6 +149,24 @@ public class AdmissionsController {
 
             return "admissions/admissionsList";
         }
+
+        // 입학 신청 목록 커서 조회 (JSON) : 다음 페이지는 응답의 nextCursor 를 cursor 로 전달
+        @GetMapping("/api/scroll")
+        @PreAuthorize("isAuthenticated()")
+        @ResponseBody
+        public ResponseEntity<CursorPageDTO<AdmissionsDTO>> admissionsScroll(Principal principal,
+                                     @RequestParam(value = "status", required = false) String status,
+                                     @RequestParam(value = "cursor", required = false) String cursor,
+                                     @RequestParam(value = "size", defaultValue = "10") int size,
+                                     @RequestParam(value = "withTotal", defaultValue = "false") boolean withTotal) {
+            try {
+                return ResponseEntity.ok(admissionsService.getAdmissionsByRoleCursor(
+                        principal.getName(), status, cursor, size, withTotal));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+
         @GetMapping("/admissionsDetail/{id}")
         @PreAuthorize("isAuthenticated()")
         public String viewAdmission(@PathVariable("id") Integer id, Model model) {
@@ -172,13 +201,11 @@ public class AdmissionsController {
         }
         
         
+        // 접종 증명서 파일 (업로드 파일 공용 응답 : ETag, Range, 캐시 헤더 처리)
         @GetMapping("/vaccinations/file/{filename:.+}")
-        @ResponseBody
-        public ResponseEntity<Resource> serveFile(@PathVariable("filename")  String filename) {
-            Resource file = vaccinationsService.loadFileAsResource(filename);
-            return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + file.getFilename() + "\"")
-                    .body(file);
+        public void serveFile(@PathVariable("filename") String filename,
+                              HttpServletRequest request, HttpServletResponse response) throws IOException {
+            uploadFileServer.serveUpload(filename, request, response);
         }
         
         
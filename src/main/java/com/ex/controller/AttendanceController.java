@@ -9,11 +9,12 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import com.ex.data.AttendanceDTO;
+import com.ex.data.AttendanceRosterDTO;
 import com.ex.data.BranchesDTO;
 import com.ex.data.DogsDTO;
+import com.ex.data.MemberProfileDTO;
 import com.ex.data.MonthcareGroupsDTO;
 import com.ex.entity.BranchEntity;
-import com.ex.entity.MembersEntity;
 import com.ex.service.AttendanceService;
 import com.ex.service.BranchesService;
 import com.ex.service.DogService;
@@ -57,7 +58,7 @@ public class AttendanceController {
 		LocalDate currentDate = (date != null) ? LocalDate.parse(date) : LocalDate.now();
 		
 		// 사용자정보(지점id) 조회
-		MembersEntity me = membersService.findByUsername(principal.getName());
+		MemberProfileDTO me = membersService.getProfile(principal.getName());
 		Integer branchId = me.getBranchId();
 		
 		// 소속지점정보 조회 (화면 지점이름을 조회하기 위함)
@@ -68,7 +69,7 @@ public class AttendanceController {
 		
         // 모든반 출석부 목록조회	: 미선택시 	> 선생님이 근무하고 있는 지점의 해당일자 모든반 출석부
         // 특정반 출석부 목록조회 	: 반선택시 	> 선생님이 근무하고 있는 지점의 해당일자 해당반 출석부
-        List<AttendanceDTO> attendances = attendanceService.getAttendanceByDateAndBranchOrMonthGroup(principal.getName(), currentDate, branchId, selectMonthGroup);
+        List<AttendanceRosterDTO> attendances = attendanceService.getAttendanceRoster(currentDate, branchId, selectMonthGroup);
 
         model.addAttribute("currentDate", currentDate);
         model.addAttribute("brancheDTO", brancheDTO);
@@ -85,7 +86,7 @@ public class AttendanceController {
 							            Model model, Principal principal) {
 		
 		// 지점명을 가져오기 위해 사용자의 근무지 지점정보를 가져와 AttendanceDTO에 대입
-		MembersEntity me = membersService.findByUsername(principal.getName());
+		MemberProfileDTO me = membersService.getProfile(principal.getName());
 		Integer branchId = me.getBranchId();
 		
 		// 지점별 정규반 목록과 강아지 목록조회
@@ -122,7 +123,7 @@ public class AttendanceController {
         AttendanceDTO attendance = attendanceService.getAttendanceById(id);
         
         // 사용자 정보 (지점 정보) 조회
-        MembersEntity me = membersService.findByUsername(principal.getName());
+        MemberProfileDTO me = membersService.getProfile(principal.getName());
         Integer branchId = me.getBranchId();
         
         // 소속 지점 정규반 목록 및 강아지 목록 조회
@@ -143,7 +144,7 @@ public class AttendanceController {
     public String updateAttendanceForm(AttendanceDTO attendanceDTO, Model model, Principal principal) {
     	
     	// 사용자 정보 (지점 정보) 조회
-        MembersEntity me = membersService.findByUsername(principal.getName());
+        MemberProfileDTO me = membersService.getProfile(principal.getName());
         Integer branchId = me.getBranchId();
         
         // 소속 지점 정규반 목록 및 강아지 목록 조회
@@ -1,5 +1,6 @@
 package com.ex.controller;
 import com.ex.data.BranchesDTO;
+import com.ex.service.BranchRegeocodeService;
 import com.ex.service.BranchesService;
 import com.ex.service.KakaoApiService;
 import lombok.RequiredArgsConstructor;
@@ -7,6 +8,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
@@ -19,6 +21,7 @@ import java.util.Map;
 public class BranchesController {
     private final BranchesService branchesService;
     private final KakaoApiService kakaoApiService;
+    private final BranchRegeocodeService branchRegeocodeService;
     private static final Logger logger = LoggerFactory.getLogger(BranchesController.class);
 
     // 지점 등록 폼 페이지
@@ -55,6 +58,18 @@ public class BranchesController {
         }
     }
 
+    // 좌표가 없는 지점 일괄 재변환 (관리자만, 이미 진행 중이면 409)
+    @PostMapping("/regeocode")
+    @ResponseBody
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Integer>> regeocodeBranches() {
+        try {
+            return ResponseEntity.ok(branchRegeocodeService.regeocodeMissing());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
     // 지점 수정 폼 페이지
     @GetMapping("/edit/{id}")
     public String showEditForm(@PathVariable("id") Integer id, Model model) {
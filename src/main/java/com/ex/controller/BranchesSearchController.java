@@ -1,8 +1,14 @@
 package com.ex.controller;
-import com.ex.data.BranchesDTO;
 import com.ex.data.BranchesListResponseDTO;
+import com.ex.data.BranchesNearbyDTO;
+import com.ex.service.BranchDirectory;
+import com.ex.service.BranchGeoIndex;
 import com.ex.service.BranchesService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
@@ -13,6 +19,8 @@ import java.util.List;
 @RequestMapping("/searchMap")
 public class BranchesSearchController {
     private final BranchesService branchesService;
+    private final BranchDirectory branchDirectory;
+    private final BranchGeoIndex branchGeoIndex;
 
     @GetMapping("/branchSearchMain")
     public String branchSearchMain() {
@@ -26,9 +34,20 @@ public class BranchesSearchController {
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "name") String sortBy,
             @RequestParam(defaultValue = "asc") String sortDir,
-            @RequestParam(defaultValue = "false") boolean activeOnly) {
-        BranchesListResponseDTO response = branchesService.listBranches(page, size, sortBy, sortDir, activeOnly);
-        return ResponseEntity.ok(response);
+            @RequestParam(defaultValue = "false") boolean activeOnly,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
+        // cursor 가 있으면 키셋 조회 (첫 커서 페이지는 cursor 를 빈 값으로 요청)
+        // 잘못된 커서나 허용되지 않은 정렬키는 400
+        try {
+            if (cursor != null) {
+                return ResponseEntity.ok(branchesService.listBranches(cursor, size, sortBy, sortDir, activeOnly, withTotal));
+            }
+            BranchesListResponseDTO response = branchesService.listBranches(page, size, sortBy, sortDir, activeOnly);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/search")
@@ -37,7 +56,7 @@ public class BranchesSearchController {
             @RequestParam String term,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "relevance") String sortBy,
             @RequestParam(defaultValue = "asc") String sortDir,
             @RequestParam(defaultValue = "false") boolean activeOnly) {
         
@@ -47,8 +66,35 @@ public class BranchesSearchController {
 
     @GetMapping("/api/branches/map")
     @ResponseBody
-    public ResponseEntity<List<BranchesDTO>> getBranchesForMap() {
-        List<BranchesDTO> branches = branchesService.getAllActiveBranches();
+    public ResponseEntity<byte[]> getBranchesForMap(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // 지점 디렉터리에 미리 직렬화된 JSON과 ETag 사용 (변경이 없으면 304)
+        BranchDirectory.Snapshot snapshot = branchDirectory.snapshot();
+        if (snapshot.getEtag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.getEtag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(snapshot.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .body(snapshot.getActiveJson());
+    }
+
+    @GetMapping("/api/branches/nearby")
+    @ResponseBody
+    public ResponseEntity<List<BranchesNearbyDTO>> getNearbyBranches(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "5") int k,
+            @RequestParam(required = false) Double radiusKm) {
+        if (lat < -90 || lat > 90 || lng < -180 || lng > 180 || k < 1 || (radiusKm != null && radiusKm <= 0)) {
+            return ResponseEntity.badRequest().build();
+        }
+        // 메모리 공간 인덱스에서 조회 (DB 조회 없음)
+        List<BranchesNearbyDTO> branches = branchGeoIndex.nearest(lat, lng, Math.min(k, 50), radiusKm);
         return ResponseEntity.ok(branches);
     }
 
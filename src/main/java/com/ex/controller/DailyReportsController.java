@@ -1,15 +1,31 @@
 package com.ex.controller;
+import java.io.IOException;
 import java.security.Principal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import com.ex.data.CalendarEventDTO;
 import com.ex.data.DailyReportsDTO;
+import com.ex.entity.ReportPhotosEntity;
+import com.ex.service.DailyReportCalendarFeed;
 import com.ex.service.DailyReportsService;
+import com.ex.service.ReportPhotoService;
+import com.ex.service.UploadFileServer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 import lombok.RequiredArgsConstructor;
 
@@ -20,17 +36,44 @@ public class DailyReportsController {
 	
 	@Autowired
 	private DailyReportsService dailyReportsService;
+	@Autowired
+	private DailyReportCalendarFeed dailyReportCalendarFeed;
+	@Autowired
+	private ReportPhotoService reportPhotoService;
+	@Autowired
+	private UploadFileServer uploadFileServer;
 	
 	
-	// 캘린더에 알림장 표시
+	// 캘린더 화면 (알림장 목록은 화면에 보이는 기간만 /calendar/events 로 조회)
 	@GetMapping("")
 	public String main(DailyReportsDTO daReportsDTO, Principal principal, Model model) {
-		List<DailyReportsDTO> list = dailyReportsService.getDailyReportsList(principal.getName());
-		model.addAttribute("list", list);
 		return "calendar/calendar";
 	}
 	
 	
+	// 캘린더 알림장 이벤트 피드 (FullCalendar JSON 피드 : start, end 는 ISO 날짜/일시)
+	// ETag/Last-Modified 는 알림장의 마지막 변경시각 기준이고, 변경이 없으면 304 로 응답
+	@GetMapping("events")
+	@ResponseBody
+	public ResponseEntity<List<CalendarEventDTO>> events(@RequestParam("start") String start
+			, @RequestParam("end") String end, Principal principal) {
+		try {
+			DailyReportCalendarFeed.Feed feed = dailyReportCalendarFeed.feed(principal.getName()
+					, LocalDate.parse(start.substring(0, 10)), LocalDate.parse(end.substring(0, 10)));
+			ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+					.cacheControl(CacheControl.noCache().cachePrivate())
+					.eTag(feed.getEtag());
+			// 알림장이 없는 기간은 Last-Modified 없이 ETag 로만 비교
+			if (feed.getLastModified() > 0) {
+				response.lastModified(feed.getLastModified());
+			}
+			return response.body(feed.getEvents());
+		} catch (IllegalArgumentException | DateTimeParseException | StringIndexOutOfBoundsException e) {
+			return ResponseEntity.badRequest().build();
+		}
+	}
+	
+	
 	// 알림장 상세조회
 	@GetMapping("select")
 	public String select(@RequestParam("selectDate") String selectDate,
@@ -39,6 +82,7 @@ public class DailyReportsController {
 		model.addAttribute("selectDate", selectDate);
 		DailyReportsDTO daReportsDTO = dailyReportsService.getDailyReports(reportId);
 		model.addAttribute("daReportsDTO", daReportsDTO);
+		model.addAttribute("photos", reportPhotoService.getPhotos(reportId));
 		return "calendar/viewDailyReports";
 	}
 	
@@ -54,15 +98,50 @@ public class DailyReportsController {
 	}
 	
 	
-	// 알림장 등록
+	// 알림장 등록 (사진은 원본 저장 후 썸네일/웹 이미지를 백그라운드에서 생성)
+	// 사진 크기 초과 등 잘못된 입력이면 작성폼으로 돌아가 오류 메시지 표시
 	@PostMapping("create")
 	public String create(DailyReportsDTO dailyReportsDTO
 							, Principal principal
 							, @RequestParam("attId") Integer attendanceId
-							, @RequestParam("selectDate") String selectDate) {
-		this.dailyReportsService.create(dailyReportsDTO, attendanceId, principal.getName(), selectDate);
+							, @RequestParam("selectDate") String selectDate
+							, @RequestParam(value = "photos", required = false) List<MultipartFile> photos
+							, RedirectAttributes redirectAttributes) {
+		try {
+			this.dailyReportsService.create(dailyReportsDTO, attendanceId, principal.getName(), selectDate, photos);
+		} catch (IllegalArgumentException e) {
+			redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
+			redirectAttributes.addAttribute("selectDate", selectDate);
+			redirectAttributes.addAttribute("attId", attendanceId);
+			return "redirect:/calendar/create";
+		}
 		return "redirect:/attendance?date="+selectDate;
 	}
 	
+	
+	// 알림장 사진 (variant : thumb, web, original)
+	// 변환 이미지는 내용이 바뀌지 않으므로 immutable 로 캐시하고, 변환 전이라 원본으로 대신 응답할 때는 매번 재검증
+	// 견주/지점 직원/관리자만 볼 수 있고, 없는 사진이나 허용 형식이 아닌 원본은 404
+	@GetMapping("photos/{photoId}/{variant}")
+	public void photo(@PathVariable("photoId") Integer photoId, @PathVariable("variant") String variant
+			, Principal principal, HttpServletRequest request, HttpServletResponse response) throws IOException {
+		ReportPhotosEntity photo = reportPhotoService.findPhoto(photoId);
+		if (photo == null) {
+			response.sendError(HttpServletResponse.SC_NOT_FOUND);
+			return;
+		}
+		if (!reportPhotoService.canView(photo, principal != null ? principal.getName() : null)) {
+			response.sendError(HttpServletResponse.SC_FORBIDDEN);
+			return;
+		}
+		String contentType = reportPhotoService.responseType(photo, variant);
+		if (contentType == null) {
+			response.sendError(HttpServletResponse.SC_NOT_FOUND);
+			return;
+		}
+		uploadFileServer.serveStored(reportPhotoService.photoKey(photo, variant)
+				, reportPhotoService.hasVariant(photo, variant), contentType, request, response);
+	}
+	
 
 }
@@ -23,7 +23,7 @@ public class DogAssignmentsController {
     @PreAuthorize("isAuthenticated()")
     public String listAssignments(Principal principal, Model model) {
         // 현재 로그인한 사용자의 지점 ID를 가져옵니다.
-        Integer branchId = membersService.findByUsername(principal.getName()).getBranchId();
+        Integer branchId = membersService.getProfile(principal.getName()).getBranchId();
 
         // 서비스에서 모든 필요한 정보를 한 번에 가져옵니다.
         Map<String, Object> assignmentsInfo = dogAssignmentsService.getAssignmentsInfoByBranch(branchId);
@@ -1,14 +1,8 @@
 package com.ex.controller;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.io.IOException;
 import java.security.Principal;
 import java.util.List;
-import org.springframework.core.io.FileSystemResource;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -20,6 +14,10 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.multipart.MultipartFile;
 import com.ex.data.DogsDTO;
 import com.ex.service.DogService;
+import com.ex.service.FileUploadService;
+import com.ex.service.UploadFileServer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -29,6 +27,8 @@ import lombok.RequiredArgsConstructor;
 public class DogsController {
 	
 	private final DogService dogService;
+	private final UploadFileServer uploadFileServer;
+	private final FileUploadService fileUploadService;
 	
 //	 (관리자) 강아지 전체 목록 출력
 	@GetMapping("list")
@@ -90,45 +90,34 @@ public class DogsController {
 	
 	@PostMapping("profile")
 	@PreAuthorize("isAuthenticated()")
-	public String myDogProfile(@RequestParam("profile") MultipartFile profile, 
+	public CompletableFuture<String> myDogProfile(@RequestParam("profile") MultipartFile profile, 
 			@RequestParam("dogId") Integer id, Principal principal) {
-		String sysname = dogService.profile(profile);
-		DogsDTO dogsDTO = dogService.selectDog(id, principal.getName());
-		if(sysname!=null) {
-			if(dogsDTO.getDogProfile()==null) {
-				dogService.createDogProfile(id, sysname);
-			}else {
-				dogService.deleteDogProfile(id);
-				dogService.createDogProfile(id, sysname);
+		// 파일 저장은 업로드 스레드풀에서 처리하고, 저장이 끝나면 프로필 정보를 바꾼다
+		String username = principal.getName();
+		return dogService.profileAsync(profile).thenApply(sysname -> {
+			DogsDTO dogsDTO = dogService.selectDog(id, username);
+			if(sysname!=null) {
+				if(dogsDTO.getDogProfile()==null) {
+					dogService.createDogProfile(id, sysname);
+				}else {
+					dogService.deleteDogProfile(id);
+					dogService.createDogProfile(id, sysname);
+				}
 			}
-		}
-		return String.format("redirect:/dogs/detail/%s", id);
+			return String.format("redirect:/dogs/detail/%s", id);
+		});
 	}
 	
 	
+	// 강아지 프로필 사진 (업로드 파일 공용 응답 : ETag, Range, 캐시 헤더 처리)
+	// variant=avatar 이면 목록/상세용 작은 이미지 (아바타가 없는 이전 사진은 원본)
 	@GetMapping("display")
-	public ResponseEntity<Resource> display(@RequestParam("filename") String filename) {
-	   String path = "C:\\spring\\upload\\"; // 파일업로드된 경로
-	   
-	   // 파일명을 포함한 파일 경로로 FileSystemResource 객체를 생성 - 웹서버에 파일이 없기때문에 업로드된 파일을 읽어온다.
-	   Resource resource = new FileSystemResource(path + filename);
-	     
-	   // 파일 있는지 확인
-	   if(!resource.exists()) 
-	      return new ResponseEntity<Resource>(HttpStatus.NOT_FOUND); // 파일이 없으면 404 not Found 전달
-	     
-	   // HTTP 응답 이미지 정보를 설정하기위한 객체
-	   HttpHeaders header = new HttpHeaders(); 
-	   Path filePath = null;
-	   try{
-	      // 파일의 MIME 타입을 결정하기위해 Path 클래스로 변환
-	      filePath = Paths.get(path + filename);
-	      // HTTP 응답이미지 타입으로 헤더에 추가 
-	      header.add("Content-type", Files.probeContentType(filePath));
-	   }catch(Exception e) {
-	      e.printStackTrace();
-	   }
-	   // 파일 리소스와 200 OK 상태 코드를 포함한 ResponseEntity 객체를 반환 / 이래야 브라우저에서 다운로드및 이미지 출려이 가능하다.
-	   return new ResponseEntity<Resource>(resource, header, HttpStatus.OK);
+	public void display(@RequestParam("filename") String filename,
+			@RequestParam(value = "variant", required = false) String variant,
+			HttpServletRequest request, HttpServletResponse response) throws IOException {
+		if ("avatar".equals(variant)) {
+			filename = fileUploadService.avatarOrOriginal(filename);
+		}
+		uploadFileServer.serveUpload(filename, request, response);
 	}
 }
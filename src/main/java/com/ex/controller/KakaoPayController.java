@@ -8,12 +8,9 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import com.ex.data.KakaoPayDTO;
-import com.ex.entity.SubscriptionsEntity;
-import com.ex.service.AdmissionsService;
-import com.ex.service.AttendanceService;
-import com.ex.service.DogAssignmentsService;
 import com.ex.service.KakaoPayService;
-import com.ex.service.SubscriptionsService;
+import com.ex.service.PaymentPipelineService;
+import com.ex.service.SeatReservationService;
 
 @Controller
 @RequiredArgsConstructor
@@ -22,60 +19,60 @@ import com.ex.service.SubscriptionsService;
 public class KakaoPayController {
    
     private final KakaoPayService kakaoPay;
-    private final AdmissionsService admissionsService;
-    private final SubscriptionsService subscriptionsService;
-    private final DogAssignmentsService dogAssignmentsService;  
-    private final AttendanceService attendanceService;  
-    private String auto;
+    private final PaymentPipelineService paymentPipelineService;
+    private final SeatReservationService seatReservationService;
 
     @PostMapping("/kakaoPay")
-    public String kakaoPay(KakaoPayDTO kakaoDTO, Principal principal, @RequestParam("admissionId") int admissionId, @RequestParam(value="autoRenewal", required = false) String auto){
-       String redirectUrl = null;
-       Integer admission_id = admissionId;
+    public String kakaoPay(KakaoPayDTO kakaoDTO, Principal principal, @RequestParam("admissionId") int admissionId, @RequestParam(value="autoRenewal", required = false) String auto,
+    		RedirectAttributes redirectAttributes){
+       // 결제 진행 동안 좌석 확보 (정원이 찼으면 결제하지 않음)
+       try {
+          seatReservationService.reserve(admissionId);
+       } catch (RuntimeException e) {
+          redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
+          return "redirect:/admissions/admissionsDetail/" + admissionId;
+       }
+       
        kakaoDTO.setPartner_user_id(principal.getName());
        String partner_order_id = UUID.randomUUID().toString().replace("-", "");
        kakaoDTO.setPartner_order_id(partner_order_id);
        kakaoDTO.setAdmissioId(admissionId);       
        
-       if(auto==null) {          
-          redirectUrl = "redirect:" + kakaoPay.kakaoPayReady(kakaoDTO) + "?admissionId=" + admission_id;
-       }else {
-          this.auto = auto;
-         redirectUrl = "redirect:" + kakaoPay.kakaoPayReady2(kakaoDTO) + "?admissionId=" + admission_id;         
+       // 자동 갱신 선택 시 정기 결제로 준비 (결제 정보는 주문번호별로 보관)
+       String nextUrl = kakaoPay.kakaoPayReady(kakaoDTO, auto != null);
+       if(nextUrl == null) {
+          seatReservationService.release(admissionId);
+          redirectAttributes.addFlashAttribute("errorMessage", "결제 준비 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");
+          return "redirect:/admissions/admissionsDetail/" + admissionId;
        }
-        return    redirectUrl;
+        return "redirect:" + nextUrl;
     }
 
     @GetMapping("/kakaoPaySuccess")
     public String kakaoPaySuccess(@RequestParam("pg_token") String pgToken,
                                   RedirectAttributes redirectAttributes,
                                   @RequestParam("admissionId") int admissionId,
+                                  @RequestParam("orderId") String orderId,
                                   Principal principal) {
-       KakaoPayDTO kakaoDTO = null;
-       if(auto==null) {
-          kakaoDTO = kakaoPay.payApprove(pgToken);
-       }else{
-          kakaoDTO = kakaoPay.payApprove2(pgToken);
+       // 결제 승인 전에 좌석 확정 (예약이 만료됐고 그 사이 정원이 찼으면 결제를 승인하지 않음)
+       try {
+          seatReservationService.confirm(admissionId);
+       } catch (RuntimeException e) {
+          kakaoPay.discard(orderId);
+          redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
+          return "redirect:/admissions/admissionsDetail/" + admissionId;
        }
-        
-        
-        String reason = null;
-        
-        // 입학 상태 변경
-        admissionsService.updateAdmissionStatus(admissionId, "DONE", reason);
-        kakaoDTO.setAuto(auto);
-        
-        // 구독정보 등록
-        SubscriptionsEntity subs = subscriptionsService.createSubscription(principal.getName(), admissionId, kakaoDTO);
        
-        // 입학정보에 구독정보 추가
-        admissionsService.setSubscription(subs, admissionId);
-        
-        // 강아지 반배정
-        dogAssignmentsService.assignDogToClass(admissionId);
+       KakaoPayDTO kakaoDTO;
+       try {
+          kakaoDTO = kakaoPay.payApprove(orderId, pgToken, principal.getName());
+       } catch (RuntimeException e) {
+          seatReservationService.release(admissionId);
+          throw e;
+       }
         
-        // 출석부 등록
-        attendanceService.setMonthAttendance(subs, admissionId);
+        // 입학 상태 변경, 구독정보 등록 (반배정, 출석부 등록은 후처리 워커에서 진행)
+        paymentPipelineService.recordApproval(principal.getName(), admissionId, kakaoDTO);
         
         redirectAttributes.addFlashAttribute("kakaoDTO", kakaoDTO);
         return "redirect:/kakao/completed";
@@ -89,7 +86,24 @@ public class KakaoPayController {
     
     
     @GetMapping("/cancel")
-    public String  cancel() {
+    public String  cancel(@RequestParam(value = "admissionId", required = false) Integer admissionId,
+                         @RequestParam(value = "orderId", required = false) String orderId) {
+       kakaoPay.discard(orderId);
+       // 결제 취소 시 잡아둔 좌석 반환
+       if(admissionId != null) {
+          seatReservationService.release(admissionId);
+       }
+       return "kakaoPay/kakaoPayCancel";
+    }
+    
+    @GetMapping("/fail")
+    public String  fail(@RequestParam(value = "admissionId", required = false) Integer admissionId,
+                         @RequestParam(value = "orderId", required = false) String orderId) {
+       kakaoPay.discard(orderId);
+       // 결제 실패 시 잡아둔 좌석 반환
+       if(admissionId != null) {
+          seatReservationService.release(admissionId);
+       }
        return "kakaoPay/kakaoPayCancel";
     }
    
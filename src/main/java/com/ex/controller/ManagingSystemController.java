@@ -1,12 +1,12 @@
 package com.ex.controller;
-import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.server.ResponseStatusException;
 import com.ex.data.BranchesListResponseDTO;
-import com.ex.data.StaffMgDTO;
 import com.ex.service.BranchesService;
 import com.ex.service.StaffMgService;
 import lombok.RequiredArgsConstructor;
@@ -35,32 +35,42 @@ public class ManagingSystemController {
 //       return "managingSys/branches/branchesManagement";
 //    }
     
-    // 지점 목록 페이지
+    // 지점 목록 페이지 (커서 조회 : 다음 페이지는 nextCursor 를 cursor 로 전달, 허용되지 않은 정렬키는 400)
     @GetMapping("branches")
     public String listBranches(Model model,
-            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "cursor", required = false) String cursor,
             @RequestParam(value = "size", defaultValue = "10") int size,
             @RequestParam(value = "sortBy", defaultValue = "active") String sortBy,
             @RequestParam(value = "sortDir", defaultValue = "desc") String sortDir,
             @RequestParam(value = "activeOnly", defaultValue = "false") boolean activeOnly) {
          BranchesListResponseDTO branchesResponse;
-         if ("active".equals(sortBy) && "desc".equals(sortDir)) {
-         branchesResponse = branchesService.listBranchesSortedByActiveAndName(page, size);
-         } else {
-         branchesResponse = branchesService.listBranches(page, size, sortBy, sortDir, activeOnly);
+         try {
+             if ("active".equals(sortBy) && "desc".equals(sortDir) && !activeOnly) {
+                 branchesResponse = branchesService.listBranchesSortedByActiveAndName(cursor, size);
+             } else {
+                 branchesResponse = branchesService.listBranches(cursor, size, sortBy, sortDir, activeOnly, true);
+             }
+         } catch (IllegalArgumentException e) {
+             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
          }
          model.addAttribute("branchesResponse", branchesResponse);
+         model.addAttribute("sortBy", sortBy);
+         model.addAttribute("sortDir", sortDir);
+         model.addAttribute("activeOnly", activeOnly);
          return "managingSys/branches/branchesManagement";
          }
    
-    // 직원 관리 페이지
+    // 직원 관리 페이지 (커서 조회)
     @GetMapping("staff")
     public String showStaffManagement(
-            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "cursor", required = false) String cursor,
             @RequestParam(value = "size", defaultValue = "10") int size,
             Model model) {
-        Page<StaffMgDTO> staffPage = staffMgService.getAllStaff(page, size);
-        model.addAttribute("staffPage", staffPage);
+        try {
+            model.addAttribute("staffPage", staffMgService.scrollStaff(null, cursor, size, "name", "asc", true));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
         return "managingSys/staff/staffManagement";
     }
     // 회원 관리 페이지
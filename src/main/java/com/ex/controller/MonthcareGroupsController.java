@@ -31,13 +31,15 @@ public class MonthcareGroupsController {
 	@GetMapping("list")
 	@PreAuthorize("isAuthenticated()")
 	public String monthcareGroupList(Model model, Principal principal) {
-	    Integer branch_id = membersService.readMembersInfo(principal.getName()).getBranchId();
+	    Integer branch_id = membersService.getProfile(principal.getName()).getBranchId();
 	    
 	    List<MonthcareGroupsDTO> monthcareList = monthcareGroupService.getMonthcareGroupByBranch(branch_id);
 	    
+	    // 반별 현재 인원은 GROUP BY 집계 한 번으로 조회
+	    Map<Integer, Integer> studentCountByGroup = dogAssignmentsService.countCurrentAndFutureStudentsByBranch(branch_id);
 	    Map<Integer, String> capacityInfoMap = new HashMap<>();
 	    for (MonthcareGroupsDTO group : monthcareList) {
-	        int currentStudents = dogAssignmentsService.countCurrentAndFutureStudentsInGroup(group.getId());
+	        int currentStudents = studentCountByGroup.getOrDefault(group.getId(), 0);
 	        String capacityInfo = currentStudents + " / " + group.getCapacity();
 	        capacityInfoMap.put(group.getId(), capacityInfo);
 	    }
@@ -53,7 +55,7 @@ public class MonthcareGroupsController {
 	@GetMapping("create")
 	@PreAuthorize("isAuthenticated()")
 	public String createMonthcareGroup(Model model, MonthcareGroupsDTO monthDTO, Principal principal) {		
-		Integer branch_id = membersService.readMembersInfo(principal.getName()).getBranchId();
+		Integer branch_id = membersService.getProfile(principal.getName()).getBranchId();
 		model.addAttribute("branch_id", branch_id);
 		model.addAttribute("monthDTO",monthDTO);
 		
@@ -67,7 +69,7 @@ public class MonthcareGroupsController {
 	@PostMapping("create")
 	@PreAuthorize("isAuthenticated()")
 	public String createMonthcareGroup(MonthcareGroupsDTO monthDTO, Principal principal) {
-		Integer branch_id = membersService.readMembersInfo(principal.getName()).getBranchId();
+		Integer branch_id = membersService.getProfile(principal.getName()).getBranchId();
 		monthcareGroupService.createMonthcareGroup(branch_id, monthDTO);
 		return "redirect:/month/list";
 	}
@@ -86,7 +88,7 @@ public class MonthcareGroupsController {
 	public String updateMonthcareGroup(@PathVariable("id") Integer month_id, Model model, Principal principal) {
 		MonthcareGroupsDTO monthDTO = monthcareGroupService.getMonthGroup(month_id);
 		model.addAttribute("monthDTO", monthDTO);
-		Integer branch_id = membersService.readMembersInfo(principal.getName()).getBranchId();
+		Integer branch_id = membersService.getProfile(principal.getName()).getBranchId();
 		List<MembersDTO> teacher = monthcareGroupService.getTeachers(branch_id);
 		model.addAttribute("teachers", teacher);
 		return "monthcaregroups/update_monthgroup";
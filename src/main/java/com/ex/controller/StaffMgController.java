@@ -1,16 +1,19 @@
 package com.ex.controller;
 
 import com.ex.data.BranchesDTO;
+import com.ex.data.CursorPageDTO;
 import com.ex.data.StaffMgDTO;
 import com.ex.service.StaffMgService;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.List;
@@ -22,13 +25,16 @@ public class StaffMgController {
 
     private final StaffMgService staffMgService;
 
- // 직원 목록을 조회하고 staffManagement 페이지를 반환하는 메서드
+ // 직원 목록을 조회하고 staffManagement 페이지를 반환하는 메서드 (커서 조회, 잘못된 커서는 400)
     @GetMapping("")
-    public String listStaff(@RequestParam(value = "page", defaultValue = "0") int page,
+    public String listStaff(@RequestParam(value = "cursor", required = false) String cursor,
                             @RequestParam(value = "size", defaultValue = "10") int size,
                             Model model) {
-        Page<StaffMgDTO> staffPage = staffMgService.getAllStaff(page, size);
-        model.addAttribute("staffPage", staffPage);
+        try {
+            model.addAttribute("staffPage", staffMgService.scrollStaff(null, cursor, size, "name", "asc", true));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
         return "managingSys/staff/staffManagement";
     }
     
@@ -40,8 +46,28 @@ public class StaffMgController {
             @RequestParam(value = "size", defaultValue = "10") int size,
             @RequestParam(value = "sortBy", defaultValue = "name") String sortBy,
             @RequestParam(value = "sortDir", defaultValue = "asc") String sortDir) {
-        Page<StaffMgDTO> staffPage = staffMgService.searchStaff(keyword, page, size, sortBy, sortDir);
-        return ResponseEntity.ok(staffPage);
+        try {
+            return ResponseEntity.ok(staffMgService.searchStaff(keyword, page, size, sortBy, sortDir));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    // 직원 목록 커서 조회 : 다음 페이지는 응답의 nextCursor 를 cursor 로 전달 (잘못된 커서는 400)
+    @GetMapping("/api/scroll")
+    @ResponseBody
+    public ResponseEntity<CursorPageDTO<StaffMgDTO>> scrollStaffApi(
+            @RequestParam(value = "keyword", required = false) String keyword,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "sortBy", defaultValue = "name") String sortBy,
+            @RequestParam(value = "sortDir", defaultValue = "asc") String sortDir,
+            @RequestParam(value = "withTotal", defaultValue = "false") boolean withTotal) {
+        try {
+            return ResponseEntity.ok(staffMgService.scrollStaff(keyword, cursor, size, sortBy, sortDir, withTotal));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
     
     // 특정 ID의 직원 정보를 JSON 형태로 반환하는 메서드
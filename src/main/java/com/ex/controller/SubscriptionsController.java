@@ -1,12 +1,14 @@
 package com.ex.controller;
 import java.security.Principal;
+import java.time.LocalDate;
 import java.util.List;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
-import com.ex.data.SubscriptionsDTO;
+import org.springframework.web.bind.annotation.RequestParam;
+import com.ex.data.SubscriptionHistoryDTO;
 import com.ex.service.SubscriptionsService;
 import lombok.RequiredArgsConstructor;
 
@@ -17,11 +19,32 @@ public class SubscriptionsController {
 	
 	private final SubscriptionsService subscriptionsService;
 	
+	// 연도별 구독 내역 (연도를 지정하지 않으면 가장 최근 내역이 있는 연도)
+	// 구매일이 없는 구독은 "미결제" 탭(unpaid=true)에서 따로 보여준다
 	@GetMapping("list")
 	@PreAuthorize("isAuthenticated()")
-	public String mySubsInfo(Principal principal, Model model) {
-		List<SubscriptionsDTO> subsDTO = subscriptionsService.mysubsInfo(principal.getName());
+	public String mySubsInfo(@RequestParam(value = "year", required = false) Integer year,
+							@RequestParam(value = "unpaid", defaultValue = "false") boolean unpaid,
+							Principal principal, Model model) {
+		List<Integer> years = subscriptionsService.mysubsYears(principal.getName());
+		boolean hasUnpaid = subscriptionsService.hasUnpaidSubs(principal.getName());
+		if (year == null && years.isEmpty() && hasUnpaid) {
+			unpaid = true;
+		}
+		List<SubscriptionHistoryDTO> subsDTO;
+		if (unpaid) {
+			subsDTO = subscriptionsService.mysubsUnpaid(principal.getName());
+		} else {
+			if (year == null) {
+				year = years.isEmpty() ? LocalDate.now().getYear() : years.get(0);
+			}
+			subsDTO = subscriptionsService.mysubsInfo(principal.getName(), year);
+		}
 		model.addAttribute("subsDTO", subsDTO);
+		model.addAttribute("years", years);
+		model.addAttribute("year", year);
+		model.addAttribute("unpaid", unpaid);
+		model.addAttribute("hasUnpaid", hasUnpaid);
 		return "subscriptions/mysubs_info";
 	}
 }
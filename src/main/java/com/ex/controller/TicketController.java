@@ -1,6 +1,8 @@
 package com.ex.controller;
 import java.security.Principal;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -9,6 +11,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.server.ResponseStatusException;
+import com.ex.data.CursorPageDTO;
 import com.ex.data.TicketDTO;
 import com.ex.service.TicketService;
 import lombok.RequiredArgsConstructor;
@@ -21,13 +26,31 @@ public class TicketController {
 	@Autowired
 	private TicketService ticketService;
 
+	// 이용권 목록 (커서 조회 : 다음 페이지는 nextCursor 를 cursor 로 전달, 잘못된 커서는 400)
 	@GetMapping("list")
     public String list(TicketDTO ticketDTO, Principal principal, Model model
-    		, @RequestParam(value = "page", defaultValue = "0") int page) {
-        model.addAttribute("ticketsList", ticketService.getTicketsAll(page));
+    		, @RequestParam(value = "cursor", required = false) String cursor) {
+		try {
+			model.addAttribute("ticketsList", ticketService.scrollTickets(cursor, 10, false));
+		} catch (IllegalArgumentException e) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+		}
         return "tickets/ticketList";
     }
 	
+	// 전체 이용권 커서 조회 (JSON) : 다음 페이지는 응답의 nextCursor 를 cursor 로 전달
+	@GetMapping("api/scroll")
+	@ResponseBody
+	public ResponseEntity<CursorPageDTO<TicketDTO>> scroll(@RequestParam(value = "cursor", required = false) String cursor
+			, @RequestParam(value = "size", defaultValue = "10") int size
+			, @RequestParam(value = "withTotal", defaultValue = "false") boolean withTotal) {
+		try {
+			return ResponseEntity.ok(ticketService.scrollTickets(cursor, size, withTotal));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().build();
+		}
+	}
+	
 	
 	@GetMapping("/tickets/add")
     public String addTicketForm(Model model) {
@@ -4,15 +4,16 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import com.ex.data.MemberProfileDTO;
 import com.ex.data.VaccinationsDTO;
 import com.ex.entity.DogsEntity;
-import com.ex.entity.MembersEntity;
 import com.ex.service.VaccinationsService;
 import com.ex.service.DogService;
 import com.ex.service.MembersService;
 import lombok.RequiredArgsConstructor;
 import java.security.Principal;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Controller
 @RequestMapping("/vaccinations")
@@ -26,9 +27,9 @@ public class VaccinationsController {
     @PreAuthorize("isAuthenticated()")
     public String showVaccinationForm(Model model, Principal principal) {
         String username = principal.getName();
-        MembersEntity member = membersService.findByUsername(username);
+        MemberProfileDTO member = membersService.getProfile(username);
 
-        List<DogsEntity> userDogs = dogsService.findDogsByMember(member);
+        List<DogsEntity> userDogs = dogsService.findDogsByMemberId(member.getMemberId());
 
         model.addAttribute("userDogs", userDogs);
         model.addAttribute("vaccinationsDTO", new VaccinationsDTO());
@@ -38,7 +39,7 @@ public class VaccinationsController {
 
     @PostMapping("/save")  // 백신 정보 저장 요청 처리
     @PreAuthorize("isAuthenticated()")  // 로그인한 사용자만 접근 가능
-    public String saveVaccination( @RequestParam(value = "vaccineType", required = false) List<String> vaccineTypes,  // 선택된 신 백타입들을 리스트로 받음 (필수 아님)    
+    public CompletableFuture<String> saveVaccination( @RequestParam(value = "vaccineType", required = false) List<String> vaccineTypes,  // 선택된 신 백타입들을 리스트로 받음 (필수 아님)    
                                    @ModelAttribute VaccinationsDTO vaccinationsDTO,  // 폼에서 입력된 백신 접종 정보
                                    @RequestParam("file") MultipartFile file  /* 업로드된 파일*/ ) {
     	StringBuilder combinedVaccineTypes = new StringBuilder();
@@ -54,7 +55,9 @@ public class VaccinationsController {
     	}
 
     	vaccinationsDTO.setVaccineType(combinedVaccineTypes.toString());
-    	vaccinationsService.saveVaccinationWithFile(vaccinationsDTO, file);
+    	// 파일 저장과 접종 정보 등록은 업로드 스레드풀에서 처리 (요청 스레드는 바로 반환)
+    	return vaccinationsService.saveVaccinationWithFileAsync(vaccinationsDTO, file)
+    			.thenApply(saved -> "redirect:/");  // 메인 페이지로 이동
        /*
         if (vaccineTypes != null && !vaccineTypes.isEmpty()) {  
             // 선택된 백신 타입이 있으면
@@ -66,6 +69,5 @@ public class VaccinationsController {
         vaccinationsService.saveVaccinationWithFile(vaccinationsDTO, file);  
         // 백신 정보와 파일을 저장하는 서비스 호출
 	*/
-        return "redirect:/";  // 메인 페이지로 이동
     }
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.ex.data;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 출석부 목록 화면 전용 조회 모델 (attendance/attendanceList.html 에 표시되는 컬럼만 조회)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendanceRosterDTO {
+
+	private Integer id;						// ATTENDANCE 고유 식별 번호
+	private LocalDate attendancedate;		// 출석일자
+	private String monthgroupName;			// 정규반 이름
+	private String dogname;					// 강아지 이름
+	private String status;					// 출석상태
+	private String notes;					// 특이사항
+	private Integer dailyreportId;			// 알림장 식별번호 (미작성시 null)
+}
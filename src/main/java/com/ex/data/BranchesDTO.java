@@ -4,11 +4,12 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import java.util.List;
+import com.ex.entity.BranchEntity;
 
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class BranchesDTO {
     private Integer branchId;
     private String branchesName;
@@ -20,6 +21,21 @@ public class BranchesDTO {
     private List<MonthcareGroupsDTO> monthcareGroups;
     private Double latitude;
     private Double longitude;
+
+    // 엔티티를 DTO로 변환 (지점 서비스, 지점 디렉터리 공용)
+    public static BranchesDTO from(BranchEntity entity) {
+        return BranchesDTO.builder()
+                .branchId(entity.getBranchId())
+                .branchesName(entity.getName())
+                .postCode(entity.getPostCode())
+                .address(entity.getAddress())
+                .address2(entity.getAddress2())
+                .phone(entity.getPhone())
+                .active(entity.getActive())
+                .latitude(entity.getLatitude() != null ? entity.getLatitude().doubleValue() : null)
+                .longitude(entity.getLongitude() != null ? entity.getLongitude().doubleValue() : null)
+                .build();
+    }
 }
 
 
@@ -12,6 +12,8 @@ import java.util.List;
 public class BranchesListResponseDTO {
     private List<BranchesDTO> branches;
     private int totalPages;
-    private long totalElements;
+    private Long totalElements;
     private int currentPage;
+    private boolean hasNext;        // 다음 페이지 존재 여부
+    private String nextCursor;      // 커서 조회 시 다음 페이지 토큰 (마지막 페이지면 null)
 }
\ No newline at end of file
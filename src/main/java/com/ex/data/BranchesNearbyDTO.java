@@ -0,0 +1,21 @@
+package com.ex.data;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 가까운 지점 조회 결과 (검색 위치로부터의 거리 포함)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BranchesNearbyDTO {
+    private Integer branchId;
+    private String branchesName;
+    private String address;
+    private String address2;
+    private String phone;
+    private Double latitude;
+    private Double longitude;
+    private double distanceKm;
+}
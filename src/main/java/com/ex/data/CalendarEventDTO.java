@@ -0,0 +1,24 @@
+package com.ex.data;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 캘린더(FullCalendar) 알림장 이벤트 : 목록 표시에 필요한 값만 담는다 (본문은 /calendar/select 에서 조회)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CalendarEventDTO {
+	private Integer id;				// 알림장 id
+	private String title;			// 강아지이름 : 알림장제목
+	private LocalDate start;		// 작성일자
+	private String url;				// 상세조회 주소
+
+	// JPQL 생성자 조회용
+	public CalendarEventDTO(Integer id, LocalDate reportDate, String dogname, String title) {
+		this.id = id;
+		this.title = dogname + " : " + title;
+		this.start = reportDate;
+		this.url = "/calendar/select?selectDate=" + reportDate + "&reportId=" + id;
+	}
+}
@@ -0,0 +1,21 @@
+package com.ex.data;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+// 커서(키셋) 페이지 응답
+// nextCursor 를 다음 요청의 cursor 로 그대로 넘기면 이어서 조회 (마지막 페이지면 null)
+// totalElements 는 전체 건수를 요청한 경우에만 채워짐
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CursorPageDTO<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+    private Long totalElements;
+}
@@ -0,0 +1,21 @@
+package com.ex.data;
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 반배정 목록 화면 전용 조회 모델 (연관 엔티티 없이 화면에 필요한 값만)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GroupAssignmentDTO {
+	 private Integer dogassignmentId;
+	 private Integer monthgroupId;
+	 private Integer dogId;
+	 private String dogname;
+	 private LocalDate startDate;
+	 private LocalDate endDate;
+}
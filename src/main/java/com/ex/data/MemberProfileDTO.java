@@ -0,0 +1,23 @@
+package com.ex.data;
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 로그인 사용자 기본 정보 (컨트롤러에서 회원 식별/권한/지점 확인용)
+// 세션의 인증 정보(MemberPrincipal)에 함께 저장되므로 Serializable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberProfileDTO implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private Integer memberId;		// 회원 식별번호
+	private String username;		// 아이디
+	private String name;			// 이름
+	private String userType;		// REGULAR, TEACHER, DIRECTOR, ADMIN ...
+	private Integer branchId;		// 소속 지점 (직원만)
+	private long version;			// 조회 시점의 회원 정보 버전 (변경될 때마다 증가)
+}
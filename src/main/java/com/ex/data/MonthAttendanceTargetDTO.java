@@ -0,0 +1,18 @@
+package com.ex.data;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 월 출석부 일괄 생성 대상 (구독 1건 = 강아지 1마리의 한 달치 출석부)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MonthAttendanceTargetDTO {
+	private Integer subscriptionId;		// 구독 식별번호
+	private Integer dogId;				// 강아지 식별번호
+	private Integer branchId;			// 지점 식별번호
+	private Integer monthgroupId;		// 정규반 식별번호
+	private String dayofweek;			// 이용권 요일 ex) 1,3,5
+}
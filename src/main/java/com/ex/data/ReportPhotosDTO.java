@@ -2,8 +2,6 @@ package com.ex.data;
 
 import java.time.LocalDateTime;
 
-import com.ex.entity.DailyReportsEntity;
-
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,10 +11,13 @@ import lombok.RequiredArgsConstructor;
 @AllArgsConstructor
 @RequiredArgsConstructor
 @Builder
-public class ReportPhotosDTO {				// 아직 미사용
+public class ReportPhotosDTO {
 
 	private Integer photoId;				// ReportPhotos 테이블 식별번호
-    private DailyReportsEntity reportId;	// 알림장 식별번호
-    private String filename;				// 파일이름
+    private Integer reportId;				// 알림장 식별번호
+    private String filename;				// 업로드 파일이름
+    private String status;					// 변환 상태 : PENDING, READY, FAILED
     private LocalDateTime uploadTime;		// 업로드일시
+    private String thumbUrl;				// 썸네일 주소 (목록용)
+    private String webUrl;					// 웹 크기 이미지 주소 (상세보기용)
 }
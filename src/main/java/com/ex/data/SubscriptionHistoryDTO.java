@@ -0,0 +1,23 @@
+package com.ex.data;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 내 이용권 조회 화면용 구독 내역 (견주 기준 한 번의 조회로 필요한 값만 가져옴)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SubscriptionHistoryDTO {
+	private Integer subscriptionId;		// 구독 식별번호
+	private String dogname;				// 강아지 이름
+	private String branchName;			// 지점 이름
+	private String ticketname;			// 이용권 이름
+	private Integer price;				// 이용권 금액
+	private LocalDate startDate;		// 이용 시작일
+	private LocalDate endDate;			// 이용 종료일
+	private LocalDate paymentDate;		// 구매일
+	private String status;				// ACTIVE, EXPIRED
+}
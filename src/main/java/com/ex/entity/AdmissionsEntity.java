@@ -13,7 +13,10 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 
 @Entity
-@Table(name = "ADMISSIONS")
+@Table(name = "ADMISSIONS", indexes = {
+		@Index(name = "IDX_ADMISSIONS_BRANCH_STATUS", columnList = "branch_id, STATUS, ADMISSION_ID"),	// 지점별 상태 목록
+		@Index(name = "IDX_ADMISSIONS_DOG_STATUS", columnList = "dog_id, STATUS, ADMISSION_ID")			// 견주(강아지)별 상태 목록
+})
 @Setter
 @Getter
 @NoArgsConstructor
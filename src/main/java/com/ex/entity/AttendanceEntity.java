@@ -6,10 +6,12 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -22,7 +24,13 @@ import lombok.Setter;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "attendance")
+@Table(name = "attendance", indexes = {
+		@Index(name = "IDX_ATTENDANCE_BRANCH_DATE", columnList = "branch_branch_id, attendancedate"),	// 지점별 일자 출석부
+		@Index(name = "IDX_ATTENDANCE_GROUP_DATE", columnList = "monthgroup_id, attendancedate")		// 반별 일자 출석부
+}, uniqueConstraints = {
+		// 강아지 한 마리는 같은 반, 같은 날짜에 출석부 한 건 (결제 직후 등록과 사전 생성 배치가 겹쳐도 중복 방지)
+		@UniqueConstraint(name = "UK_ATTENDANCE_DOG_GROUP_DATE", columnNames = {"dog_dog_id", "monthgroup_id", "attendancedate"})
+})
 public class AttendanceEntity {
 
 	@Id
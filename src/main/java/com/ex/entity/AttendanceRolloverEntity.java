@@ -0,0 +1,36 @@
+package com.ex.entity;
+import java.time.LocalDateTime;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 월 출석부 사전 생성 배치의 대상월별 진행 기록
+// 청크 처리와 같은 트랜잭션에서 갱신된다. (재실행 위치는 기록이 아니라 출석부 유무로 결정)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "ATTENDANCE_ROLLOVER")
+public class AttendanceRolloverEntity {
+
+	@Id
+	@Column(name = "TARGET_MONTH")
+	private String targetMonth;				// 출석부 생성 대상월 (yyyy-MM)
+	
+	@Column(name = "PROCESSED_COUNT")
+	private Integer processedCount;			// 처리한 구독 수
+	
+	@Column(name = "CREATED_COUNT")
+	private Integer createdCount;			// 생성한 출석부 수
+	
+	@Column(name = "UPDATED_AT")
+	private LocalDateTime updatedAt;		// 마지막 체크포인트 시각
+}
@@ -1,11 +1,16 @@
 package com.ex.entity;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -15,7 +20,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "DAILYREPORTS")
+@Table(name = "DAILYREPORTS", indexes = {
+		@Index(name = "IDX_DAILYREPORTS_MEMBER_DATE", columnList = "members_member_id, report_date")	// 견주별 월 캘린더
+})
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -47,5 +54,14 @@ public class DailyReportsEntity {
 	@ManyToOne
 	@JsonBackReference
 	private MembersEntity members;			//  테이블 id 컬럼
+	
+	@Column(name = "UPDATED_AT")
+	private LocalDateTime updatedAt;		// 마지막 변경시각 (캘린더 피드 Last-Modified/ETag)
+	
+	@PrePersist
+	@PreUpdate
+	void touch() {
+		updatedAt = LocalDateTime.now();
+	}
 
 }
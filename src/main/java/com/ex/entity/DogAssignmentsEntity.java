@@ -6,6 +6,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
@@ -21,7 +22,9 @@ import lombok.NoArgsConstructor;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name="DOGASSIGNMENTS")
+@Table(name="DOGASSIGNMENTS", indexes = {
+		@Index(name = "IDX_DOGASSIGN_GROUP_END", columnList = "MONTHGROUP_ID, END_DATE")	// 반별 현재/예정 배정 집계
+})
 public class DogAssignmentsEntity {
 	 @Id
 	 @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "dogassign_seq")
@@ -0,0 +1,43 @@
+package com.ex.entity;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 주소 -> 좌표 변환 결과 캐시
+// 정규화한 주소를 키로 저장해 같은 주소는 외부 지오코딩 API를 다시 호출하지 않는다.
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "GEOCODE_CACHE")
+public class GeocodeCacheEntity {
+
+	@Id
+	@Column(name = "ADDRESS_KEY", length = 500)
+	private String addressKey;			// 정규화한 주소 (공백 정리, 소문자)
+	
+	@Column(name = "ADDRESS", length = 500)
+	private String address;				// 최초 요청 주소 원문
+	
+	@Column(name = "LATITUDE", precision = 10, scale = 8)
+	private BigDecimal latitude;
+	
+	@Column(name = "LONGITUDE", precision = 11, scale = 8)
+	private BigDecimal longitude;
+	
+	@Column(name = "PROVIDER")
+	private String provider;			// 좌표를 조회한 지오코딩 제공자
+	
+	@Column(name = "CREATED_AT")
+	private LocalDateTime createdAt;
+}
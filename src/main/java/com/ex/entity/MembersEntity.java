@@ -8,6 +8,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
@@ -21,7 +22,9 @@ import lombok.NoArgsConstructor;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name="Members")
+@Table(name="Members", indexes = {
+		@Index(name = "IDX_MEMBERS_BRANCH_TYPE", columnList = "BRANCH_ID, USER_TYPE")	// 지점별 직원 명단
+})
 
 // 시퀀스 생성
 @SequenceGenerator(name="members_seq", sequenceName="members_seq", initialValue=1, allocationSize=0)
@@ -62,6 +65,11 @@ public class MembersEntity {
 	@Column(name="BRANCH_ID")
 	private Integer branchId;
 	
+	// 회원 정보(권한 유형, 지점 등) 버전 : 변경될 때마다 MembersRepository.bumpProfileVersion 으로만 증가 (NULL 은 0)
+	// 여러 서버가 같은 값을 보므로, 다른 서버에서 강등된 직원의 세션도 권한을 다시 만든다
+	@Column(name="PROFILE_VERSION", insertable=false, updatable=false)
+	private Long profileVersion;
+	
 	@OneToMany(mappedBy="member", cascade=CascadeType.REMOVE)
 	@JsonManagedReference
 	private List<DogsEntity> dogs;
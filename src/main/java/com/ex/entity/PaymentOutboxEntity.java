@@ -0,0 +1,54 @@
+package com.ex.entity;
+import java.time.LocalDateTime;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 결제 승인 후처리 작업 (반배정 -> 출석부 등록)
+// 결제 승인 기록과 같은 트랜잭션에서 저장되고, 후처리 워커가 단계별로 진행시킨다.
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "PAYMENT_OUTBOX")
+public class PaymentOutboxEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_outbox_seq")
+	@SequenceGenerator(name = "payment_outbox_seq", sequenceName = "payment_outbox_seq", allocationSize=1, initialValue = 1)
+	@Column(name = "OUTBOX_ID")
+	private Integer id;
+	
+	@Column(name = "ADMISSION_ID")
+	private Integer admissionId;			// 입학 식별번호
+	
+	@Column(name = "SUBSCRIPTION_ID")
+	private Integer subscriptionId;			// 구독 식별번호
+	
+	private String stage;					// 진행할 단계 : ASSIGN, ATTENDANCE, DONE
+	private String status;					// 상태 : PENDING, PROCESSING, DONE, FAILED
+	private Integer attempts;				// 실패 횟수
+	
+	@Column(name = "NEXT_ATTEMPT_AT")
+	private LocalDateTime nextAttemptAt;	// 다음 처리 가능 시각 (재시도 대기)
+	
+	@Column(name = "LAST_ERROR", length = 1000)
+	private String lastError;				// 마지막 실패 사유
+	
+	@Column(name = "CREATED_AT")
+	private LocalDateTime createdAt;
+	
+	@Column(name = "UPDATED_AT")
+	private LocalDateTime updatedAt;
+}
@@ -0,0 +1,65 @@
+package com.ex.entity;
+import java.time.LocalDateTime;
+import com.fasterxml.jackson.annotation.JsonBackReference;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 알림장 사진
+// 원본은 내용 해시(SHA-256) 이름으로 저장하고, 썸네일/웹 크기 이미지는 워커가 만든 뒤 상태를 READY 로 바꾼다.
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "REPORTPHOTOS", indexes = {
+		@Index(name = "IDX_REPORTPHOTOS_REPORT", columnList = "REPORT_ID"),
+		@Index(name = "IDX_REPORTPHOTOS_STATUS", columnList = "STATUS, UPLOAD_TIME")
+})
+public class ReportPhotosEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "report_photos_seq")
+	@SequenceGenerator(name = "report_photos_seq", sequenceName = "report_photos_seq", allocationSize=1, initialValue = 1)
+	@Column(name = "PHOTO_ID")
+	private Integer photoId;				// ReportPhotos 테이블 식별번호
+	
+	@ManyToOne
+	@JsonBackReference
+	@JoinColumn(name = "REPORT_ID")
+	private DailyReportsEntity dailyReport;	// 알림장 식별번호
+	
+	@Column(name = "CONTENT_HASH", length = 64, nullable = false)
+	private String contentHash;				// 원본 SHA-256 (저장 파일 이름)
+	
+	@Column(name = "ORIGINAL_NAME")
+	private String originalName;			// 업로드 파일이름
+	
+	@Column(name = "CONTENT_TYPE")
+	private String contentType;				// 업로드 MIME 타입
+	
+	@Column(name = "FILE_SIZE")
+	private Long fileSize;					// 원본 크기 (byte)
+	
+	private Integer width;					// 원본 가로 (px)
+	private Integer height;					// 원본 세로 (px)
+	
+	@Column(name = "STATUS")
+	private String status;					// 변환 상태 : PENDING, READY, FAILED
+	
+	@Column(name = "UPLOAD_TIME")
+	private LocalDateTime uploadTime;		// 업로드일시
+}
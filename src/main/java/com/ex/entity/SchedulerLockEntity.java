@@ -0,0 +1,36 @@
+package com.ex.entity;
+import java.time.LocalDateTime;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 예약 작업 실행 잠금 (서버가 여러 대여도 같은 작업은 한 서버에서만 실행)
+// LOCKED_UNTIL 이 지나면 잠근 서버가 중단된 것으로 보고 다른 서버가 가져갈 수 있다.
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "SCHEDULER_LOCK")
+public class SchedulerLockEntity {
+
+	@Id
+	@Column(name = "NAME", length = 64)
+	private String name;					// 작업 이름
+	
+	@Column(name = "LOCKED_UNTIL")
+	private LocalDateTime lockedUntil;		// 잠금 만료 시각
+	
+	@Column(name = "LOCKED_AT")
+	private LocalDateTime lockedAt;			// 잠근 시각
+	
+	@Column(name = "LOCKED_BY")
+	private String lockedBy;				// 잠근 서버 (호스트명@pid)
+}
@@ -0,0 +1,59 @@
+package com.ex.entity;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 정규반 좌석 예약
+// 결제 준비(ready) 시 HELD 로 좌석을 잡고, 결제 승인 시 CONFIRMED, 취소/실패/만료 시 RELEASED.
+// HELD 는 만료시각(expiresAt)이 지나면 정원 계산에서 빠지고 스케줄러가 RELEASED 로 정리한다.
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "SEAT_RESERVATION", indexes = {
+		@Index(name = "IDX_SEAT_RESERVATION_GROUP", columnList = "MONTHGROUP_ID, STATUS"),
+		@Index(name = "IDX_SEAT_RESERVATION_ADMISSION", columnList = "ADMISSION_ID")
+})
+public class SeatReservationEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seat_reservation_seq")
+	@SequenceGenerator(name = "seat_reservation_seq", sequenceName = "seat_reservation_seq", allocationSize=1, initialValue = 1)
+	@Column(name = "RESERVATION_ID")
+	private Integer id;
+	
+	@Column(name = "MONTHGROUP_ID")
+	private Integer monthgroupId;			// 정규반 식별번호
+	
+	@Column(name = "ADMISSION_ID")
+	private Integer admissionId;			// 입학 식별번호
+	
+	@Column(name = "MONTH_START")
+	private LocalDate monthStart;			// 좌석 구독월 (1일)
+	
+	@Column(name = "STATUS")
+	private String status;					// HELD, CONFIRMED, RELEASED
+	
+	@Column(name = "EXPIRES_AT")
+	private LocalDateTime expiresAt;		// HELD 만료시각
+	
+	@Column(name = "CREATED_AT")
+	private LocalDateTime createdAt;
+	
+	@Column(name = "UPDATED_AT")
+	private LocalDateTime updatedAt;
+}
@@ -6,6 +6,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
@@ -18,7 +19,10 @@ import lombok.NoArgsConstructor;
 import lombok.ToString;
 
 @Entity
-@Table(name = "SUBSCRIPTIONS")
+@Table(name = "SUBSCRIPTIONS", indexes = {
+		@Index(name = "IDX_SUBSCRIPTIONS_DOG_PAYDATE", columnList = "dogs_dog_id, PAYMENT_DATE"),	// 견주(강아지)별 구매 내역
+		@Index(name = "IDX_SUBSCRIPTIONS_STATUS_END", columnList = "STATUS, END_DATE")			// 만료 대상 조회
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -3,11 +3,12 @@ import com.ex.entity.AdmissionsEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface AdmissionsRepository extends JpaRepository<AdmissionsEntity, Integer> {
+public interface AdmissionsRepository extends JpaRepository<AdmissionsEntity, Integer>, JpaSpecificationExecutor<AdmissionsEntity> {
     List<AdmissionsEntity> findByAdmissionId(Integer admissionId);;
     List<AdmissionsEntity> findByStatus(String status);
     Page<AdmissionsEntity> findByDogs_Member_Username(String username, Pageable pageable);  
@@ -0,0 +1,28 @@
+package com.ex.repository;
+import org.springframework.data.jpa.domain.Specification;
+import com.ex.entity.AdmissionsEntity;
+
+// 입학 신청 목록 조회 조건 (역할/상태/키셋 조건을 SQL WHERE 로 조합)
+// 인덱스 : IDX_ADMISSIONS_BRANCH_STATUS (branch_id, STATUS, ADMISSION_ID), IDX_ADMISSIONS_DOG_STATUS (dog_id, STATUS, ADMISSION_ID)
+public final class AdmissionsSpecifications {
+
+    private AdmissionsSpecifications() {
+    }
+
+    // 상태 일치 (값이 없으면 조건 없음)
+    public static Specification<AdmissionsEntity> hasStatus(String status) {
+        return (root, query, cb) -> (status == null || status.isEmpty())
+                ? null
+                : cb.equal(root.get("status"), status);
+    }
+
+    // 지점 일치
+    public static Specification<AdmissionsEntity> inBranch(Integer branchId) {
+        return (root, query, cb) -> cb.equal(root.get("branch").get("branchId"), branchId);
+    }
+
+    // 견주 아이디 일치
+    public static Specification<AdmissionsEntity> ownedBy(String username) {
+        return (root, query, cb) -> cb.equal(root.join("dogs").join("member").get("username"), username);
+    }
+}
@@ -0,0 +1,80 @@
+package com.ex.repository;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.List;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import com.ex.entity.AttendanceEntity;
+import lombok.RequiredArgsConstructor;
+
+// 출석부 대량 등록 전용 JDBC 저장소
+// JPA save()는 행마다 시퀀스 조회 + insert 로 DB 왕복이 2번씩 발생하므로
+// 한 달치 출석부는 시퀀스를 한 번에 받아오고 insert 는 JDBC batch 로 한 번에 전송한다.
+// 같은 강아지/반/날짜 출석부가 이미 있으면 NOT EXISTS 로 그 행만 건너뛴다.
+// 유니크 인덱스(UK_ATTENDANCE_DOG_GROUP_DATE)가 아직 없는 DB 에서도 동작하도록 인덱스 힌트에 기대지 않는다.
+// (인덱스는 AttendanceSchemaMigration 이 중복 정리 후 만들며, 동시에 같은 행을 넣는 드문 경우에는 중복 오류로 롤백 후 재시도된다)
+@Repository
+@RequiredArgsConstructor
+public class AttendanceBatchRepository {
+
+	private static final String NEXT_IDS_SQL =
+			"SELECT attendance_seq.NEXTVAL FROM dual CONNECT BY LEVEL <= ?";
+
+	private static final String INSERT_SQL =
+			"INSERT INTO attendance (ATTENDANCE_ID, attendancedate, status, notes, dog_dog_id, monthgroup_id, branch_branch_id) "
+			+ "SELECT ?, ?, ?, ?, ?, ?, ? FROM dual WHERE NOT EXISTS ("
+			+ "SELECT 1 FROM attendance x WHERE x.dog_dog_id = ? AND x.attendancedate = ? "
+			+ "AND DECODE(x.monthgroup_id, ?, 1, 0) = 1)";	// DECODE : 정규반이 없는(NULL) 출석부끼리도 같은 값으로 비교
+
+	private final JdbcTemplate jdbcTemplate;
+
+	// attendance_seq 에서 count 개의 id를 한 번의 왕복으로 미리 할당
+	public List<Integer> allocateIds(int count) {
+		return jdbcTemplate.queryForList(NEXT_IDS_SQL, Integer.class, count);
+	}
+
+	// id가 채워진 출석부 목록을 batch insert (DB 왕복 1회), 실제로 들어간 행 수 반환
+	public int insertAll(List<AttendanceEntity> rows) {
+		int[] counts = jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException {
+				AttendanceEntity ae = rows.get(i);
+				Date date = Date.valueOf(ae.getAttendancedate());
+				ps.setInt(1, ae.getId());
+				ps.setDate(2, date);
+				ps.setString(3, ae.getStatus());
+				ps.setString(4, ae.getNotes());
+				ps.setInt(5, ae.getDog().getDogId());
+				setGroup(ps, 6, ae);
+				ps.setInt(7, ae.getBranch().getBranchId());
+				// 중복 확인
+				ps.setInt(8, ae.getDog().getDogId());
+				ps.setDate(9, date);
+				setGroup(ps, 10, ae);
+			}
+
+			@Override
+			public int getBatchSize() {
+				return rows.size();
+			}
+		});
+		int inserted = 0;
+		for (int count : counts) {
+			// 드라이버가 건수를 알려주지 않으면(SUCCESS_NO_INFO) 들어간 것으로 본다
+			inserted += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+		}
+		return inserted;
+	}
+
+	private static void setGroup(PreparedStatement ps, int index, AttendanceEntity ae) throws SQLException {
+		if (ae.getMonthgroup() != null) {
+			ps.setInt(index, ae.getMonthgroup().getId());
+		} else {
+			ps.setNull(index, Types.INTEGER);
+		}
+	}
+}
@@ -1,6 +1,8 @@
 package com.ex.repository;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.ex.entity.AttendanceEntity;
 import com.ex.entity.BranchEntity;
@@ -16,4 +18,11 @@ public interface AttendanceRepository extends JpaRepository<AttendanceEntity, In
    
    List<AttendanceEntity> findByAttendancedateAndMonthgroup(LocalDate attendancedate, MonthcareGroupsEntity monthgroup);
    
+   // 기간 내 출석부가 이미 있는 (강아지id, 반id) 목록 - 월 출석부 중복 생성 방지용
+   @Query("SELECT DISTINCT a.dog.dogId, a.monthgroup.id FROM AttendanceEntity a "
+   		+ "WHERE a.dog.dogId IN :dogIds AND a.attendancedate BETWEEN :fromDate AND :toDate")
+   List<Object[]> findDogAndGroupIdsBetween(@Param("dogIds") List<Integer> dogIds,
+		   									@Param("fromDate") LocalDate fromDate,
+		   									@Param("toDate") LocalDate toDate);
+   
 }
@@ -0,0 +1,9 @@
+package com.ex.repository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import com.ex.entity.AttendanceRolloverEntity;
+
+@Repository
+public interface AttendanceRolloverRepository extends JpaRepository<AttendanceRolloverEntity, String> {
+
+}
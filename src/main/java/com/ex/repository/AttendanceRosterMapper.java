@@ -0,0 +1,17 @@
+package com.ex.repository;
+import java.time.LocalDate;
+import java.util.List;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.springframework.stereotype.Repository;
+import com.ex.data.AttendanceRosterDTO;
+
+@Repository
+@Mapper
+public interface AttendanceRosterMapper {
+
+	// 지점(반 선택시 해당반)의 일자별 출석부 목록 - attendanceRoster.xml
+	List<AttendanceRosterDTO> findRoster(@Param("attendancedate") LocalDate attendancedate,
+										@Param("branchId") Integer branchId,
+										@Param("monthgroupId") Integer monthgroupId);
+}
@@ -0,0 +1,54 @@
+package com.ex.repository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 출석부 유니크 제약(UK_ATTENDANCE_DOG_GROUP_DATE) 적용
+// ddl-auto=update 는 기존 데이터에 같은 강아지/반/날짜 중복이 있으면 제약 생성에 실패하고 로그만 남기므로,
+// 시작할 때 제약이 없으면 중복 행을 정리한 뒤 직접 만든다. (이미 있으면 조회 한 번으로 끝)
+// 알림장이 연결된 행은 지우지 않고 남기며, 그런 중복이 남아 제약을 만들 수 없으면 경고만 남긴다.
+// 출석부 등록(AttendanceBatchRepository)은 NOT EXISTS 로 중복을 거르므로 제약이 없어도 동작한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttendanceSchemaMigration {
+
+	private static final String CONSTRAINT = "UK_ATTENDANCE_DOG_GROUP_DATE";
+
+	private static final String EXISTS_SQL =
+			"SELECT COUNT(*) FROM user_constraints WHERE constraint_name = ?";
+
+	// 강아지/반/날짜별로 알림장이 연결된 행, 그다음 먼저 만든 행 하나만 남기고 삭제 (알림장이 연결된 행은 삭제 대상에서 제외)
+	private static final String DEDUPLICATE_SQL =
+			"DELETE FROM attendance WHERE ATTENDANCE_ID IN ("
+			+ "SELECT ATTENDANCE_ID FROM (SELECT a.ATTENDANCE_ID, ROW_NUMBER() OVER ("
+			+ "PARTITION BY a.dog_dog_id, a.monthgroup_id, a.attendancedate "
+			+ "ORDER BY CASE WHEN a.dailyreport_id IS NOT NULL THEN 0 ELSE 1 END, a.ATTENDANCE_ID) rn "
+			+ "FROM attendance a) WHERE rn > 1) "
+			+ "AND dailyreport_id IS NULL "
+			+ "AND NOT EXISTS (SELECT 1 FROM DAILYREPORTS r WHERE r.attendance_attendance_id = attendance.ATTENDANCE_ID)";
+
+	private static final String ADD_CONSTRAINT_SQL =
+			"ALTER TABLE attendance ADD CONSTRAINT " + CONSTRAINT + " UNIQUE (dog_dog_id, monthgroup_id, attendancedate)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void migrate() {
+		try {
+			Integer exists = jdbcTemplate.queryForObject(EXISTS_SQL, Integer.class, CONSTRAINT);
+			if (exists != null && exists > 0) {
+				return;
+			}
+			int removed = jdbcTemplate.update(DEDUPLICATE_SQL);
+			jdbcTemplate.execute(ADD_CONSTRAINT_SQL);
+			log.info("출석부 유니크 제약 {} 생성 (중복 출석부 {}건 삭제)", CONSTRAINT, removed);
+		} catch (DataAccessException e) {
+			log.warn("출석부 유니크 제약 {} 생성 실패 (중복 확인은 NOT EXISTS 로 계속): {}", CONSTRAINT, e.getMessage());
+		}
+	}
+}
@@ -1,15 +1,19 @@
 package com.ex.repository;
+import java.math.BigDecimal;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import com.ex.entity.BranchEntity;
 
 @Repository
-public interface BranchesRepository extends JpaRepository<BranchEntity, Integer> {
+public interface BranchesRepository extends JpaRepository<BranchEntity, Integer>, JpaSpecificationExecutor<BranchEntity> {
     
     // 활성 상태 내림차순, 그 다음 이름 오름차순으로 정렬 (페이징 지원)
     @Query("SELECT b FROM BranchEntity b ORDER BY b.active DESC, b.name ASC")
@@ -18,18 +22,6 @@ public interface BranchesRepository extends JpaRepository<BranchEntity, Integer>
     // 활성화된 지점만 검색 (페이징 지원)
     Page<BranchEntity> findByActiveTrue(Pageable pageable);
     
-    // 통합 검색 메서드 (페이징 및 정렬 지원)
-    @Query("SELECT b FROM BranchEntity b WHERE " +
-              "(:activeOnly = false OR b.active = true) AND " +
-              "(LOWER(b.name) LIKE LOWER(CONCAT('%', :term, '%')) OR " +
-              "LOWER(b.address) LIKE LOWER(CONCAT('%', :term, '%')) OR " +
-              "LOWER(b.address2) LIKE LOWER(CONCAT('%', :term, '%')) OR " +
-              "LOWER(b.postCode) LIKE LOWER(CONCAT('%', :term, '%')) OR " +
-              "LOWER(b.phone) LIKE LOWER(CONCAT('%', :term, '%')))")
-   Page<BranchEntity> searchBranches(@Param("term") String term, 
-                                     @Param("activeOnly") boolean activeOnly, 
-                                     Pageable pageable);
-    
     // Monthcare 그룹과 함께 모든 지점 조회
     @Query("SELECT DISTINCT b FROM BranchEntity b LEFT JOIN FETCH b.month")
     List<BranchEntity> findAllWithMonthcareGroups();
@@ -40,4 +32,15 @@ public interface BranchesRepository extends JpaRepository<BranchEntity, Integer>
     
     // 활성화된 지점 목록 조회
     List<BranchEntity> findByActiveTrue();
+    
+    // 좌표가 없는 지점 목록 조회 (좌표 일괄 재변환 대상)
+    List<BranchEntity> findByLatitudeIsNullOrLongitudeIsNull();
+    
+    // 지점 좌표만 갱신
+    @Transactional
+    @Modifying
+    @Query("UPDATE BranchEntity b SET b.latitude = :latitude, b.longitude = :longitude WHERE b.branchId = :branchId")
+    int updateCoordinates(@Param("branchId") Integer branchId,
+                          @Param("latitude") BigDecimal latitude,
+                          @Param("longitude") BigDecimal longitude);
 }
\ No newline at end of file
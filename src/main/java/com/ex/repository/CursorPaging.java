@@ -0,0 +1,253 @@
+package com.ex.repository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import com.ex.data.CursorPageDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+// 공용 커서(키셋) 페이지네이션
+// OFFSET 대신 "마지막으로 본 행의 정렬키 이후"를 WHERE 로 조회하므로 깊은 페이지도 첫 페이지와 비용이 같다.
+// 정렬은 항상 (정렬키..., id) 로 고정해 같은 값이 여러 건이어도 순서가 흔들리지 않게 하고,
+// 커서는 정렬 조건과 마지막 행의 키 값을 담은 불투명 토큰(Base64 JSON)으로 주고받는다.
+// NULL 이 될 수 있는 정렬키는 방향과 관계없이 항상 뒤(NULLS LAST)에 오며, 키셋 조건도 NULL 을 고려해 만든다.
+// NOT NULL 키(id 등)는 평범한 ORDER BY k / k < :v 로 두어 인덱스를 따라 읽다가 멈출 수 있게(STOPKEY) 한다.
+public final class CursorPaging {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int MAX_SIZE = 100;
+
+    private CursorPaging() {
+    }
+
+    // 요청 파라미터 -> 정렬 (허용 목록에 없는 정렬키는 IllegalArgumentException, 컨트롤러에서 400 으로 응답)
+    public static Sort sort(String sortBy, String sortDir, Set<String> allowed) {
+        if (sortBy == null || !allowed.contains(sortBy)) {
+            throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + sortBy);
+        }
+        return Sort.by("asc".equalsIgnoreCase(sortDir) ? Sort.Direction.ASC : Sort.Direction.DESC, sortBy);
+    }
+
+    // spec 조건으로 cursor 이후 size 건 조회 (withTotal 이면 전체 건수도 조회)
+    public static <E, D> CursorPageDTO<D> scroll(JpaSpecificationExecutor<E> repository, Specification<E> spec,
+                                                  Sort sort, String idProperty, int size, String cursor,
+                                                  boolean withTotal, Function<E, D> mapper) {
+        Sort stableSort = stable(sort, idProperty);
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+        Map<String, Object> after = decode(cursor, stableSort);
+
+        // 정렬과 키셋 조건은 spec 으로 직접 만든다 (한 건 더 읽어 다음 페이지 유무 판단)
+        Specification<E> keyset = (root, query, cb) -> {
+            query.orderBy(orders(root, cb, stableSort));
+            return after == null ? null : after(root, cb, stableSort, after);
+        };
+        List<E> rows = repository.findBy(spec.and(keyset), q -> q.limit(limit + 1).all());
+
+        boolean hasNext = rows.size() > limit;
+        List<E> page = hasNext ? rows.subList(0, limit) : rows;
+        List<D> content = new ArrayList<>(page.size());
+        for (E entity : page) {
+            content.add(mapper.apply(entity));
+        }
+        String nextCursor = hasNext ? encode(page.get(page.size() - 1), stableSort) : null;
+
+        return CursorPageDTO.<D>builder()
+                .content(content)
+                .size(limit)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .totalElements(withTotal ? repository.count(spec) : null)
+                .build();
+    }
+
+    // 정렬 마지막에 id 를 붙여 전체 순서를 고정 (이미 있으면 그대로)
+    public static Sort stable(Sort sort, String idProperty) {
+        if (sort.getOrderFor(idProperty) != null) {
+            return sort;
+        }
+        Sort.Direction direction = sort.isEmpty() ? Sort.Direction.ASC : sort.iterator().next().getDirection();
+        return sort.and(Sort.by(direction, idProperty));
+    }
+
+    // ORDER BY 키 ... : NULL 이 될 수 있는 키만 NULLS LAST (Oracle 기본값은 DESC 일 때 NULLS FIRST)
+    private static List<Order> orders(Root<?> root, CriteriaBuilder cb, Sort sort) {
+        HibernateCriteriaBuilder hcb = (HibernateCriteriaBuilder) cb;
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order o : sort) {
+            Path<?> path = path(root, o.getProperty());
+            if (nullable(root, o.getProperty())) {
+                orders.add(o.isAscending() ? hcb.asc(path, false) : hcb.desc(path, false));
+            } else {
+                orders.add(o.isAscending() ? cb.asc(path) : cb.desc(path));
+            }
+        }
+        return orders;
+    }
+
+    // 마지막 행 이후 조건 : (k1 이후) OR (k1 같음 AND k2 이후) OR ...
+    // NULL 이 될 수 있는 키는 값이 있으면 "이후"에 NULL 행이 포함되고, 값이 NULL 이면 "이후"는 없다 (같음은 IS NULL)
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate after(Root<?> root, CriteriaBuilder cb, Sort sort, Map<String, Object> keys) {
+        List<Predicate> or = new ArrayList<>();
+        List<Predicate> equal = new ArrayList<>();
+        for (Sort.Order o : sort) {
+            Expression path = path(root, o.getProperty());
+            Comparable value = (Comparable) keys.get(o.getProperty());
+            if (value != null) {
+                Predicate beyond = o.isAscending() ? cb.greaterThan(path, value) : cb.lessThan(path, value);
+                List<Predicate> level = new ArrayList<>(equal);
+                level.add(nullable(root, o.getProperty()) ? cb.or(beyond, cb.isNull(path)) : beyond);
+                or.add(cb.and(level.toArray(new Predicate[0])));
+                equal.add(cb.equal(path, value));
+            } else {
+                equal.add(cb.isNull(path));
+            }
+        }
+        return or.isEmpty() ? cb.disjunction() : cb.or(or.toArray(new Predicate[0]));
+    }
+
+    // 정렬키가 NULL 이 될 수 있는지 (경로의 속성 중 하나라도 optional 이면 NULL 가능, id 와 nullable=false 컬럼은 아님)
+    private static boolean nullable(Root<?> root, String property) {
+        Path<?> path = root;
+        for (String part : property.split("\\.")) {
+            path = path.get(part);
+            if (!(path.getModel() instanceof SingularAttribute<?, ?> attribute) || attribute.isOptional()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Path<?> path(Root<?> root, String property) {
+        Path<?> path = root;
+        for (String part : property.split("\\.")) {
+            path = path.get(part);
+        }
+        return path;
+    }
+
+    // 토큰 -> 마지막 행의 키 값 (토큰이 없으면 처음부터)
+    private static Map<String, Object> decode(String cursor, Sort sort) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor);
+            Map<String, Object> token = MAPPER.readValue(json, new TypeReference<Map<String, Object>>() {});
+            if (!signature(sort).equals(token.get("s"))) {
+                throw new IllegalArgumentException("정렬 조건이 다른 커서입니다.");
+            }
+            @SuppressWarnings("unchecked")
+            Map<String, List<Object>> keys = (Map<String, List<Object>>) token.get("k");
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (Sort.Order o : sort) {
+                List<Object> typed = keys.get(o.getProperty());
+                if (typed == null) {
+                    throw new IllegalArgumentException("잘못된 커서입니다.");
+                }
+                values.put(o.getProperty(), fromTyped(typed));
+            }
+            return values;
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    // 마지막 행 -> 토큰 (값의 타입을 함께 기록해 복원 시 같은 타입으로 비교)
+    private static String encode(Object last, Sort sort) {
+        BeanWrapper row = new BeanWrapperImpl(last);
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (Sort.Order o : sort) {
+            keys.put(o.getProperty(), toTyped(row.getPropertyValue(o.getProperty())));
+        }
+        Map<String, Object> token = new LinkedHashMap<>();
+        token.put("s", signature(sort));
+        token.put("k", keys);
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(token));
+        } catch (Exception e) {
+            throw new RuntimeException("커서 생성 실패", e);
+        }
+    }
+
+    private static String signature(Sort sort) {
+        return sort.toString();
+    }
+
+    private static List<Object> toTyped(Object value) {
+        if (value == null) {
+            return Arrays.asList("N", null);
+        }
+        if (value instanceof Integer) {
+            return List.of("I", value);
+        }
+        if (value instanceof Long) {
+            return List.of("L", value);
+        }
+        if (value instanceof Boolean) {
+            return List.of("B", value);
+        }
+        if (value instanceof BigDecimal) {
+            return List.of("M", value.toString());
+        }
+        if (value instanceof LocalDate) {
+            return List.of("D", value.toString());
+        }
+        if (value instanceof LocalDateTime) {
+            return List.of("T", value.toString());
+        }
+        if (value instanceof Date) {
+            return List.of("J", ((Date) value).getTime());
+        }
+        return List.of("S", value.toString());
+    }
+
+    private static Object fromTyped(List<Object> typed) {
+        String type = (String) typed.get(0);
+        Object value = typed.get(1);
+        switch (type) {
+            case "N":
+                return null;
+            case "I":
+                return ((Number) value).intValue();
+            case "L":
+                return ((Number) value).longValue();
+            case "B":
+                return value;
+            case "M":
+                return new BigDecimal((String) value);
+            case "D":
+                return LocalDate.parse((String) value);
+            case "T":
+                return LocalDateTime.parse((String) value);
+            case "J":
+                return new Date(((Number) value).longValue());
+            default:
+                return value;
+        }
+    }
+}
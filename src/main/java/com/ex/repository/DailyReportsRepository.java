@@ -1,6 +1,10 @@
 package com.ex.repository;
+import java.time.LocalDate;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import com.ex.data.CalendarEventDTO;
 import com.ex.entity.DailyReportsEntity;
 import com.ex.entity.MembersEntity;
 
@@ -8,4 +12,18 @@ public interface DailyReportsRepository extends JpaRepository<DailyReportsEntity
 
 	public List<DailyReportsEntity> findByMembers(MembersEntity members);
 
+	// 견주의 기간별 알림장 캘린더 이벤트 (id/날짜/강아지이름/제목만 조회, 본문 제외)
+	@Query("SELECT new com.ex.data.CalendarEventDTO(d.id, d.report_date, g.dogname, d.title) " +
+			"FROM DailyReportsEntity d LEFT JOIN d.dogs g " +
+			"WHERE d.members.memberId = :memberId AND d.report_date >= :from AND d.report_date < :to " +
+			"ORDER BY d.report_date, d.id")
+	List<CalendarEventDTO> findCalendarEvents(@Param("memberId") Integer memberId,
+			@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+	// 견주의 기간별 알림장 마지막 변경시각, 마지막 작성일자 (변경시각이 없는 기존 행은 작성일자로 대신)
+	@Query("SELECT MAX(d.updatedAt), MAX(d.report_date) FROM DailyReportsEntity d " +
+			"WHERE d.members.memberId = :memberId AND d.report_date >= :from AND d.report_date < :to")
+	List<Object[]> findLastModified(@Param("memberId") Integer memberId,
+			@Param("from") LocalDate from, @Param("to") LocalDate to);
+
 }
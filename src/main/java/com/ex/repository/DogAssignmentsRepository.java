@@ -1,8 +1,12 @@
 package com.ex.repository;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import com.ex.data.GroupAssignmentDTO;
 import com.ex.entity.DogAssignmentsEntity;
 import com.ex.entity.DogsEntity;
 import com.ex.entity.MonthcareGroupsEntity;
@@ -11,4 +15,30 @@ import com.ex.entity.MonthcareGroupsEntity;
 public interface DogAssignmentsRepository extends JpaRepository<DogAssignmentsEntity, Integer> {
 	  List<DogAssignmentsEntity> findByMonthgroup(MonthcareGroupsEntity monthgroup);
 	Optional<DogAssignmentsEntity> findByDogsAndMonthgroup(DogsEntity dogs, MonthcareGroupsEntity monthgroup);
-}
\ No newline at end of file
+	
+	// 반별 현재/예정 배정 수 (종료일이 기준일 이후)
+	@Query("SELECT COUNT(a) FROM DogAssignmentsEntity a WHERE a.monthgroup.id = :groupId AND a.endDate >= :today")
+	long countCurrentAndFutureByGroup(@Param("groupId") Integer groupId, @Param("today") LocalDate today);
+	
+	// 반별 기간과 겹치는 배정 수 (정원 계산용)
+	// 자동갱신 중인 구독의 배정은 종료일 이후 달에도 좌석을 유지하므로 함께 센다
+	@Query("SELECT COUNT(a) FROM DogAssignmentsEntity a LEFT JOIN a.admission ad LEFT JOIN ad.subscription s "
+			+ "WHERE a.monthgroup.id = :groupId AND a.startDate <= :toDate "
+			+ "AND (a.endDate >= :fromDate OR (s.autoRenewal = 'Y' AND s.status = 'ACTIVE'))")
+	long countOverlappingByGroup(@Param("groupId") Integer groupId,
+								@Param("fromDate") LocalDate fromDate,
+								@Param("toDate") LocalDate toDate);
+	
+	// 지점의 반별 현재/예정 배정 수 [반id, 배정수]
+	@Query("SELECT a.monthgroup.id, COUNT(a) FROM DogAssignmentsEntity a "
+			+ "WHERE a.monthgroup.branches.branchId = :branchId AND a.endDate >= :today "
+			+ "GROUP BY a.monthgroup.id")
+	List<Object[]> countCurrentAndFutureByBranch(@Param("branchId") Integer branchId, @Param("today") LocalDate today);
+	
+	// 지점의 현재/예정 배정 목록 (배정, 반, 강아지를 한 번에 조회)
+	@Query("SELECT new com.ex.data.GroupAssignmentDTO(a.dogassignmentId, mg.id, d.dogId, d.dogname, a.startDate, a.endDate) "
+			+ "FROM DogAssignmentsEntity a JOIN a.monthgroup mg JOIN a.dogs d "
+			+ "WHERE mg.branches.branchId = :branchId AND a.endDate >= :today "
+			+ "ORDER BY mg.id, a.startDate, a.dogassignmentId")
+	List<GroupAssignmentDTO> findCurrentAndFutureByBranch(@Param("branchId") Integer branchId, @Param("today") LocalDate today);
+}
@@ -11,6 +11,8 @@ public interface DogsRepository extends JpaRepository<DogsEntity, Integer>{
 	
 	List<DogsEntity> findByMember(MembersEntity member);
 	
+	List<DogsEntity> findByMemberMemberId(Integer memberId);
+	
 	@Query("SELECT d FROM DogsEntity d " +
 	           "JOIN d.dogAssign da " +
 	           "JOIN da.monthgroup mg " +
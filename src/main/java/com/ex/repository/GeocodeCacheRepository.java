@@ -0,0 +1,31 @@
+package com.ex.repository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import com.ex.entity.GeocodeCacheEntity;
+
+@Repository
+public interface GeocodeCacheRepository extends JpaRepository<GeocodeCacheEntity, String> {
+
+	// 캐시에 없을 때만 저장 (Oracle MERGE), 저장한 건수 반환
+	// 지점 등록 트랜잭션과 분리된 별도 트랜잭션에서 실행되므로, 같은 주소를 동시에 저장하다 실패해도
+	// 호출한 쪽 트랜잭션(지점 등록)은 롤백되지 않는다.
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	@Modifying
+	@Query(value = "MERGE INTO GEOCODE_CACHE c USING dual ON (c.ADDRESS_KEY = :addressKey) "
+			+ "WHEN NOT MATCHED THEN INSERT (ADDRESS_KEY, ADDRESS, LATITUDE, LONGITUDE, PROVIDER, CREATED_AT) "
+			+ "VALUES (:addressKey, :address, :latitude, :longitude, :provider, :createdAt)",
+			nativeQuery = true)
+	int insertIfAbsent(@Param("addressKey") String addressKey,
+					   @Param("address") String address,
+					   @Param("latitude") BigDecimal latitude,
+					   @Param("longitude") BigDecimal longitude,
+					   @Param("provider") String provider,
+					   @Param("createdAt") LocalDateTime createdAt);
+}
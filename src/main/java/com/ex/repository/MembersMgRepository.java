@@ -4,13 +4,14 @@ import org.apache.ibatis.annotations.Param;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface MembersMgRepository extends JpaRepository<MembersEntity, Integer> {
+public interface MembersMgRepository extends JpaRepository<MembersEntity, Integer>, JpaSpecificationExecutor<MembersEntity> {
 
    Optional<MembersEntity> findById(Integer id);
     
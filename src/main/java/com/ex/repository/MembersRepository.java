@@ -1,7 +1,12 @@
 package com.ex.repository;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import com.ex.entity.MembersEntity;
 
 @Repository
@@ -9,4 +14,12 @@ public interface MembersRepository extends JpaRepository<MembersEntity, Integer>
 	public Optional<MembersEntity> findByUsername(String username);
 	public Optional<MembersEntity> findByNameAndEmailAndPhone(String name, String email, String phone);
 	public int countByUsernameAndNameAndPhone(String username, String name, String phone);
+	// 지점 직원 명단 (IDX_MEMBERS_BRANCH_TYPE)
+	public List<MembersEntity> findByBranchIdAndUserTypeInOrderByNameAsc(Integer branchId, List<String> userTypes);
+	
+	// 회원 정보 버전 증가 (MemberProfileCache.evict 에서 호출, 호출한 쪽 트랜잭션이 있으면 함께 커밋)
+	@Transactional
+	@Modifying
+	@Query("UPDATE MembersEntity m SET m.profileVersion = COALESCE(m.profileVersion, 0) + 1 WHERE m.username = :username")
+	public int bumpProfileVersion(@Param("username") String username);
 }
@@ -1,9 +1,18 @@
 package com.ex.repository;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.ex.entity.MonthcareGroupsEntity;
+import jakarta.persistence.LockModeType;
 
 @Repository
 public interface MonthcareGroupsRepository extends JpaRepository<MonthcareGroupsEntity, Integer>{
 
+	// 정원 계산 동안 같은 반의 좌석 예약/배정을 직렬화하기 위한 행 잠금 (SELECT ... FOR UPDATE)
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT g FROM MonthcareGroupsEntity g WHERE g.id = :id")
+	Optional<MonthcareGroupsEntity> findByIdForUpdate(@Param("id") Integer id);
 }
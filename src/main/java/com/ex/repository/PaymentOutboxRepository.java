@@ -0,0 +1,31 @@
+package com.ex.repository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import com.ex.entity.PaymentOutboxEntity;
+
+@Repository
+public interface PaymentOutboxRepository extends JpaRepository<PaymentOutboxEntity, Integer> {
+
+	// 처리 가능한 대기 작업 조회
+	List<PaymentOutboxEntity> findTop50ByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(String status, LocalDateTime now);
+	
+	// 대기 작업 선점 (다른 워커/인스턴스가 먼저 선점했다면 0 반환)
+	@Transactional
+	@Modifying
+	@Query("UPDATE PaymentOutboxEntity o SET o.status = 'PROCESSING', o.updatedAt = :now "
+			+ "WHERE o.id = :id AND o.status = 'PENDING'")
+	int claim(@Param("id") Integer id, @Param("now") LocalDateTime now);
+	
+	// 처리 중 서버가 중단되어 남은 작업을 다시 대기 상태로 되돌림
+	@Transactional
+	@Modifying
+	@Query("UPDATE PaymentOutboxEntity o SET o.status = 'PENDING' "
+			+ "WHERE o.status = 'PROCESSING' AND o.updatedAt < :before")
+	int releaseStale(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,14 @@
+package com.ex.repository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import com.ex.entity.ReportPhotosEntity;
+
+public interface ReportPhotosRepository extends JpaRepository<ReportPhotosEntity, Integer> {
+
+	// 알림장별 사진 (등록순)
+	List<ReportPhotosEntity> findByDailyReportIdOrderByPhotoIdAsc(Integer reportId);
+
+	// 변환 대기 중인 사진 (워커 큐가 가득 찼거나 서버 재시작으로 누락된 작업 재등록용)
+	List<ReportPhotosEntity> findTop100ByStatusAndUploadTimeBeforeOrderByPhotoIdAsc(String status, LocalDateTime before);
+}
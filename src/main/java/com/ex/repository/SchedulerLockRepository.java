@@ -0,0 +1,27 @@
+package com.ex.repository;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import com.ex.entity.SchedulerLockEntity;
+
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLockEntity, String> {
+
+	// 만료된 잠금 획득 (다른 서버가 잡고 있으면 0 반환)
+	@Transactional
+	@Modifying
+	@Query("UPDATE SchedulerLockEntity l SET l.lockedUntil = :until, l.lockedAt = :now, l.lockedBy = :by "
+			+ "WHERE l.name = :name AND l.lockedUntil <= :now")
+	int acquire(@Param("name") String name, @Param("until") LocalDateTime until,
+				@Param("now") LocalDateTime now, @Param("by") String by);
+	
+	// 잠금 해제 (내가 잡은 잠금만)
+	@Transactional
+	@Modifying
+	@Query("UPDATE SchedulerLockEntity l SET l.lockedUntil = :until WHERE l.name = :name AND l.lockedBy = :by")
+	int release(@Param("name") String name, @Param("until") LocalDateTime until, @Param("by") String by);
+}
@@ -0,0 +1,37 @@
+package com.ex.repository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import com.ex.entity.SeatReservationEntity;
+
+@Repository
+public interface SeatReservationRepository extends JpaRepository<SeatReservationEntity, Integer> {
+
+	// 입학의 진행 중인 예약 (HELD 또는 CONFIRMED)
+	@Query("SELECT r FROM SeatReservationEntity r WHERE r.admissionId = :admissionId AND r.status IN ('HELD', 'CONFIRMED')")
+	Optional<SeatReservationEntity> findActiveByAdmissionId(@Param("admissionId") Integer admissionId);
+	
+	// 구독월의 좌석을 점유 중인 예약 수 : 만료 전 HELD + 아직 반배정되지 않은 CONFIRMED (반배정 후에는 배정 수로 계산)
+	// 구독월이 없는 이전 예약은 어느 달이든 점유로 본다
+	@Query("SELECT COUNT(r) FROM SeatReservationEntity r WHERE r.monthgroupId = :groupId "
+			+ "AND (r.monthStart IS NULL OR r.monthStart = :monthStart) AND "
+			+ "((r.status = 'HELD' AND r.expiresAt > :now) OR "
+			+ "(r.status = 'CONFIRMED' AND NOT EXISTS "
+			+ "(SELECT a FROM DogAssignmentsEntity a WHERE a.admission.admissionId = r.admissionId)))")
+	long countOccupying(@Param("groupId") Integer groupId,
+						@Param("monthStart") LocalDate monthStart,
+						@Param("now") LocalDateTime now);
+	
+	// 만료된 HELD 정리
+	@Transactional
+	@Modifying
+	@Query("UPDATE SeatReservationEntity r SET r.status = 'RELEASED', r.updatedAt = :now "
+			+ "WHERE r.status = 'HELD' AND r.expiresAt <= :now")
+	int releaseExpired(@Param("now") LocalDateTime now);
+}
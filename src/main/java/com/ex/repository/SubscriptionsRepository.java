@@ -2,13 +2,73 @@ package com.ex.repository;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import com.ex.data.MonthAttendanceTargetDTO;
+import com.ex.data.SubscriptionHistoryDTO;
 import com.ex.entity.AdmissionsEntity;
 import com.ex.entity.SubscriptionsEntity;
 
 @Repository
 public interface SubscriptionsRepository extends JpaRepository<SubscriptionsEntity, Integer> {
 	Optional<SubscriptionsEntity> findByAdmissions(AdmissionsEntity ae);	
-	List<SubscriptionsEntity> findByStartDate(LocalDate startDate);
+	
+	// 종료일이 지난 활성 구독을 최대 chunkSize 건 만료 (Oracle ROWNUM), 바꾼 건수 반환
+	@Modifying
+	@Query(value = "UPDATE SUBSCRIPTIONS SET STATUS = 'EXPIRED' "
+			+ "WHERE END_DATE < :today AND STATUS = 'ACTIVE' AND REFUND IS NULL AND ROWNUM <= :chunkSize",
+			nativeQuery = true)
+	int expireEnded(@Param("today") LocalDate today, @Param("chunkSize") int chunkSize);
+	
+	// 견주의 기간 내 구독 내역 (구매일 최신순, 한 번의 조회)
+	@Query("SELECT new com.ex.data.SubscriptionHistoryDTO(s.subscriptionId, d.dogname, b.name, t.ticketname, t.price, "
+			+ "s.startDate, s.endDate, s.paymentDate, s.status) "
+			+ "FROM SubscriptionsEntity s JOIN s.dogs d JOIN d.member m "
+			+ "LEFT JOIN s.ticket t LEFT JOIN s.admissions a LEFT JOIN a.monthcaregroups mg LEFT JOIN mg.branches b "
+			+ "WHERE m.username = :username AND s.paymentDate >= :from AND s.paymentDate < :to "
+			+ "ORDER BY s.paymentDate DESC, s.subscriptionId DESC")
+	List<SubscriptionHistoryDTO> findHistory(@Param("username") String username,
+											@Param("from") LocalDate from,
+											@Param("to") LocalDate to);
+	
+	// 견주의 미결제 구독 내역 (구매일이 없는 구독, 최신 등록순, 한 번의 조회)
+	@Query("SELECT new com.ex.data.SubscriptionHistoryDTO(s.subscriptionId, d.dogname, b.name, t.ticketname, t.price, "
+			+ "s.startDate, s.endDate, s.paymentDate, s.status) "
+			+ "FROM SubscriptionsEntity s JOIN s.dogs d JOIN d.member m "
+			+ "LEFT JOIN s.ticket t LEFT JOIN s.admissions a LEFT JOIN a.monthcaregroups mg LEFT JOIN mg.branches b "
+			+ "WHERE m.username = :username AND s.paymentDate IS NULL "
+			+ "ORDER BY s.subscriptionId DESC")
+	List<SubscriptionHistoryDTO> findUnpaidHistory(@Param("username") String username);
+	
+	// 견주의 미결제 구독 건수
+	@Query("SELECT COUNT(s) FROM SubscriptionsEntity s JOIN s.dogs d JOIN d.member m "
+			+ "WHERE m.username = :username AND s.paymentDate IS NULL")
+	long countUnpaid(@Param("username") String username);
+	
+	// 견주의 구독 내역이 있는 연도 (최신순)
+	@Query("SELECT DISTINCT EXTRACT(YEAR FROM s.paymentDate) FROM SubscriptionsEntity s JOIN s.dogs d JOIN d.member m "
+			+ "WHERE m.username = :username AND s.paymentDate IS NOT NULL "
+			+ "ORDER BY EXTRACT(YEAR FROM s.paymentDate) DESC")
+	List<Integer> findHistoryYears(@Param("username") String username);
+	
+	// 대상월 출석부 생성 대상 구독 (결제된 이용 기간이 대상월과 겹치는 활성 구독)
+	// 자동갱신 구독도 갱신 결제로 종료일이 늘어난 경우에만 대상이 된다. (배치가 종료일을 늘리지 않음)
+	// 대상월 출석부가 아직 없는 구독만 조회하므로, 나중에 결제/상태 변경으로 대상이 된 구독도 다음 실행 때 처리된다.
+	// afterId 는 한 번의 실행 안에서 청크를 넘기기 위한 값 (실행마다 0 부터 다시 조회)
+	@Query("SELECT new com.ex.data.MonthAttendanceTargetDTO(s.subscriptionId, d.dogId, b.branchId, mg.id, t.dayofweek) "
+			+ "FROM SubscriptionsEntity s JOIN s.dogs d JOIN s.ticket t "
+			+ "JOIN s.admissions a JOIN a.branch b JOIN a.monthcaregroups mg "
+			+ "WHERE s.subscriptionId > :afterId AND s.status = 'ACTIVE' "
+			+ "AND s.startDate <= :monthEnd AND s.endDate >= :monthStart "
+			+ "AND NOT EXISTS (SELECT 1 FROM AttendanceEntity x WHERE x.dog = d AND x.monthgroup = mg "
+			+ "AND x.attendancedate BETWEEN :monthStart AND :monthEnd) "
+			+ "ORDER BY s.subscriptionId")
+	List<MonthAttendanceTargetDTO> findMonthAttendanceTargets(@Param("afterId") Integer afterId,
+															@Param("monthStart") LocalDate monthStart,
+															@Param("monthEnd") LocalDate monthEnd,
+															Pageable pageable);
 }
@@ -3,9 +3,10 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import com.ex.entity.TicketEntity;
 
-public interface TicketRepository extends JpaRepository<TicketEntity, Integer>{
+public interface TicketRepository extends JpaRepository<TicketEntity, Integer>, JpaSpecificationExecutor<TicketEntity>{
 
 	public List<TicketEntity> findBySalesstatus(Integer sts);
 	
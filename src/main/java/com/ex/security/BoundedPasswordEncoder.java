@@ -0,0 +1,113 @@
+package com.ex.security;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import com.ex.service.BoundedExecutors;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 비밀번호 해시 (BCrypt)
+// 해시 계산은 전용 스레드풀(security.password.workers)에서만 실행해, 로그인이 몰려도 CPU 를 쓰는 해시가
+// 동시에 workers 개를 넘지 않게 한다. 대기열이 가득 차거나 timeout 안에 끝나지 않으면 AuthenticationServiceException 으로
+// 실패 처리한다 (비밀번호 오류가 아닌 인증 서비스 오류로 로그인 실패). 시간이 초과된 작업은 취소해 대기열에서 실행되지 않게 한다.
+// 저장된 해시의 cost 가 security.password.bcrypt-cost 보다 낮으면 upgradeEncoding 이 true 가 되어
+// 로그인 성공 시 UserSecurityService.updatePassword 로 새 cost 해시로 바꾼다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+	private final MeterRegistry meterRegistry;
+
+	@Value("${security.password.bcrypt-cost:10}")
+	private int cost;
+
+	@Value("${security.password.workers:2}")
+	private int workers;
+
+	@Value("${security.password.queue-capacity:100}")
+	private int queueCapacity;
+
+	@Value("${security.password.timeout-seconds:10}")
+	private int timeoutSeconds;
+
+	private BCryptPasswordEncoder delegate;
+	private ThreadPoolTaskExecutor executor;
+
+	@PostConstruct
+	void init() {
+		delegate = new BCryptPasswordEncoder(cost);
+		executor = BoundedExecutors.create("password-", workers, queueCapacity, 10);
+		BoundedExecutors.monitor(executor, meterRegistry, "security.password");
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdown();
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return run("encode", () -> delegate.encode(rawPassword));
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return run("matches", () -> delegate.matches(rawPassword, encodedPassword));
+	}
+
+	// 해시 문자열의 cost 가 설정값보다 낮으면 다시 해시
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+
+	// 해시 스레드풀에서 실행 (대기 시간 포함 소요 시간 기록)
+	private <T> T run(String operation, Callable<T> task) {
+		long started = System.nanoTime();
+		String outcome = "success";
+		Future<T> future = null;
+		try {
+			future = executor.submit(task);
+			return future.get(timeoutSeconds, TimeUnit.SECONDS);
+		} catch (TaskRejectedException e) {
+			outcome = "rejected";
+			log.warn("비밀번호 해시 대기열이 가득 참 ({})", operation);
+			throw new AuthenticationServiceException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", e);
+		} catch (TimeoutException e) {
+			outcome = "timeout";
+			future.cancel(true);
+			throw new AuthenticationServiceException("비밀번호 확인 시간이 초과되었습니다.", e);
+		} catch (InterruptedException e) {
+			outcome = "interrupted";
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new AuthenticationServiceException("비밀번호 확인이 중단되었습니다.", e);
+		} catch (ExecutionException e) {
+			outcome = "failure";
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(e.getCause());
+		} finally {
+			Timer.builder("security.password.hash")
+					.tag("operation", operation)
+					.tag("outcome", outcome)
+					.register(meterRegistry)
+					.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+		}
+	}
+}
@@ -0,0 +1,98 @@
+package com.ex.security;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+// 커넥션 풀 앞의 동시 사용 제한 (가상 스레드 모드 전용)
+// 가상 스레드는 요청마다 생기므로 요청 수만큼 풀에 몰려 커넥션 대기가 길어진다.
+// 풀 크기만큼의 허가(공정 세마포어)를 얻은 스레드만 풀에서 커넥션을 꺼내고, 커넥션을 닫을 때 허가를 돌려준다.
+// timeout 안에 허가를 못 얻으면 풀까지 가지 않고 바로 실패한다.
+public class ConnectionGuardDataSource extends DelegatingDataSource {
+
+	private final Semaphore permits;
+	private final int maxConnections;
+	private final long timeoutMillis;
+
+	public ConnectionGuardDataSource(DataSource target, int maxConnections, long timeoutMillis) {
+		super(target);
+		this.permits = new Semaphore(maxConnections, true);
+		this.maxConnections = maxConnections;
+		this.timeoutMillis = timeoutMillis;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		acquire();
+		try {
+			return guard(super.getConnection());
+		} catch (SQLException | RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		acquire();
+		try {
+			return guard(super.getConnection(username, password));
+		} catch (SQLException | RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	// 허가를 기다리는 스레드 수
+	public int getWaiting() {
+		return permits.getQueueLength();
+	}
+
+	// 사용 중인 커넥션 수
+	public int getInUse() {
+		return maxConnections - permits.availablePermits();
+	}
+
+	private void acquire() throws SQLException {
+		try {
+			if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+				throw new SQLTransientConnectionException("DB 커넥션 대기 시간 초과 (" + timeoutMillis + "ms, 동시 " + maxConnections + "개)");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLTransientConnectionException("DB 커넥션 대기 중 중단됨", e);
+		}
+	}
+
+	// close 할 때 한 번만 허가 반환
+	private Connection guard(Connection connection) {
+		AtomicBoolean released = new AtomicBoolean();
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+				(proxy, method, args) -> {
+					if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+						try {
+							connection.close();
+						} finally {
+							if (released.compareAndSet(false, true)) {
+								permits.release();
+							}
+						}
+						return null;
+					}
+					if ("unwrap".equals(method.getName()) && ((Class<?>) args[0]).isInstance(connection)) {
+						return connection;
+					}
+					try {
+						return method.invoke(connection, args);
+					} catch (InvocationTargetException e) {
+						throw e.getTargetException();
+					}
+				});
+	}
+}
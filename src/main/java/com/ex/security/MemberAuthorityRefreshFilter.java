@@ -0,0 +1,65 @@
+package com.ex.security;
+import java.io.IOException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.web.filter.OncePerRequestFilter;
+import com.ex.data.MemberProfileDTO;
+import com.ex.service.MemberProfileCache;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// 세션의 인증 정보가 가진 회원 정보 버전이 DB 의 버전(MemberProfileCache 로 조회)과 다르면
+// (직원 유형/지점 변경 등) 인증 정보를 새 회원 정보와 권한으로 바꿔 세션에 저장한다.
+// 버전은 MEMBERS.PROFILE_VERSION 이라 다른 서버에서 바뀐 권한도 반영되고,
+// 캐시를 거치므로 요청마다 회원 조회가 생기지는 않는다 (다른 서버의 변경은 캐시 ttl 안에 반영).
+public class MemberAuthorityRefreshFilter extends OncePerRequestFilter {
+
+	private final MemberProfileCache memberProfileCache;
+	private final SecurityContextHolderStrategy contextHolder = SecurityContextHolder.getContextHolderStrategy();
+	private final SecurityContextRepository contextRepository = new HttpSessionSecurityContextRepository();
+
+	public MemberAuthorityRefreshFilter(MemberProfileCache memberProfileCache) {
+		this.memberProfileCache = memberProfileCache;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		Authentication auth = contextHolder.getContext().getAuthentication();
+		if (auth != null && auth.getPrincipal() instanceof MemberPrincipal principal) {
+			MemberProfileDTO current;
+			try {
+				current = memberProfileCache.get(principal.getUsername());
+			} catch (UsernameNotFoundException e) {
+				current = null;		// 탈퇴/삭제된 회원
+			}
+			if (current == null || current.getVersion() != principal.getProfile().getVersion()) {
+				refresh(auth, principal, current, request, response);
+			}
+		}
+		chain.doFilter(request, response);
+	}
+
+	// profile 이 null 이면 (탈퇴/삭제된 회원) 로그아웃 상태로
+	private void refresh(Authentication auth, MemberPrincipal principal, MemberProfileDTO profile,
+						 HttpServletRequest request, HttpServletResponse response) {
+		SecurityContext context = contextHolder.createEmptyContext();
+		if (profile != null) {
+			MemberPrincipal refreshed = new MemberPrincipal(profile, principal.getPassword());
+			UsernamePasswordAuthenticationToken token = UsernamePasswordAuthenticationToken.authenticated(
+					refreshed, auth.getCredentials(), refreshed.getAuthorities());
+			token.setDetails(auth.getDetails());
+			context.setAuthentication(token);
+		}
+		contextHolder.setContext(context);
+		contextRepository.saveContext(context, request, response);
+	}
+}
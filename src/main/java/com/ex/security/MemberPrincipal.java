@@ -0,0 +1,44 @@
+package com.ex.security;
+import java.util.List;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import com.ex.data.MemberProfileDTO;
+
+// 로그인 시 조회한 회원 기본 정보를 함께 들고 있는 인증 사용자
+// 권한은 회원 유형(userType)으로 정한다 : ADMIN, DIRECTOR, TEACHER 는 같은 이름의 ROLE_, 그 외(REGULAR, INACTIVE 등)는 ROLE_USER
+public class MemberPrincipal extends User {
+	private static final long serialVersionUID = 1L;
+
+	private final MemberProfileDTO profile;
+
+	public MemberPrincipal(MemberProfileDTO profile, String password) {
+		super(profile.getUsername(), password == null ? "" : password, authorities(profile.getUserType()));
+		this.profile = profile;
+	}
+
+	// 회원 정보 (버전이 DB 의 회원 정보 버전과 다르면 MemberAuthorityRefreshFilter 가 새로 만든다)
+	public MemberProfileDTO getProfile() {
+		return profile;
+	}
+
+	public Integer getMemberId() {
+		return profile.getMemberId();
+	}
+
+	public Integer getBranchId() {
+		return profile.getBranchId();
+	}
+
+	public String getUserType() {
+		return profile.getUserType();
+	}
+
+	// 회원 유형별 권한
+	public static List<GrantedAuthority> authorities(String userType) {
+		if ("ADMIN".equals(userType) || "DIRECTOR".equals(userType) || "TEACHER".equals(userType)) {
+			return List.of(new SimpleGrantedAuthority("ROLE_" + userType));
+		}
+		return List.of(new SimpleGrantedAuthority("ROLE_USER"));
+	}
+}
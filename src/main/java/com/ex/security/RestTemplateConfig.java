@@ -1,13 +1,90 @@
 package com.ex.security;
+import java.io.IOException;
+import java.time.Duration;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultHttpRequestRetryStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.Method;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http.protocol.HttpCoreContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class RestTemplateConfig {
 	
+	// 외부 API 공용 HTTP 클라이언트 (카카오 로컬, 카카오페이)
+	// - 커넥션 풀을 공유해 요청마다 TCP/TLS 연결을 새로 맺지 않고 keep-alive 로 재사용
+	// - 연결/응답/풀 대기 타임아웃으로 외부 API 가 늦어도 요청 스레드가 무한정 기다리지 않음
+	// - 재시도는 멱등 요청(GET 등)의 연결 오류, 429/503 응답에만 적용 (결제 준비/승인 POST 는 재시도하지 않음, IdempotentRetryStrategy)
+	@Bean(destroyMethod = "close")
+	CloseableHttpClient httpClient(@Value("${http.client.connect-timeout:3s}") Duration connectTimeout,
+			@Value("${http.client.read-timeout:5s}") Duration readTimeout,
+			@Value("${http.client.pool-timeout:2s}") Duration poolTimeout,
+			@Value("${http.client.max-total:50}") int maxTotal,
+			@Value("${http.client.max-per-route:20}") int maxPerRoute,
+			@Value("${http.client.retries:2}") int retries,
+			@Value("${http.client.retry-interval:1s}") Duration retryInterval) {
+		PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+				.setMaxConnTotal(maxTotal)
+				.setMaxConnPerRoute(maxPerRoute)
+				.setDefaultConnectionConfig(ConnectionConfig.custom()
+						.setConnectTimeout(Timeout.of(connectTimeout))
+						.setSocketTimeout(Timeout.of(readTimeout))
+						.setValidateAfterInactivity(TimeValue.ofSeconds(10))
+						.setTimeToLive(TimeValue.ofMinutes(5))
+						.build())
+				.build();
+		return HttpClients.custom()
+				.setConnectionManager(connectionManager)
+				.setDefaultRequestConfig(RequestConfig.custom()
+						.setConnectionRequestTimeout(Timeout.of(poolTimeout))
+						.setResponseTimeout(Timeout.of(readTimeout))
+						.build())
+				.setRetryStrategy(new IdempotentRetryStrategy(retries, TimeValue.of(retryInterval)))
+				.evictExpiredConnections()
+				.evictIdleConnections(TimeValue.ofSeconds(30))
+				.build();
+	}
+	
+	// 멱등 요청만 재시도
+	// DefaultHttpRequestRetryStrategy 는 429/503 응답이면 메서드와 상관없이 재시도하므로,
+	// 결제 준비/승인 같은 POST 가 두 번 전송되지 않게 요청 메서드를 확인한다.
+	static class IdempotentRetryStrategy extends DefaultHttpRequestRetryStrategy {
+
+		IdempotentRetryStrategy(int maxRetries, TimeValue retryInterval) {
+			super(maxRetries, retryInterval);
+		}
+
+		@Override
+		public boolean retryRequest(HttpRequest request, IOException exception, int execCount, HttpContext context) {
+			return Method.isIdempotent(request.getMethod()) && super.retryRequest(request, exception, execCount, context);
+		}
+
+		@Override
+		public boolean retryRequest(HttpResponse response, int execCount, HttpContext context) {
+			HttpRequest request = HttpCoreContext.adapt(context).getRequest();
+			return request != null && Method.isIdempotent(request.getMethod())
+					&& super.retryRequest(response, execCount, context);
+		}
+	}
+	
 	@Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(RestTemplateBuilder builder, CloseableHttpClient httpClient) {
+        return builder
+        		.requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+        		.build();
     }
-}
\ No newline at end of file
+}
@@ -1,4 +1,6 @@
 package com.ex.security;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -6,23 +8,29 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import com.ex.service.MemberProfileCache;
 
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(prePostEnabled=true)
 public class SecurityConfig {
 	@Bean
-	SecurityFilterChain filterChain(HttpSecurity http) throws Exception{
+	SecurityFilterChain filterChain(HttpSecurity http, MemberProfileCache memberProfileCache) throws Exception{
         http.authorizeHttpRequests(
-                (authorizeHttpRequests) -> authorizeHttpRequests.requestMatchers("/**").permitAll())
+                (authorizeHttpRequests) -> authorizeHttpRequests
+                		// 운영 지표(/actuator/metrics 등)는 관리자만, 상태 확인(health)은 누구나
+                		.requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                		.requestMatchers(EndpointRequest.toAnyEndpoint()).hasRole("ADMIN")
+                		.requestMatchers("/**").permitAll())
                 .formLogin((formLogin) -> formLogin.loginPage("/members/login").defaultSuccessUrl("/"))
                 .logout((logout) -> logout.logoutRequestMatcher(new AntPathRequestMatcher("/members/logout"))
                 .logoutSuccessUrl("/").invalidateHttpSession(true))
-                .csrf(csrf -> csrf.disable());
+                .csrf(csrf -> csrf.disable())
+                // 직원 유형/지점이 바뀐 회원은 다음 요청에서 권한을 다시 만든다
+                .addFilterBefore(new MemberAuthorityRefreshFilter(memberProfileCache), AuthorizationFilter.class);
 		return http.build();
 	}
 	
@@ -30,9 +38,4 @@ public class SecurityConfig {
 	AuthenticationManager authenticationManager(AuthenticationConfiguration authenticationConfiguration) throws Exception{
 		return authenticationConfiguration.getAuthenticationManager();
 	}
-	
-	@Bean
-	PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
-	}
 }
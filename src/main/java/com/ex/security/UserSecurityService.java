@@ -1,22 +1,22 @@
 package com.ex.security;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import com.ex.data.MemberProfileDTO;
 import com.ex.entity.MembersEntity;
 import com.ex.repository.MembersRepository;
+import com.ex.service.MemberProfileCache;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
-public class UserSecurityService implements UserDetailsService {
+public class UserSecurityService implements UserDetailsService, UserDetailsPasswordService {
 	private final MembersRepository membersRepository;
+	private final MemberProfileCache memberProfileCache;
 	
 	@Override
 	public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException{
@@ -25,16 +25,20 @@ public class UserSecurityService implements UserDetailsService {
 			throw new RuntimeException("사용자를 찾을 수 없습니다.");
 		}
 		MembersEntity me = op.get();
-		List<GrantedAuthority> grantedList = new ArrayList<>();
-		if(username.startsWith("admin_")) {
-			grantedList.add(new SimpleGrantedAuthority("ROLE_ADMIN"));
-		}else if(username.startsWith("director_")){
-			grantedList.add(new SimpleGrantedAuthority("ROLE_DIRECTOR"));
-		}else if(username.startsWith("teacher_")) {
-			grantedList.add(new SimpleGrantedAuthority("ROLE_TEACHER"));
-		}else {
-			grantedList.add(new SimpleGrantedAuthority("ROLE_USER"));
-		}
-		return new User(me.getUsername(), me.getPassword(), grantedList);
+		// 권한은 회원 유형으로 정하고, 조회한 회원 정보는 인증 정보와 프로필 캐시에 담아 컨트롤러에서 다시 조회하지 않게 한다
+		return new MemberPrincipal(memberProfileCache.put(me), me.getPassword());
+	}
+	
+	// 로그인 성공 시 저장된 해시의 cost 가 설정값보다 낮으면 새 해시로 교체 (DaoAuthenticationProvider 가 호출)
+	@Override
+	@Transactional
+	public UserDetails updatePassword(UserDetails user, String newPassword) {
+		MembersEntity me = this.membersRepository.findByUsername(user.getUsername())
+				.orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
+		me.setPassword(newPassword);
+		this.membersRepository.save(me);
+		MemberProfileDTO profile = user instanceof MemberPrincipal principal
+				? principal.getProfile() : memberProfileCache.put(me);
+		return new MemberPrincipal(profile, newPassword);
 	}
 }
@@ -0,0 +1,47 @@
+package com.ex.security;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+// 가상 스레드 모드 (spring.threads.virtual.enabled=true, application-vthreads.properties)
+// 톰캣 요청, @Scheduled 작업은 스프링 부트가 가상 스레드로 실행하고, RestTemplate 외부 호출도 그 스레드에서 블로킹된다.
+// 요청 수만큼 DB 에 몰리지 않도록 Hikari 풀 앞에 ConnectionGuardDataSource 를 씌운다.
+// 업로드/사진 변환/비밀번호 해시 등 서비스별 스레드풀은 자원 보호용이므로 그대로 플랫폼 스레드로 둔다.
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+	private static final Logger logger = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+	@Bean
+	static BeanPostProcessor connectionGuardPostProcessor() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof HikariDataSource hikari) {
+					int max = hikari.getMaximumPoolSize();
+					logger.info("Virtual threads enabled: guarding DB pool '{}' at {} concurrent connections (timeout {}ms)",
+							hikari.getPoolName(), max, hikari.getConnectionTimeout());
+					return new ConnectionGuardDataSource(hikari, max, hikari.getConnectionTimeout());
+				}
+				return bean;
+			}
+		};
+	}
+
+	@Bean
+	MeterBinder connectionGuardMetrics(DataSource dataSource) {
+		return registry -> {
+			if (dataSource instanceof ConnectionGuardDataSource guard) {
+				Gauge.builder("db.connection.guard.waiting", guard, ConnectionGuardDataSource::getWaiting).register(registry);
+				Gauge.builder("db.connection.guard.in-use", guard, ConnectionGuardDataSource::getInUse).register(registry);
+			}
+		};
+	}
+}
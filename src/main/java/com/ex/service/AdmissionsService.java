@@ -1,14 +1,11 @@
 package com.ex.service;
 import java.util.Date;
 import java.util.List;
-import java.util.stream.Collectors;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import com.ex.data.AdmissionsDTO;
+import com.ex.data.CursorPageDTO;
 import com.ex.data.MonthcareGroupsDTO;
 import com.ex.entity.AdmissionsEntity;
 import com.ex.entity.BranchEntity;
@@ -16,7 +13,9 @@ import com.ex.entity.DogsEntity;
 import com.ex.entity.MembersEntity;
 import com.ex.entity.SubscriptionsEntity;
 import com.ex.repository.AdmissionsRepository;
+import com.ex.repository.AdmissionsSpecifications;
 import com.ex.repository.BranchesRepository;
+import com.ex.repository.CursorPaging;
 import com.ex.repository.DogsRepository;
 import com.ex.repository.MembersRepository;
 import jakarta.transaction.Transactional;
@@ -32,6 +31,7 @@ public class AdmissionsService {
     private final BranchesRepository branchRepository;
     private final MonthcareGroupsService monthcareGroupsService;
     private final MembersRepository membersRepository;
+    private final SeatReservationService seatReservationService;
    
     @Transactional
     public void createAdmission(AdmissionsDTO admissionDTO) {
@@ -49,6 +49,11 @@ public class AdmissionsService {
             MonthcareGroupsDTO groupDTO = monthcareGroupsService.getMonthGroup(admissionDTO.getMonthcaregroups().getId());
             log.info("Found monthcare group: {}", groupDTO);
 
+            // 정원이 찬 반은 신청 불가 (결제 시 좌석 예약으로 다시 확인)
+            if (!seatReservationService.hasVacancy(groupDTO.getId())) {
+                throw new RuntimeException("정원이 마감된 반입니다.");
+            }
+
             AdmissionsEntity ae = AdmissionsEntity.builder()
                 .dogs(dog)
                 .applicationDate(new Date())
@@ -121,18 +126,6 @@ public class AdmissionsService {
         admissionRepository.save(admission);
     }
 
-    public Page<AdmissionsDTO> getAllAdmissionsPaginated(int page) {
-        Pageable pageable = PageRequest.of(page, 10, Sort.by("admissionId").descending());
-        Page<AdmissionsEntity> entityPage = admissionRepository.findAll(pageable);
-        return entityPage.map(this::convertToDTO);
-    }
-
-    public Page<AdmissionsDTO> getAdmissionsByUsernamePaginated(String username, int page) {
-        Pageable pageable = PageRequest.of(page, 10, Sort.by("admissionId").descending());
-        Page<AdmissionsEntity> entityPage = admissionRepository.findByDogs_Member_Username(username, pageable);
-        return entityPage.map(this::convertToDTO);
-    }
-    
     public int checkPending(String status, Integer dog_id) {
         return admissionRepository.countByStatusAndDogs_DogId(status, dog_id);
     }
@@ -145,50 +138,34 @@ public class AdmissionsService {
         return monthcareGroupsService.getMonthcareGroupByBranch(branchId);
     }
     
-    public Page<AdmissionsDTO> getAdmissionsByBranchPaginated(Integer branchId, int page) {
-        Pageable pageable = PageRequest.of(page, 10, Sort.by("admissionId").descending());
-        Page<AdmissionsEntity> entityPage = admissionRepository.findByBranch_BranchId(branchId, pageable);
-        return entityPage.map(this::convertToDTO);
+    // 역할/상태 조건 커서 조회 (admissionId 내림차순, withTotal 이 false 이면 전체 건수 생략)
+    public CursorPageDTO<AdmissionsDTO> getAdmissionsByRoleCursor(String username, String status, String cursor,
+                                                                 int size, boolean withTotal) {
+        return CursorPaging.scroll(admissionRepository, roleSpecification(username, status),
+                Sort.by("admissionId").descending(), "admissionId", size, cursor, withTotal, this::convertToDTO);
     }
-    
-    public Page<AdmissionsDTO> getAdmissionsByRole(String username, int page, String status) {
-        // 페이지네이션과 정렬을 위한 Pageable 객체 생성. 페이지 크기는 10, admissionId 기준 내림차순 정렬
-        Pageable pageable = PageRequest.of(page, 10, Sort.by("admissionId").descending());
 
+    // 멤버의 사용자 유형(ADMIN, DIRECTOR, 일반 사용자 등)에 따른 조회 범위 + 상태 조건
+    private Specification<AdmissionsEntity> roleSpecification(String username, String status) {
         // 주어진 username으로 MembersEntity를 찾음. 없으면 RuntimeException 발생
         MembersEntity member = membersRepository.findByUsername(username)
             .orElseThrow(() -> new RuntimeException("Member not found"));
 
-        // 멤버의 사용자 유형(ADMIN, DIRECTOR, 일반 사용자 등) 가져오기
         String userType = member.getUserType();
-        Page<AdmissionsEntity> entityPage;
-
-        // 사용자 유형에 따라 다른 쿼리 실행
+        Specification<AdmissionsEntity> spec;
         if ("ADMIN".equals(userType)) {
             // 관리자는 모든 입학 신청서를 볼 수 있음
-            entityPage = admissionRepository.findAll(pageable);
+            spec = Specification.where(null);
         } else if ("DIRECTOR".equals(userType)) {
             // 디렉터는 자신의 지점의 입학 신청서만 볼 수 있음
-            entityPage = admissionRepository.findByBranch_BranchId(member.getBranchId(), pageable);
+            spec = AdmissionsSpecifications.inBranch(member.getBranchId());
         } else {
             // 일반 사용자는 자신의 입학 신청서만 볼 수 있음
-            entityPage = admissionRepository.findByDogs_Member_Username(username, pageable);
+            spec = AdmissionsSpecifications.ownedBy(username);
         }
 
         // 상태 필터링 (모든 사용자 유형에 적용)
-        if (status != null && !status.isEmpty()) {
-            // 상태가 지정된 경우, 해당 상태와 일치하는 입학 신청서만 필터링
-            List<AdmissionsEntity> filteredList = entityPage.getContent().stream()
-                .filter(admission -> admission.getStatus().equals(status))
-                .collect(Collectors.toList());
-
-            // 필터링된 리스트로 새로운 Page 객체를 생성하고 DTO로 변환하여 반환
-            return new PageImpl<>(filteredList, pageable, filteredList.size())
-                .map(this::convertToDTO);
-        }
-
-        // 상태 필터링이 없는 경우, 원래의 Page 객체를 DTO로 변환하여 반환
-        return entityPage.map(this::convertToDTO);
+        return spec.and(AdmissionsSpecifications.hasStatus(status));
     }
     
     public void setSubscription (SubscriptionsEntity subs, Integer admissonId) {
@@ -0,0 +1,25 @@
+package com.ex.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 트랜잭션 커밋 이후 실행 (캐시 제거, 워커 작업 전달 등)
+// 트랜잭션 안이면 커밋된 뒤에 실행하고 (롤백되면 실행하지 않음), 트랜잭션 밖이면 바로 실행한다.
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.ex.service;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.ex.data.MonthAttendanceTargetDTO;
+import com.ex.entity.AttendanceRolloverEntity;
+import com.ex.repository.AttendanceRolloverRepository;
+import com.ex.repository.SubscriptionsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 다음달 출석부 사전 생성 배치
+// 대상월 출석부가 아직 없는 활성 구독을 subscriptionId 순으로 청크 단위로 읽어 출석부를 일괄 생성한다.
+// 처리 대상은 id 위치가 아니라 "대상월 출석부 유무"로 고르므로, 중단 후 재실행하면 남은 구독만 처리되고
+// 나중에 대상이 된 구독(늦은 결제, 상태 변경)도 다음 실행 때 처리된다.
+// 구독/반배정 종료일은 바꾸지 않는다. 자동갱신 구독은 갱신 결제가 기록되어 종료일이 늘어난 뒤에 대상이 된다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttendanceRolloverService {
+
+	private static final int CHUNK_SIZE = 200;
+
+	private final SubscriptionsRepository subscriptionsRepository;
+	private final AttendanceRolloverRepository attendanceRolloverRepository;
+	private final AttendanceService attendanceService;
+	private final TransactionTemplate transactionTemplate;
+	private final SchedulerLockService schedulerLockService;
+
+	// 매일 새벽 2시 30분 다음달 출석부 생성 (아직 출석부가 없는 구독만 처리됨, 서버 한 대에서만 실행)
+	@Scheduled(cron = "0 30 2 * * ?")
+	public void rolloverNextMonth() {
+		schedulerLockService.runLocked("attendance-rollover", Duration.ofHours(1), Duration.ofMinutes(1),
+				() -> rollover(YearMonth.now().plusMonths(1)));
+	}
+
+	// 대상월 출석부 생성, 처리한 구독 수 반환
+	public int rollover(YearMonth month) {
+		long started = System.currentTimeMillis();
+		int processed = 0;
+		int afterId = 0;
+		List<MonthAttendanceTargetDTO> chunk;
+		do {
+			int from = afterId;
+			chunk = transactionTemplate.execute(status -> processChunk(month, from));
+			if (!chunk.isEmpty()) {
+				afterId = chunk.get(chunk.size() - 1).getSubscriptionId();
+			}
+			processed += chunk.size();
+		} while (chunk.size() == CHUNK_SIZE);
+		log.info("{} 출석부 사전 생성 완료: 구독 {}건 처리, {}ms", month, processed, System.currentTimeMillis() - started);
+		return processed;
+	}
+
+	// 구독 한 청크 처리 (출석부 생성, 진행 기록은 한 트랜잭션)
+	private List<MonthAttendanceTargetDTO> processChunk(YearMonth month, int afterId) {
+		List<MonthAttendanceTargetDTO> targets = subscriptionsRepository.findMonthAttendanceTargets(
+				afterId, month.atDay(1), month.atEndOfMonth(), PageRequest.of(0, CHUNK_SIZE));
+		if (targets.isEmpty()) {
+			return targets;
+		}
+
+		int created = attendanceService.createMonthAttendance(month, targets);
+
+		AttendanceRolloverEntity progress = attendanceRolloverRepository.findById(month.toString())
+				.orElseGet(() -> AttendanceRolloverEntity.builder()
+						.targetMonth(month.toString())
+						.processedCount(0)
+						.createdCount(0)
+						.build());
+		progress.setProcessedCount(progress.getProcessedCount() + targets.size());
+		progress.setCreatedCount(progress.getCreatedCount() + created);
+		progress.setUpdatedAt(LocalDateTime.now());
+		attendanceRolloverRepository.save(progress);
+		return targets;
+	}
+}
@@ -5,26 +5,30 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.ex.data.AdmissionsDTO;
 import com.ex.data.AttendanceDTO;
+import com.ex.data.AttendanceRosterDTO;
 import com.ex.data.DogsDTO;
+import com.ex.data.MonthAttendanceTargetDTO;
 import com.ex.entity.AttendanceEntity;
 import com.ex.entity.BranchEntity;
 import com.ex.entity.DogsEntity;
 import com.ex.entity.MembersEntity;
 import com.ex.entity.MonthcareGroupsEntity;
 import com.ex.entity.SubscriptionsEntity;
+import com.ex.repository.AttendanceBatchRepository;
 import com.ex.repository.AttendanceRepository;
 import com.ex.repository.BranchesRepository;
 import com.ex.repository.DogsRepository;
 import com.ex.repository.MembersRepository;
 import com.ex.repository.MonthcareGroupsRepository;
+import com.ex.repository.AttendanceRosterMapper;
 import com.ex.repository.TestMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -43,8 +47,10 @@ public class AttendanceService {
 	@Autowired
 	BranchesRepository branchesRepository;
 	private final AdmissionsService admissionsService;
+	private final AttendanceBatchRepository attendanceBatchRepository;
 	
 	private final TestMapper testMapper;
+	private final AttendanceRosterMapper attendanceRosterMapper;
 	
 	public List<AttendanceDTO> getAttendanceAll(){
 		List<AttendanceDTO> list = null;
@@ -84,29 +90,11 @@ public class AttendanceService {
 
 	
 	// 일자,지점1,반1 출석부 조회
-	public List<AttendanceDTO> getAttendanceByDateAndBranchOrMonthGroup( String username
-												, LocalDate attendancedate
-												, Integer branch, Integer monthgroup) {
+	public List<AttendanceRosterDTO> getAttendanceRoster(LocalDate attendancedate, Integer branch, Integer monthgroup) {
 		
-		// 선택된 반이 있다면 반id로 해당일자 출석부 조회
-		if(monthgroup != null) {
-			MonthcareGroupsEntity mge = new MonthcareGroupsEntity();
-			mge.setId(monthgroup);
-			return attendanceRepository.findByAttendancedateAndMonthgroup(attendancedate, mge)
-					.stream()
-					.map(this::convertToDTO)
-					.collect(Collectors.toList());
-			
-		// 선택된 반이 없다면 지점id로 해당일자 출석부 조회
-		}else {
-			BranchEntity be = new BranchEntity();
-			be.setBranchId(branch);
-			
-			return attendanceRepository.findByAttendancedateAndBranch(attendancedate, be)
-					.stream()
-					.map(this::convertToDTO)
-					.collect(Collectors.toList());
-		}
+		// 선택된 반이 있다면 반id로, 없다면 지점id로 해당일자 출석부 조회
+		// 반, 강아지, 알림장은 조인으로 화면에 필요한 컬럼만 가져온다 (행마다 연관 엔티티 조회 방지)
+		return attendanceRosterMapper.findRoster(attendancedate, branch, monthgroup);
     }
 	
 	
@@ -177,40 +165,108 @@ public class AttendanceService {
     }
 	
 
+    // 결제 완료 시 구독 시작월의 정규반 출석부 일괄 등록
+    // 지점/반 정보는 한 번만 조회하고, id 할당과 insert 는 각각 DB 왕복 1회로 처리한다.
+    @Transactional
     public void setMonthAttendance(SubscriptionsEntity subs, int admissionId) {
+    	BranchEntity branch;
+    	MonthcareGroupsEntity monthgroup;
+    	if (subs.getAdmissions() != null) {
+    		// 구독 생성 시 입학정보가 이미 로딩되어 있으므로 재조회하지 않음
+    		branch = subs.getAdmissions().getBranch();
+    		monthgroup = subs.getAdmissions().getMonthcaregroups();
+    	} else {
+    		AdmissionsDTO admissionDTO = admissionsService.getAdmissionById(admissionId);
+    		branch = admissionDTO.getBranch();
+    		monthgroup = admissionDTO.getMonthcaregroups();
+    	}
     	
-    	String dayOfWeekString = subs.getTicket().getDayofweek();
-        String[] dayOfWeekArray = dayOfWeekString.split(",");
-
-        LocalDate today = LocalDate.now();
-        YearMonth nextMonth = YearMonth.of(today.getYear(), today.plusMonths(1).getMonth());
-        LocalDate firstDayOfNextMonth = nextMonth.atDay(1);
-        LocalDate lastDayOfNextMonth = nextMonth.atEndOfMonth();
-
-        List<LocalDate> attendanceDates = new ArrayList<>();
-
-        for (LocalDate date = firstDayOfNextMonth; !date.isAfter(lastDayOfNextMonth); date = date.plusDays(1)) {
-            int dayOfWeekValue = date.getDayOfWeek().getValue();
-
-            if (Arrays.asList(dayOfWeekArray).contains(String.valueOf(dayOfWeekValue))) {
-                attendanceDates.add(date);
-            }
-        }
-        
-        AdmissionsDTO admissionDTO = admissionsService.getAdmissionById(admissionId);
-        MonthcareGroupsEntity me = admissionDTO.getMonthcaregroups();
-        
-        for (LocalDate attendanceDate : attendanceDates) {
-            AttendanceDTO attendanceDTO = new AttendanceDTO();
-            attendanceDTO.setAttendancedate(attendanceDate);
-            attendanceDTO.setStatus("PRESENT");
-            attendanceDTO.setNotes("");
-            attendanceDTO.setDog(subs.getDogs());
-            attendanceDTO.setBranch(admissionDTO.getBranch());
-            attendanceDTO.setMonthgroup(me);
-            
-            createAttendance(admissionDTO.getBranch().getBranchId(), attendanceDTO);
-        }
+    	MonthAttendanceTargetDTO target = MonthAttendanceTargetDTO.builder()
+    			.subscriptionId(subs.getSubscriptionId())
+    			.dogId(subs.getDogs().getDogId())
+    			.branchId(branch.getBranchId())
+    			.monthgroupId(monthgroup.getId())
+    			.dayofweek(subs.getTicket().getDayofweek())
+    			.build();
+    	YearMonth month = subs.getStartDate() != null ? YearMonth.from(subs.getStartDate()) : YearMonth.now().plusMonths(1);
+    	createMonthAttendance(month, List.of(target));
+    }
+    
+    
+    // 구독 목록의 해당월 출석부 일괄 등록 (결제 완료, 월 출석부 사전 생성 배치에서 사용)
+    // 이미 해당월 출석부가 있는 강아지/반은 건너뛰므로 재실행해도 중복 생성되지 않는다.
+    // 두 경로가 동시에 등록해도 유니크 인덱스에 걸리는 행은 insert 에서 건너뛴다. 실제 등록 건수 반환
+    @Transactional
+    public int createMonthAttendance(YearMonth month, List<MonthAttendanceTargetDTO> targets) {
+    	if (targets.isEmpty()) {
+    		return 0;
+    	}
+    	long started = System.nanoTime();
+    	
+    	List<Integer> dogIds = targets.stream().map(MonthAttendanceTargetDTO::getDogId).distinct().collect(Collectors.toList());
+    	Set<String> existing = attendanceRepository.findDogAndGroupIdsBetween(dogIds, month.atDay(1), month.atEndOfMonth())
+    			.stream()
+    			.map(row -> row[0] + ":" + row[1])
+    			.collect(Collectors.toSet());
+    	int roundTrips = 1;
+    	
+    	List<AttendanceEntity> rows = new ArrayList<>();
+    	for (MonthAttendanceTargetDTO target : targets) {
+    		if (!existing.add(target.getDogId() + ":" + target.getMonthgroupId())) {
+    			continue;
+    		}
+    		DogsEntity dog = new DogsEntity();
+    		dog.setDogId(target.getDogId());
+    		BranchEntity branch = new BranchEntity();
+    		branch.setBranchId(target.getBranchId());
+    		MonthcareGroupsEntity monthgroup = new MonthcareGroupsEntity();
+    		monthgroup.setId(target.getMonthgroupId());
+    		
+    		for (LocalDate attendanceDate : getAttendanceDates(target.getDayofweek(), month)) {
+    			rows.add(AttendanceEntity.builder()
+    					.attendancedate(attendanceDate)
+    					.status("PRESENT")
+    					.notes("")
+    					.dog(dog)
+    					.branch(branch)
+    					.monthgroup(monthgroup)
+    					.build());
+    		}
+    	}
+    	int inserted = insertAttendanceBatch(rows);
+    	roundTrips += rows.isEmpty() ? 0 : 2;
+    	
+    	// 행 단위 등록 시: 입학정보 조회 1회 + 행마다 (지점 조회 + 시퀀스 조회 + insert) 3회
+    	log.info("{} 출석부 일괄 등록: 구독 {}건, 출석부 {}건, DB 왕복 {}회 (행 단위 등록 시 {}회), {}ms",
+    			month, targets.size(), inserted, roundTrips, targets.size() + rows.size() * 3,
+    			(System.nanoTime() - started) / 1_000_000);
+    	return inserted;
+    }
+    
+    
+    // 이용권 요일(ex: "1,3,5")에 해당하는 해당월 날짜 목록
+    public List<LocalDate> getAttendanceDates(String dayOfWeekString, YearMonth month) {
+    	Set<String> dayOfWeeks = new HashSet<>(Arrays.asList(dayOfWeekString.split(",")));
+    	List<LocalDate> attendanceDates = new ArrayList<>();
+    	for (LocalDate date = month.atDay(1); !date.isAfter(month.atEndOfMonth()); date = date.plusDays(1)) {
+    		if (dayOfWeeks.contains(String.valueOf(date.getDayOfWeek().getValue()))) {
+    			attendanceDates.add(date);
+    		}
+    	}
+    	return attendanceDates;
+    }
+    
+    
+    // id 를 블록 단위로 미리 할당한 뒤 JDBC batch 로 저장 (DB 왕복 2회), 등록된 행 수 반환
+    private int insertAttendanceBatch(List<AttendanceEntity> rows) {
+    	if (rows.isEmpty()) {
+    		return 0;
+    	}
+    	List<Integer> ids = attendanceBatchRepository.allocateIds(rows.size());
+    	for (int i = 0; i < rows.size(); i++) {
+    		rows.get(i).setId(ids.get(i));
+    	}
+    	return attendanceBatchRepository.insertAll(rows);
     }
 	
 	
@@ -0,0 +1,33 @@
+package com.ex.service;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 크기가 고정된 작업 스레드풀 (업로드 저장, 사진 변환, 결제 후처리, 비밀번호 해시 공용)
+// 스레드 수는 workers 로 고정하고 대기열은 queueCapacity 까지만 받는다. 가득 차면 TaskRejectedException 이므로
+// 호출한 쪽에서 다른 경로(요청 스레드에서 처리, 폴러 재시도 등)로 처리한다.
+// 종료할 때는 대기 중인 작업을 awaitTerminationSeconds 까지 마저 처리한다.
+public final class BoundedExecutors {
+
+    private BoundedExecutors() {
+    }
+
+    public static ThreadPoolTaskExecutor create(String threadNamePrefix, int workers, int queueCapacity,
+                                                int awaitTerminationSeconds) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(awaitTerminationSeconds);
+        executor.initialize();
+        return executor;
+    }
+
+    // 대기열 길이({name}.queue.size)와 실행 중인 작업 수({name}.active) 게이지 등록
+    public static void monitor(ThreadPoolTaskExecutor executor, MeterRegistry meterRegistry, String name) {
+        meterRegistry.gauge(name + ".queue.size", executor, e -> e.getThreadPoolExecutor().getQueue().size());
+        meterRegistry.gauge(name + ".active", executor, ThreadPoolTaskExecutor::getActiveCount);
+    }
+}
@@ -0,0 +1,175 @@
+package com.ex.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+import com.ex.data.BranchesDTO;
+import com.ex.entity.BranchEntity;
+import com.ex.repository.BranchesRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 지점 디렉터리 (메모리 캐시)
+// 지점 정보는 거의 바뀌지 않으므로 전체 지점을 불변 스냅샷으로 들고 있고,
+// 지점 등록/수정/상태변경/삭제가 커밋된 뒤에 스냅샷을 통째로 다시 만들어 교체한다.
+// 지도 API 응답(JSON)과 ETag 도 스냅샷을 만들 때 미리 계산해 둔다.
+@Service
+public class BranchDirectory {
+    private static final Logger logger = LoggerFactory.getLogger(BranchDirectory.class);
+
+    private final BranchesRepository branchesRepository;
+    private final ObjectMapper objectMapper;
+    private final Counter hits;
+    private final Counter misses;
+
+    // 현재 스냅샷 (최초 조회 시 생성)
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+    private long version;
+    // 재생성은 한 번에 하나씩 (DB 조회 중 대기하므로 synchronized 대신 ReentrantLock : 가상 스레드 고정 방지)
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    public BranchDirectory(BranchesRepository branchesRepository, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.branchesRepository = branchesRepository;
+        this.objectMapper = objectMapper;
+        this.hits = meterRegistry.counter("branch.directory.lookup", "result", "hit");
+        this.misses = meterRegistry.counter("branch.directory.lookup", "result", "miss");
+    }
+
+    // 지점 스냅샷 (생성 후 변경되지 않음)
+    // 스냅샷의 DTO 는 모든 요청이 함께 읽는 값이므로 바꾸면 안 된다. 호출한 쪽에 넘길 때는 copy 로 복사해서 준다.
+    public static final class Snapshot {
+        private final long version;
+        private final Map<Integer, BranchesDTO> byId;      // 전체 지점 (지점ID 기준)
+        private final List<BranchesDTO> active;            // 활성 지점
+        private final byte[] activeJson;                   // 지도 API 응답 본문
+        private final String etag;
+
+        private Snapshot(long version, Map<Integer, BranchesDTO> byId, List<BranchesDTO> active, byte[] activeJson, String etag) {
+            this.version = version;
+            this.byId = byId;
+            this.active = active;
+            this.activeJson = activeJson;
+            this.etag = etag;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public Map<Integer, BranchesDTO> getById() {
+            return byId;
+        }
+
+        public List<BranchesDTO> getActive() {
+            return active;
+        }
+
+        public byte[] getActiveJson() {
+            return activeJson.clone();
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+    }
+
+    // 현재 스냅샷 조회 (없으면 DB에서 생성)
+    public Snapshot snapshot() {
+        Snapshot snapshot = current.get();
+        if (snapshot != null) {
+            hits.increment();
+            return snapshot;
+        }
+        misses.increment();
+        return rebuild();
+    }
+
+    // 활성 지점 목록 (복사본)
+    public List<BranchesDTO> getActiveBranches() {
+        return snapshot().getActive().stream().map(BranchDirectory::copy).toList();
+    }
+
+    // 전체 지점 목록 (복사본)
+    public List<BranchesDTO> getAllBranches() {
+        return snapshot().getById().values().stream().map(BranchDirectory::copy).collect(Collectors.toList());
+    }
+
+    // 스냅샷 DTO 복사 (호출한 쪽이 값을 바꿔도 스냅샷은 그대로)
+    public static BranchesDTO copy(BranchesDTO branch) {
+        return branch.toBuilder().build();
+    }
+
+    // 지점 이름 조회 (스냅샷에 없으면 DB 조회, DB 에 있으면 스냅샷이 뒤처진 것이므로 재생성)
+    // 없는 지점id 는 재생성하지 않는다.
+    public String getBranchName(Integer branchId) {
+        if (branchId == null) {
+            return null;
+        }
+        BranchesDTO branch = snapshot().getById().get(branchId);
+        if (branch != null) {
+            return branch.getBranchesName();
+        }
+        misses.increment();
+        String name = branchesRepository.findById(branchId).map(BranchEntity::getName).orElse(null);
+        if (name != null) {
+            rebuild();
+        }
+        return name;
+    }
+
+    // 지점 변경 알림 : 트랜잭션 안이면 커밋 이후, 아니면 즉시 스냅샷 재생성
+    public void invalidate() {
+        AfterCommit.run(this::rebuild);
+    }
+
+    // DB에서 전체 지점을 읽어 새 스냅샷으로 교체
+    private Snapshot rebuild() {
+        rebuildLock.lock();
+        try {
+            return doRebuild();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private Snapshot doRebuild() {
+        List<BranchEntity> entities = branchesRepository.findAll();
+        entities.sort(Comparator.comparing(BranchEntity::getBranchId));
+
+        Map<Integer, BranchesDTO> byId = new LinkedHashMap<>();
+        List<BranchesDTO> active = new ArrayList<>();
+        for (BranchEntity entity : entities) {
+            BranchesDTO dto = BranchesDTO.from(entity);
+            byId.put(dto.getBranchId(), dto);
+            if (Boolean.TRUE.equals(dto.getActive())) {
+                active.add(dto);
+            }
+        }
+
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(active);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("지점 목록 직렬화 실패", e);
+        }
+        String etag = "\"" + DigestUtils.md5DigestAsHex(json) + "\"";
+
+        Snapshot snapshot = new Snapshot(++version, Collections.unmodifiableMap(byId),
+                Collections.unmodifiableList(active), json, etag);
+        current.set(snapshot);
+        logger.info("Branch directory rebuilt: version={}, branches={}, active={}", snapshot.getVersion(), byId.size(), active.size());
+        return snapshot;
+    }
+}
@@ -0,0 +1,238 @@
+package com.ex.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import org.springframework.stereotype.Service;
+import com.ex.data.BranchesDTO;
+import com.ex.data.BranchesNearbyDTO;
+import lombok.RequiredArgsConstructor;
+
+// 가까운 지점 검색용 메모리 공간 인덱스
+// 활성 지점 좌표를 격자(grid) 셀 단위로 정렬한 double 배열로 들고 있고,
+// 검색 위치의 셀에서부터 바깥쪽으로 한 겹씩 넓혀가며 하버사인 거리로 순위를 매긴다.
+// 탐색은 지점이 있는 셀 범위 안으로 제한하고, 범위 밖 검색이거나 볼 셀이 지점 수보다 많아지면 전체 거리 계산(지점 수만큼)으로 바꾼다.
+// 지점 디렉터리 스냅샷 버전이 바뀌면(지점 변경 커밋 후) 다음 조회 때 다시 만든다.
+@Service
+@RequiredArgsConstructor
+public class BranchGeoIndex {
+
+    private static final double CELL_DEG = 0.05;          // 격자 한 칸 크기 (위도 기준 약 5.5km)
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEG = Math.PI * EARTH_RADIUS_KM / 180.0;
+
+    private final BranchDirectory branchDirectory;
+
+    private volatile Grid grid;
+
+    // 검색 위치에서 가까운 지점 k개 (radiusKm 가 있으면 반경 이내만)
+    public List<BranchesNearbyDTO> nearest(double lat, double lng, int k, Double radiusKm) {
+        Grid g = current();
+        if (g.size == 0 || k <= 0) {
+            return List.of();
+        }
+        double radius = radiusKm != null ? radiusKm : Double.POSITIVE_INFINITY;
+
+        // 거리 내림차순 힙 (가장 먼 후보가 맨 위) : 후보 인덱스를 k개까지만 유지
+        PriorityQueue<double[]> top = new PriorityQueue<>(Math.min(k, g.size) + 1, (a, b) -> Double.compare(b[0], a[0]));
+
+        int row = cell(lat);
+        int col = cell(lng);
+        if (row < g.minRow || row > g.maxRow || col < g.minCol || col > g.maxCol) {
+            // 지점들이 있는 범위 밖에서 검색하면 격자를 한 겹씩 넓혀도 빈 셀만 지나므로 전체를 거리 계산
+            scanAll(g, lat, lng, radius, k, top);
+        } else {
+            scanRings(g, lat, lng, row, col, radius, k, top);
+        }
+
+        List<double[]> ranked = new ArrayList<>(top);
+        ranked.sort((a, b) -> Double.compare(a[0], b[0]));
+        List<BranchesNearbyDTO> result = new ArrayList<>(ranked.size());
+        for (double[] hit : ranked) {
+            BranchesDTO branch = g.branches[(int) hit[1]];
+            result.add(BranchesNearbyDTO.builder()
+                    .branchId(branch.getBranchId())
+                    .branchesName(branch.getBranchesName())
+                    .address(branch.getAddress())
+                    .address2(branch.getAddress2())
+                    .phone(branch.getPhone())
+                    .latitude(branch.getLatitude())
+                    .longitude(branch.getLongitude())
+                    .distanceKm(Math.round(hit[0] * 1000) / 1000.0)
+                    .build());
+        }
+        return result;
+    }
+
+    // 검색 위치의 셀에서 바깥쪽으로 한 겹씩 탐색 (지점이 있는 범위 [minRow,maxRow]x[minCol,maxCol] 안의 셀만)
+    // 지금까지 본 셀 수가 지점 수를 넘으면 셀 조회가 전체 거리 계산보다 비싸므로 전체 계산으로 바꾼다
+    private static void scanRings(Grid g, double lat, double lng, int row, int col, double radius, int k,
+                                  PriorityQueue<double[]> top) {
+        // 검색 위치와 인덱스 전체를 포함하는 위도에서 경도 1도의 최소 거리 (경계 판정을 보수적으로)
+        double maxAbsLat = Math.min(89.0, Math.max(Math.abs(lat), g.maxAbsLat) + CELL_DEG);
+        double minKmPerCell = CELL_DEG * KM_PER_DEG * Math.cos(Math.toRadians(maxAbsLat));
+        long visited = 0;
+
+        for (int ring = 0; ; ring++) {
+            // ring 번째 겹의 셀에 있는 지점은 최소 (ring - 1) 칸 이상 떨어져 있음
+            double ringMinKm = Math.max(0, ring - 1) * minKmPerCell;
+            if (ringMinKm > radius) {
+                return;
+            }
+            if (top.size() == k && ringMinKm > top.peek()[0]) {
+                return;
+            }
+            int r0 = Math.max(row - ring, g.minRow), r1 = Math.min(row + ring, g.maxRow);
+            int c0 = Math.max(col - ring, g.minCol), c1 = Math.min(col + ring, g.maxCol);
+            visited = (long) (r1 - r0 + 1) * (c1 - c0 + 1);     // 지금까지 본 셀 수 (겹이 안쪽을 모두 포함)
+            if (visited > g.size) {
+                top.clear();
+                scanAll(g, lat, lng, radius, k, top);
+                return;
+            }
+            for (int r = r0; r <= r1; r++) {
+                if (r == row - ring || r == row + ring) {
+                    for (int c = c0; c <= c1; c++) {
+                        scanCell(g, r, c, lat, lng, radius, k, top);
+                    }
+                } else {
+                    if (col - ring >= c0) {
+                        scanCell(g, r, col - ring, lat, lng, radius, k, top);
+                    }
+                    if (col + ring <= c1) {
+                        scanCell(g, r, col + ring, lat, lng, radius, k, top);
+                    }
+                }
+            }
+            // 지점이 있는 범위를 모두 덮었으면 끝
+            if (r0 == g.minRow && r1 == g.maxRow && c0 == g.minCol && c1 == g.maxCol) {
+                return;
+            }
+        }
+    }
+
+    private static void scanCell(Grid g, int r, int c, double lat, double lng, double radius, int k,
+                                 PriorityQueue<double[]> top) {
+        int[] range = g.cells.get(key(r, c));
+        if (range != null) {
+            for (int i = range[0]; i < range[1]; i++) {
+                offer(top, k, haversineKm(lat, lng, g.lats[i], g.lngs[i]), i, radius);
+            }
+        }
+    }
+
+    // 모든 지점의 거리 계산 (지점 수만큼)
+    private static void scanAll(Grid g, double lat, double lng, double radius, int k, PriorityQueue<double[]> top) {
+        for (int i = 0; i < g.size; i++) {
+            offer(top, k, haversineKm(lat, lng, g.lats[i], g.lngs[i]), i, radius);
+        }
+    }
+
+    // 후보를 k개까지 유지하는 힙에 추가
+    private static void offer(PriorityQueue<double[]> top, int k, double d, int i, double radius) {
+        if (d > radius) {
+            return;
+        }
+        if (top.size() < k) {
+            top.add(new double[] { d, i });
+        } else if (d < top.peek()[0]) {
+            top.poll();
+            top.add(new double[] { d, i });
+        }
+    }
+
+    // 지점 디렉터리 스냅샷과 같은 버전의 격자 반환 (버전이 다르면 재생성)
+    private Grid current() {
+        BranchDirectory.Snapshot snapshot = branchDirectory.snapshot();
+        Grid g = grid;
+        if (g == null || g.version != snapshot.getVersion()) {
+            g = build(snapshot);
+            grid = g;
+        }
+        return g;
+    }
+
+    // 좌표가 있는 활성 지점으로 격자 생성 (셀 순서로 정렬한 뒤 셀별 [시작, 끝) 범위 기록)
+    private Grid build(BranchDirectory.Snapshot snapshot) {
+        List<BranchesDTO> located = new ArrayList<>();
+        for (BranchesDTO branch : snapshot.getActive()) {
+            if (branch.getLatitude() != null && branch.getLongitude() != null) {
+                located.add(branch);
+            }
+        }
+        int n = located.size();
+        long[] keys = new long[n];
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            BranchesDTO b = located.get(i);
+            keys[i] = key(cell(b.getLatitude()), cell(b.getLongitude()));
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(keys[a], keys[b]));
+
+        Grid g = new Grid(snapshot.getVersion(), n);
+        Map<Long, int[]> cells = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            BranchesDTO b = located.get(order[i]);
+            g.branches[i] = b;
+            g.lats[i] = b.getLatitude();
+            g.lngs[i] = b.getLongitude();
+            int row = cell(g.lats[i]);
+            int col = cell(g.lngs[i]);
+            g.minRow = Math.min(g.minRow, row);
+            g.maxRow = Math.max(g.maxRow, row);
+            g.minCol = Math.min(g.minCol, col);
+            g.maxCol = Math.max(g.maxCol, col);
+            g.maxAbsLat = Math.max(g.maxAbsLat, Math.abs(g.lats[i]));
+            int[] range = cells.computeIfAbsent(keys[order[i]], x -> new int[] { -1, -1 });
+            if (range[0] < 0) {
+                range[0] = i;
+            }
+            range[1] = i + 1;
+        }
+        g.cells = cells;
+        return g;
+    }
+
+    private static int cell(double deg) {
+        return (int) Math.floor(deg / CELL_DEG);
+    }
+
+    private static long key(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+
+    // 두 좌표 사이의 대원 거리 (km)
+    static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    // 격자 인덱스 (생성 후 변경되지 않음)
+    private static final class Grid {
+        final long version;
+        final int size;
+        final BranchesDTO[] branches;
+        final double[] lats;
+        final double[] lngs;
+        Map<Long, int[]> cells;
+        int minRow = Integer.MAX_VALUE, maxRow = Integer.MIN_VALUE;
+        int minCol = Integer.MAX_VALUE, maxCol = Integer.MIN_VALUE;
+        double maxAbsLat;
+
+        Grid(long version, int size) {
+            this.version = version;
+            this.size = size;
+            this.branches = new BranchesDTO[size];
+            this.lats = new double[size];
+            this.lngs = new double[size];
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.ex.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import com.ex.entity.BranchEntity;
+import com.ex.repository.BranchesRepository;
+import lombok.RequiredArgsConstructor;
+
+// 좌표가 없는 지점 일괄 재변환
+// 동시 요청 수(geocoding.batch.concurrency)와 초당 요청 수(geocoding.batch.rate-per-second)를 제한해
+// 지오코딩 API 호출 한도를 넘지 않도록 한다. 이미 변환한 주소는 좌표 캐시에서 바로 가져온다.
+@Service
+@RequiredArgsConstructor
+public class BranchRegeocodeService {
+    private static final Logger logger = LoggerFactory.getLogger(BranchRegeocodeService.class);
+
+    private final BranchesRepository branchesRepository;
+    private final KakaoApiService kakaoApiService;
+    private final BranchDirectory branchDirectory;
+
+    @Value("${geocoding.batch.concurrency:4}")
+    private int concurrency;
+
+    @Value("${geocoding.batch.rate-per-second:10}")
+    private int ratePerSecond;
+
+    // 다음 요청이 허용되는 시각 (System.nanoTime 기준)
+    private final Object rateLock = new Object();
+    private long nextPermitNanos;
+
+    // 재변환은 한 번에 하나씩 (외부 API 대기 중 잡고 있으므로 synchronized 대신 ReentrantLock : 가상 스레드 고정 방지)
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    // 좌표가 없는 지점을 모두 재변환하고 결과 요약 반환 (total, updated, failed)
+    // 이미 진행 중이면 기다리지 않고 IllegalStateException (요청 스레드가 재변환이 끝날 때까지 묶이지 않게)
+    public Map<String, Integer> regeocodeMissing() {
+        if (!runLock.tryLock()) {
+            throw new IllegalStateException("지점 좌표 재변환이 이미 진행 중입니다.");
+        }
+        try {
+            return doRegeocodeMissing();
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    private Map<String, Integer> doRegeocodeMissing() {
+        List<BranchEntity> targets = branchesRepository.findByLatitudeIsNullOrLongitudeIsNull();
+        AtomicInteger updated = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        long started = System.currentTimeMillis();
+
+        if (!targets.isEmpty()) {
+            ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, concurrency));
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (BranchEntity branch : targets) {
+                    futures.add(executor.submit(() -> {
+                        try {
+                            acquire();
+                            Map<String, Double> coordinates = kakaoApiService.getCoordinatesFromAddress(
+                                    branch.getPostCode(), branch.getAddress(), branch.getAddress2());
+                            branchesRepository.updateCoordinates(branch.getBranchId(),
+                                    BigDecimal.valueOf(coordinates.get("latitude")).setScale(8, RoundingMode.HALF_UP),
+                                    BigDecimal.valueOf(coordinates.get("longitude")).setScale(8, RoundingMode.HALF_UP));
+                            updated.incrementAndGet();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            failed.incrementAndGet();
+                        } catch (Exception e) {
+                            logger.warn("Failed to geocode branch {}: {}", branch.getBranchId(), e.getMessage());
+                            failed.incrementAndGet();
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                logger.error("Branch re-geocoding aborted: {}", e.getMessage(), e);
+            } finally {
+                executor.shutdownNow();
+            }
+            if (updated.get() > 0) {
+                branchDirectory.invalidate();
+            }
+        }
+
+        logger.info("Branch re-geocoding finished: total={}, updated={}, failed={}, {}ms",
+                targets.size(), updated.get(), failed.get(), System.currentTimeMillis() - started);
+        Map<String, Integer> result = new LinkedHashMap<>();
+        result.put("total", targets.size());
+        result.put("updated", updated.get());
+        result.put("failed", failed.get());
+        return result;
+    }
+
+    // 초당 요청 수 제한 : 요청 간격을 1/rate 초로 맞춘다 (대기는 잠금 밖에서)
+    private void acquire() throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, ratePerSecond);
+        long waitNanos;
+        synchronized (rateLock) {
+            long now = System.nanoTime();
+            long permitAt = Math.max(now, nextPermitNanos);
+            nextPermitNanos = permitAt + intervalNanos;
+            waitNanos = permitAt - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.ex.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import org.springframework.stereotype.Service;
+import com.ex.data.BranchesDTO;
+import com.ex.data.BranchesListResponseDTO;
+import lombok.RequiredArgsConstructor;
+
+// 지점 검색용 메모리 역색인
+// 지점명/주소/상세주소/우편번호/전화번호를 정규화한 뒤 1-gram, 2-gram 으로 잘라 색인한다.
+// (한글 주소는 띄어쓰기가 일정하지 않아 형태소 대신 글자 단위 n-gram 이 부분 일치에 유리)
+// 검색어의 모든 2-gram 을 포함하는 지점만 후보로 뽑고, 실제 포함 여부를 확인한 뒤
+// 필드 가중치와 일치 유형(전체 > 접두 > 부분)으로 점수를 매긴다.
+// 지점 디렉터리 스냅샷 버전이 바뀌면(지점 변경 커밋 후) 다음 검색 때 다시 만든다.
+@Service
+@RequiredArgsConstructor
+public class BranchSearchIndex {
+
+    private static final int GRAM = 2;
+
+    // 색인 필드 : 이름, 주소, 상세주소, 우편번호, 전화번호 순
+    private static final List<Function<BranchesDTO, String>> FIELDS = List.of(
+            BranchesDTO::getBranchesName,
+            BranchesDTO::getAddress,
+            BranchesDTO::getAddress2,
+            BranchesDTO::getPostCode,
+            BranchesDTO::getPhone);
+    private static final int[] FIELD_WEIGHTS = { 10, 4, 3, 2, 2 };
+
+    private final BranchDirectory branchDirectory;
+
+    private volatile Index index;
+
+    // 검색어로 지점 검색 후 페이지 단위로 반환
+    // sortBy 가 relevance 이면 점수순, 그 외에는 해당 필드 정렬 (같은 값이면 점수순)
+    // 검색어가 비어 있으면 점수가 없으므로 relevance 대신 이름순
+    public BranchesListResponseDTO search(String term, int page, int size, String sortBy, String sortDir, boolean activeOnly) {
+        if (sortBy == null) {
+            sortBy = "relevance";       // 컨트롤러 기본값을 거치지 않고 호출한 경우
+        }
+        Index idx = current();
+        String query = normalize(term);
+
+        // 검색어가 비어 있으면 (이전 LIKE 검색과 같이) 전체 지점을 점수 0 으로 반환
+        List<int[]> hits = new ArrayList<>();  // {문서 번호, 점수}
+        if (query.isEmpty()) {
+            for (int doc = 0; doc < idx.branches.length; doc++) {
+                if (!activeOnly || Boolean.TRUE.equals(idx.branches[doc].getActive())) {
+                    hits.add(new int[] { doc, 0 });
+                }
+            }
+        } else {
+            for (int doc : candidates(idx, query)) {
+                BranchesDTO branch = idx.branches[doc];
+                if (activeOnly && !Boolean.TRUE.equals(branch.getActive())) {
+                    continue;
+                }
+                int score = score(idx.fields[doc], query);
+                if (score > 0) {
+                    hits.add(new int[] { doc, score });
+                }
+            }
+        }
+
+        Comparator<int[]> byScore = Comparator.comparingInt((int[] h) -> h[1]).reversed();
+        Comparator<int[]> order;
+        if ("relevance".equalsIgnoreCase(sortBy) && !query.isEmpty()) {
+            order = byScore;
+        } else {
+            Comparator<BranchesDTO> field = fieldComparator(sortBy);
+            if ("desc".equalsIgnoreCase(sortDir)) {
+                field = field.reversed();
+            }
+            Comparator<BranchesDTO> fieldOrder = field;
+            order = Comparator.<int[], BranchesDTO>comparing(h -> idx.branches[h[0]], fieldOrder).thenComparing(byScore);
+        }
+        hits.sort(order.thenComparingInt(h -> idx.branches[h[0]].getBranchId()));
+
+        int pageSize = Math.max(1, size);
+        int from = Math.min(Math.max(0, page) * pageSize, hits.size());
+        int to = Math.min(from + pageSize, hits.size());
+        List<BranchesDTO> content = new ArrayList<>(to - from);
+        for (int[] hit : hits.subList(from, to)) {
+            content.add(BranchDirectory.copy(idx.branches[hit[0]]));
+        }
+
+        return BranchesListResponseDTO.builder()
+                .branches(content)
+                .totalPages((hits.size() + pageSize - 1) / pageSize)
+                .totalElements((long) hits.size())
+                .currentPage(Math.max(0, page))
+                .hasNext(to < hits.size())
+                .build();
+    }
+
+    // 검색어의 모든 n-gram 을 가진 문서 (posting 목록 교집합)
+    private int[] candidates(Index idx, String query) {
+        Set<String> grams = queryGrams(query);
+        int[] result = null;
+        for (String gram : grams) {
+            int[] postings = idx.postings.get(gram);
+            if (postings == null) {
+                return new int[0];
+            }
+            result = (result == null) ? postings : intersect(result, postings);
+            if (result.length == 0) {
+                break;
+            }
+        }
+        return result == null ? new int[0] : result;
+    }
+
+    // 필드별 최고 일치 점수 합계 (전체 일치 x3, 접두 일치 x2, 부분 일치 x1)
+    private int score(String[] fields, String query) {
+        int score = 0;
+        for (int f = 0; f < fields.length; f++) {
+            String value = fields[f];
+            if (value.isEmpty()) {
+                continue;
+            }
+            if (value.equals(query)) {
+                score += FIELD_WEIGHTS[f] * 3;
+            } else if (value.startsWith(query)) {
+                score += FIELD_WEIGHTS[f] * 2;
+            } else if (value.contains(query)) {
+                score += FIELD_WEIGHTS[f];
+            }
+        }
+        return score;
+    }
+
+    // 지점 디렉터리 스냅샷과 같은 버전의 색인 반환 (버전이 다르면 재생성)
+    private Index current() {
+        BranchDirectory.Snapshot snapshot = branchDirectory.snapshot();
+        Index idx = index;
+        if (idx == null || idx.version != snapshot.getVersion()) {
+            idx = build(snapshot);
+            index = idx;
+        }
+        return idx;
+    }
+
+    private Index build(BranchDirectory.Snapshot snapshot) {
+        List<BranchesDTO> all = new ArrayList<>(snapshot.getById().values());
+        int n = all.size();
+        BranchesDTO[] branches = all.toArray(new BranchesDTO[0]);
+        String[][] fields = new String[n][];
+        Map<String, List<Integer>> building = new HashMap<>();
+
+        for (int doc = 0; doc < n; doc++) {
+            fields[doc] = new String[FIELDS.size()];
+            Set<String> docGrams = new LinkedHashSet<>();
+            for (int f = 0; f < FIELDS.size(); f++) {
+                String value = normalize(FIELDS.get(f).apply(branches[doc]));
+                fields[doc][f] = value;
+                docGrams.addAll(indexGrams(value));
+            }
+            for (String gram : docGrams) {
+                building.computeIfAbsent(gram, g -> new ArrayList<>()).add(doc);
+            }
+        }
+
+        // 문서 번호는 오름차순으로 추가되므로 posting 목록은 정렬된 상태
+        Map<String, int[]> postings = new HashMap<>(building.size() * 2);
+        building.forEach((gram, docs) -> postings.put(gram, docs.stream().mapToInt(Integer::intValue).toArray()));
+        return new Index(snapshot.getVersion(), branches, fields, postings);
+    }
+
+    // 색인용 gram 집합 : 한 글자 검색을 위해 1-gram 과 n-gram 을 함께 색인
+    private static Set<String> indexGrams(String value) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i < value.length(); i++) {
+            grams.add(value.substring(i, i + 1));
+        }
+        grams.addAll(queryGrams(value));
+        return grams;
+    }
+
+    // 검색용 gram 집합 : n-gram (n보다 짧으면 문자열 자체)
+    private static Set<String> queryGrams(String value) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (value.isEmpty()) {
+            return grams;
+        }
+        if (value.length() < GRAM) {
+            grams.add(value);
+            return grams;
+        }
+        for (int i = 0; i + GRAM <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    // 색인/검색 공통 정규화 (NFKC, 소문자, 공백과 '-' 제거 : "서울 강남구" = "서울강남구", "010-1234" = "0101234")
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(value, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return normalized.replaceAll("[\\s\\-]+", "");
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, k);
+    }
+
+    // 정렬 필드 (기존 검색 API 의 sortBy 값과 동일한 엔티티 필드명 사용, 그 외/없으면 이름순)
+    private static Comparator<BranchesDTO> fieldComparator(String sortBy) {
+        switch (sortBy == null ? "name" : sortBy) {
+            case "branchId":
+                return Comparator.comparing(BranchesDTO::getBranchId, Comparator.nullsLast(Comparator.naturalOrder()));
+            case "address":
+                return Comparator.comparing(BranchesDTO::getAddress, Comparator.nullsLast(Comparator.naturalOrder()));
+            case "postCode":
+                return Comparator.comparing(BranchesDTO::getPostCode, Comparator.nullsLast(Comparator.naturalOrder()));
+            case "phone":
+                return Comparator.comparing(BranchesDTO::getPhone, Comparator.nullsLast(Comparator.naturalOrder()));
+            case "active":
+                return Comparator.comparing(BranchesDTO::getActive, Comparator.nullsLast(Comparator.naturalOrder()));
+            case "name":
+            default:
+                return Comparator.comparing(BranchesDTO::getBranchesName, Comparator.nullsLast(Comparator.naturalOrder()));
+        }
+    }
+
+    // 역색인 (생성 후 변경되지 않음)
+    private static final class Index {
+        final long version;
+        final BranchesDTO[] branches;
+        final String[][] fields;            // 문서별 정규화된 필드 값
+        final Map<String, int[]> postings;  // n-gram -> 정렬된 문서 번호
+
+        Index(long version, BranchesDTO[] branches, String[][] fields, Map<String, int[]> postings) {
+            this.version = version;
+            this.branches = branches;
+            this.fields = fields;
+            this.postings = postings;
+        }
+    }
+}
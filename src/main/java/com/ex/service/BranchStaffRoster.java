@@ -0,0 +1,63 @@
+package com.ex.service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import com.ex.data.MembersDTO;
+import com.ex.repository.MembersRepository;
+
+// 지점별 직원 명단 캐시 (반 생성/수정 화면의 선생님 선택 목록 등)
+// 지점+유형 인덱스로 해당 지점 직원만 조회하므로 전체 회원 수와 무관하게 지점 직원 수만큼만 읽는다.
+// 직원 등록/수정/유형 변경/비활성화 시 evict 로 지우고, 트랜잭션 안이면 커밋 후에 한 번 더 지운다.
+@Component
+public class BranchStaffRoster {
+    private static final List<String> STAFF_TYPES = List.of("TEACHER", "DIRECTOR", "ADMIN");
+
+    private final MembersRepository membersRepository;
+
+    // 지점 id -> 직원 명단
+    private final TtlCache<Integer, List<MembersDTO>> cache;
+
+    @Value("${staff.roster.ttl:10m}")
+    private Duration ttl;
+
+    public BranchStaffRoster(MembersRepository membersRepository) {
+        this.membersRepository = membersRepository;
+        this.cache = new TtlCache<>(() -> ttl);
+    }
+
+    // 지점 직원 명단 (이름순)
+    public List<MembersDTO> staff(Integer branchId) {
+        if (branchId == null) {
+            return Collections.emptyList();
+        }
+        return cache.getOrLoad(branchId, this::load);
+    }
+
+    private List<MembersDTO> load(Integer branchId) {
+        return membersRepository.findByBranchIdAndUserTypeInOrderByNameAsc(branchId, STAFF_TYPES)
+                .stream()
+                .map(m -> MembersDTO.builder()
+                        .memberId(m.getMemberId())
+                        .username(m.getUsername())
+                        .name(m.getName())
+                        .userType(m.getUserType())
+                        .branchId(m.getBranchId())
+                        .build())
+                .toList();
+    }
+
+    // 지점 선생님 명단
+    public List<MembersDTO> teachers(Integer branchId) {
+        return staff(branchId).stream()
+                .filter(m -> "TEACHER".equals(m.getUserType()))
+                .toList();
+    }
+
+    // 직원 정보 변경 시 관련 지점 명단 삭제 (변경 전/후 지점)
+    public void evict(Integer... branchIds) {
+        cache.evict(branchIds);
+    }
+}
@@ -4,18 +4,22 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.ex.data.BranchesDTO;
 import com.ex.data.BranchesListResponseDTO;
+import com.ex.data.CursorPageDTO;
 import com.ex.entity.BranchEntity;
 import com.ex.repository.BranchesRepository;
+import com.ex.repository.CursorPaging;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 
@@ -25,11 +29,17 @@ import lombok.RequiredArgsConstructor;
 public class BranchesService {
    // 로깅을 위한 Logger 객체 생성
    private static final Logger logger = LoggerFactory.getLogger(BranchesService.class);
+   // 목록 조회에서 허용하는 정렬키 (검색 API 의 sortBy 와 같은 엔티티 필드명)
+   private static final Set<String> SORTABLE = Set.of("branchId", "name", "postCode", "address", "phone", "active");
    
    // 브랜치 데이터를 데이터베이스에서 조작하기 위한 리포지토리
    private final BranchesRepository branchesRepository;
    // 카카오 API를 사용하기 위한 서비스
     private final KakaoApiService kakaoApiService; 
+    // 지점 디렉터리 캐시 (지점 변경 시 커밋 후 재생성)
+    private final BranchDirectory branchDirectory;
+    // 지점 검색 역색인 (지점 디렉터리 스냅샷 기준으로 재생성)
+    private final BranchSearchIndex branchSearchIndex;
  
     // 새로운 브랜치를 등록하는 메서드
     @Transactional // 데이터베이스 트랜잭션을 보장합니다.
@@ -50,62 +60,27 @@ public class BranchesService {
         BranchEntity branch = convertToEntity(branchesDTO);
         // 데이터베이스에 저장
         BranchEntity savedBranch = branchesRepository.save(branch);
+        branchDirectory.invalidate();
         
         // 저장된 엔티티를 다시 DTO로 변환하여 반환
-        return convertToDTO(savedBranch);
+        return BranchesDTO.from(savedBranch);
     }
 
-    // 활성 상태와 이름으로 정렬된 브랜치 목록을 반환하는 메서드
-    public BranchesListResponseDTO listBranchesSortedByActiveAndName(int page, int size) {
+    // 활성 상태와 이름으로 정렬된 브랜치 목록을 반환하는 메서드 (관리자 화면, 커서 조회)
+    public BranchesListResponseDTO listBranchesSortedByActiveAndName(String cursor, int size) {
         // 정렬 기준 설정: 활성 상태 내림차순, 이름 오름차순
         Sort sort = Sort.by(Sort.Order.desc("active"), Sort.Order.asc("name"));
-        PageRequest pageRequest = PageRequest.of(page, size, sort);
-
-        // 페이지네이션과 정렬을 적용하여 브랜치 조회
-        Page<BranchEntity> branchPage = branchesRepository.findAll(pageRequest);
-
-        // 엔티티를 DTO로 변환
-        List<BranchesDTO> branchesDTOs = branchPage.getContent().stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
-
-        // 응답 DTO 생성 및 반환
-        return BranchesListResponseDTO.builder()
-                .branches(branchesDTOs)
-                .totalPages(branchPage.getTotalPages())
-                .totalElements(branchPage.getTotalElements())
-                .currentPage(branchPage.getNumber())
-                .build();
+        return scrollBranches(cursor, size, sort, false, true);
     }
     
     // 모든 활성 브랜치를 조회하는 메서드
     public List<BranchesDTO> getAllActiveBranches() {
-        return branchesRepository.findByActiveTrue().stream()
-                                  .map(this::convertToDTO)
-                                  .collect(Collectors.toList());
+        return branchDirectory.getActiveBranches();
     }
 
-    // 브랜치를 검색하는 메서드
+    // 브랜치를 검색하는 메서드 (메모리 역색인 사용, DB 조회 없음)
     public BranchesListResponseDTO searchBranches(String term, int page, int size, String sortBy, String sortDir, Boolean activeOnly) {
-        // 정렬 설정
-        Sort sort = Sort.by(sortDir.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC, sortBy);
-        PageRequest pageRequest = PageRequest.of(page, size, sort);
-
-        // 검색 조건에 따라 브랜치 조회
-        Page<BranchEntity> branchPage = branchesRepository.searchBranches(term, activeOnly, pageRequest);
-
-        // 엔티티를 DTO로 변환
-        List<BranchesDTO> branchesDTOs = branchPage.getContent().stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
-
-        // 응답 DTO 생성 및 반환
-        return BranchesListResponseDTO.builder()
-            .branches(branchesDTOs)
-            .totalPages(branchPage.getTotalPages())
-            .totalElements(branchPage.getTotalElements())
-            .currentPage(branchPage.getNumber())
-            .build();
+        return branchSearchIndex.search(term, page, size, sortBy, sortDir, Boolean.TRUE.equals(activeOnly));
     }
 
     // 브랜치 정보를 업데이트하는 메서드
@@ -132,15 +107,17 @@ public class BranchesService {
         }
 
         // 업데이트된 브랜치 저장 및 반환
-        return branchesRepository.save(branch);
+        BranchEntity savedBranch = branchesRepository.save(branch);
+        branchDirectory.invalidate();
+        return savedBranch;
     }
 
     // 브랜치 목록을 조회하는 메서드
     public BranchesListResponseDTO listBranches(int page, int size, String sortBy, String sortDir, boolean activeOnly) {
         logger.info("Listing branches: page={}, size={}, sortBy={}, sortDir={}, activeOnly={}", page, size, sortBy, sortDir, activeOnly);
         
-        // 정렬 설정
-        Sort sort = Sort.by(sortDir.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC, sortBy);
+        // 정렬 설정 (허용되지 않은 정렬키는 IllegalArgumentException)
+        Sort sort = CursorPaging.sort(sortBy, sortDir, SORTABLE);
         PageRequest pageRequest = PageRequest.of(page, size, sort);
 
         Page<BranchEntity> branchPage;
@@ -153,7 +130,7 @@ public class BranchesService {
 
         // 엔티티를 DTO로 변환
         List<BranchesDTO> branchesDTOs = branchPage.getContent().stream()
-            .map(this::convertToDTO)
+            .map(BranchesDTO::from)
             .collect(Collectors.toList());
 
         logger.info("Found {} branches", branchesDTOs.size());
@@ -164,6 +141,32 @@ public class BranchesService {
                 .totalPages(branchPage.getTotalPages())
                 .totalElements(branchPage.getTotalElements())
                 .currentPage(branchPage.getNumber())
+                .hasNext(branchPage.hasNext())
+                .build();
+    }
+
+    // 브랜치 목록 커서 조회 (정렬키 + branchId 로 키셋 조회, withTotal 이 false 이면 전체 건수 생략)
+    public BranchesListResponseDTO listBranches(String cursor, int size, String sortBy, String sortDir,
+                                                boolean activeOnly, boolean withTotal) {
+        return scrollBranches(cursor, size, CursorPaging.sort(sortBy, sortDir, SORTABLE), activeOnly, withTotal);
+    }
+
+    private BranchesListResponseDTO scrollBranches(String cursor, int size, Sort sort, boolean activeOnly,
+                                                   boolean withTotal) {
+        Specification<BranchEntity> spec = activeOnly
+                ? (root, query, cb) -> cb.isTrue(root.get("active"))
+                : Specification.where(null);
+
+        CursorPageDTO<BranchesDTO> page = CursorPaging.scroll(branchesRepository, spec, sort, "branchId",
+                size, cursor, withTotal, BranchesDTO::from);
+
+        Long total = page.getTotalElements();
+        return BranchesListResponseDTO.builder()
+                .branches(page.getContent())
+                .totalPages(total != null ? (int) ((total + page.getSize() - 1) / page.getSize()) : 0)
+                .totalElements(total)
+                .hasNext(page.isHasNext())
+                .nextCursor(page.getNextCursor())
                 .build();
     }
 
@@ -174,6 +177,7 @@ public class BranchesService {
                 .orElseThrow(() -> new EntityNotFoundException("Branch not found with id: " + id));
         branch.setActive(!branch.getActive());
         branchesRepository.save(branch);
+        branchDirectory.invalidate();
     }
 
     // 브랜치를 삭제하는 메서드
@@ -183,13 +187,14 @@ public class BranchesService {
             throw new EntityNotFoundException("Branch not found with id: " + id);
         }
         branchesRepository.deleteById(id);
+        branchDirectory.invalidate();
     }
 
     // ID로 브랜치를 조회하는 메서드
     @Transactional(readOnly = true)
     public BranchesDTO getBranchById(Integer id) {
         return branchesRepository.findById(id)
-                .map(this::convertToDTO)
+                .map(BranchesDTO::from)
                 .orElseThrow(() -> new EntityNotFoundException("Branch not found with id: " + id));
     }
 
@@ -210,21 +215,6 @@ public class BranchesService {
                 .build();
     }
 
-    // 엔티티를 DTO로 변환하는 private 메서드
-    private BranchesDTO convertToDTO(BranchEntity entity) {
-        return BranchesDTO.builder()
-                .branchId(entity.getBranchId())
-                .branchesName(entity.getName())
-                .postCode(entity.getPostCode())
-                .address(entity.getAddress())
-                .address2(entity.getAddress2())
-                .phone(entity.getPhone())
-                .active(entity.getActive())
-                .latitude(entity.getLatitude() != null ? entity.getLatitude().doubleValue() : null)
-                .longitude(entity.getLongitude() != null ? entity.getLongitude().doubleValue() : null)
-                .build();
-    }
-
     // 브랜치 엔티티의 필드를 업데이트하는 private 메서드
     private void updateBranchFields(BranchEntity branch, BranchesDTO dto, Map<String, Double> coordinates) {
         branch.setName(dto.getBranchesName());
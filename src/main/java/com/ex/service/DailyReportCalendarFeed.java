@@ -0,0 +1,162 @@
+package com.ex.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+import com.ex.data.CalendarEventDTO;
+import com.ex.entity.MembersEntity;
+import com.ex.repository.DailyReportsRepository;
+import com.ex.repository.MembersRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 견주별 알림장 캘린더 피드 (메모리 캐시)
+// FullCalendar 가 보이는 기간(start~end)만 요청하므로 (견주, 월) 단위로 이벤트 목록을 캐시하고
+// 기간에 걸친 월들을 모아 응답한다. 월별 ETag 를 미리 계산해 두어 변경이 없으면 304 로 응답할 수 있다.
+// 알림장이 등록되면 해당 (견주, 월) 항목만 제거한다.
+@Service
+public class DailyReportCalendarFeed {
+
+    // 한 번에 조회할 수 있는 최대 기간 (월 보기는 최대 6주)
+    private static final long MAX_RANGE_DAYS = 62;
+
+    private final DailyReportsRepository dailyReportsRepository;
+    private final MembersRepository membersRepository;
+    private final ObjectMapper objectMapper;
+
+    // (memberId:yyyy-MM) -> 월별 이벤트
+    private final TtlCache<String, MonthEvents> cache;
+
+    @Value("${calendar.feed.cache-size:5000}")
+    private int maxEntries;
+
+    @Value("${calendar.feed.ttl:30m}")
+    private Duration ttl;
+
+    public DailyReportCalendarFeed(DailyReportsRepository dailyReportsRepository, MembersRepository membersRepository,
+                                   ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.dailyReportsRepository = dailyReportsRepository;
+        this.membersRepository = membersRepository;
+        this.objectMapper = objectMapper;
+        this.cache = new TtlCache<String, MonthEvents>(() -> ttl, () -> maxEntries)
+                .recordStats(meterRegistry, "calendar.feed.lookup");
+    }
+
+    // 응답 (이벤트, ETag, 마지막 변경시각 : 알림장이 없으면 0)
+    public static final class Feed {
+        private final List<CalendarEventDTO> events;
+        private final String etag;
+        private final long lastModified;
+
+        private Feed(List<CalendarEventDTO> events, String etag, long lastModified) {
+            this.events = events;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+
+        public List<CalendarEventDTO> getEvents() {
+            return events;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public long getLastModified() {
+            return lastModified;
+        }
+    }
+
+    // 월별 이벤트 (생성 후 변경되지 않음)
+    private static final class MonthEvents {
+        final List<CalendarEventDTO> events;
+        final String etag;
+        final long lastModified;    // 그 달 알림장의 마지막 변경시각 (초 단위, 알림장이 없으면 0)
+
+        MonthEvents(List<CalendarEventDTO> events, String etag, long lastModified) {
+            this.events = events;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+    }
+
+    // 로그인 사용자의 [start, end) 기간 알림장 이벤트
+    public Feed feed(String username, LocalDate start, LocalDate end) {
+        if (!start.isBefore(end) || ChronoUnit.DAYS.between(start, end) > MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("조회 기간이 올바르지 않습니다.");
+        }
+        MembersEntity member = membersRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("Member not found"));
+
+        List<CalendarEventDTO> events = new ArrayList<>();
+        StringBuilder tag = new StringBuilder().append(start).append('~').append(end);
+        long lastModified = 0;
+        for (YearMonth month = YearMonth.from(start); !month.atDay(1).isAfter(end.minusDays(1)); month = month.plusMonths(1)) {
+            MonthEvents monthEvents = month(member.getMemberId(), month);
+            for (CalendarEventDTO event : monthEvents.events) {
+                if (!event.getStart().isBefore(start) && event.getStart().isBefore(end)) {
+                    events.add(event);
+                }
+            }
+            tag.append('|').append(monthEvents.etag);
+            lastModified = Math.max(lastModified, monthEvents.lastModified);
+        }
+        String etag = "\"" + DigestUtils.md5DigestAsHex(tag.toString().getBytes()) + "\"";
+        return new Feed(Collections.unmodifiableList(events), etag, lastModified);
+    }
+
+    // 알림장 등록/변경 시 해당 (견주, 월) 캐시 제거 (트랜잭션 안이면 커밋 후에 한 번 더)
+    public void evict(Integer memberId, LocalDate reportDate) {
+        if (memberId != null && reportDate != null) {
+            cache.evict(key(memberId, YearMonth.from(reportDate)));
+        }
+    }
+
+    private MonthEvents month(Integer memberId, YearMonth month) {
+        return cache.getOrLoad(key(memberId, month), k -> load(memberId, month));
+    }
+
+    private MonthEvents load(Integer memberId, YearMonth month) {
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        List<CalendarEventDTO> events = dailyReportsRepository.findCalendarEvents(memberId, from, to);
+        long lastModified = lastModified(dailyReportsRepository.findLastModified(memberId, from, to));
+        try {
+            // 목록에 없는 본문이 바뀌어도 ETag 가 달라지도록 마지막 변경시각을 함께 해시
+            byte[] json = objectMapper.writeValueAsBytes(events);
+            String etag = DigestUtils.md5DigestAsHex((lastModified + ":" + new String(json, StandardCharsets.UTF_8))
+                    .getBytes(StandardCharsets.UTF_8));
+            return new MonthEvents(Collections.unmodifiableList(events), etag, lastModified);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("캘린더 이벤트 직렬화 실패", e);
+        }
+    }
+
+    // (MAX(변경시각), MAX(작성일자)) -> 초 단위 epoch millis (변경시각이 없는 기존 알림장은 작성일 자정)
+    private static long lastModified(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        Object[] row = rows.get(0);
+        long updated = row[0] == null ? 0
+                : ((LocalDateTime) row[0]).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        long written = row[1] == null ? 0
+                : ((LocalDate) row[1]).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return Math.max(updated, written) / 1000 * 1000;
+    }
+
+    private static String key(Integer memberId, YearMonth month) {
+        return memberId + ":" + month;
+    }
+}
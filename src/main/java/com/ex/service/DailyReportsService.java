@@ -6,6 +6,8 @@ import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
 
 import com.ex.data.AttendanceDTO;
 import com.ex.data.DailyReportsDTO;
@@ -26,6 +28,8 @@ public class DailyReportsService {
 	private final DailyReportsRepository dailyReportsRepository;
 	private final MembersRepository membersRepository;
 	private final DogsRepository dogsRepository;
+	private final DailyReportCalendarFeed dailyReportCalendarFeed;
+	private final ReportPhotoService reportPhotoService;
 	
 	@Autowired
 	AttendanceService attendanceService;
@@ -120,9 +124,12 @@ public class DailyReportsService {
 	}
 	
 	
-	// 알림장등록
-	public void create(DailyReportsDTO dailyReportsDTO, Integer attendanceId, String username, String selectDate) {
+	// 알림장등록 (사진 크기가 너무 크면 아무것도 저장하지 않고 IllegalArgumentException)
+	@Transactional
+	public void create(DailyReportsDTO dailyReportsDTO, Integer attendanceId, String username, String selectDate,
+			List<MultipartFile> photos) {
 		LocalDate diarydate = LocalDate.parse(selectDate);
+		reportPhotoService.validate(photos);
 		
 //		강아지id 멤버id
 //		이건 선생님...
@@ -156,6 +163,12 @@ public class DailyReportsService {
 		ae.setDailyreport(de);
 		
 		attendanceRepository.save(ae);
+		
+		// 사진 등록 (원본 저장 후 썸네일/웹 이미지는 백그라운드 생성)
+		reportPhotoService.attach(de, photos);
+		
+		// 견주 캘린더 피드의 해당 월 캐시 제거
+		dailyReportCalendarFeed.evict(de.getMembers() != null ? de.getMembers().getMemberId() : null, diarydate);
 		// 알림장 등록시 출석부의 알림장id도 update되어야함
 		// 알림장 테이블에서 attendance id를 이미 참조하고 있기 때문에 해당 id를 가지고 알림장id를 넣어주면 됨
 		// 출석부테이블에 알림장 id 넣어주기
@@ -1,6 +1,7 @@
 package com.ex.service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -8,6 +9,7 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.ex.data.DogAssignmentsDTO;
+import com.ex.data.GroupAssignmentDTO;
 import com.ex.data.MonthcareGroupsDTO;
 import com.ex.entity.AdmissionsEntity;
 import com.ex.entity.DogAssignmentsEntity;
@@ -37,15 +39,26 @@ public class DogAssignmentsService {
         }
 
         LocalDate startDate = admission.getSubscription().getStartDate();
-        if (startDate.isBefore(currentDate)) {
+        LocalDate endDate = admission.getSubscription().getEndDate();
+        // 월말에 좌석을 예약하고 다음 달에 승인된 구독은 이번 달에 시작하므로, 기간이 이미 끝난 경우만 막는다
+        if (endDate.isBefore(currentDate)) {
             throw new RuntimeException("Cannot assign dog to class for past dates");
         }
 
+        // 반 행을 잠그고 구독 기간과 겹치는 배정 수로 정원 확인 (좌석 예약과 같은 잠금으로 직렬화)
+        // 지난달 배정은 이번 구독 기간과 겹치지 않으므로 재등록하는 강아지의 좌석을 이중으로 세지 않는다
+        MonthcareGroupsEntity group = monthcareGroupsRepository.findByIdForUpdate(admission.getMonthcaregroups().getId())
+            .orElseThrow(() -> new RuntimeException("Monthcare group not found"));
+        if (group.getCapacity() != null
+                && dogAssignmentsRepository.countOverlappingByGroup(group.getId(), startDate, endDate) >= group.getCapacity()) {
+            throw new RuntimeException("Monthcare group is full");
+        }
+
         DogAssignmentsEntity assignment = new DogAssignmentsEntity();
         assignment.setDogs(admission.getDogs());
         assignment.setMonthgroup(admission.getMonthcaregroups());
         assignment.setStartDate(startDate);
-        assignment.setEndDate(admission.getSubscription().getEndDate());
+        assignment.setEndDate(endDate);
         assignment.setAdmission(admission);
 
         dogAssignmentsRepository.save(assignment);
@@ -77,38 +90,35 @@ public class DogAssignmentsService {
     }
 
     public int countCurrentAndFutureStudentsInGroup(Integer groupId) {
-        return getCurrentAndFutureAssignmentsByGroup(groupId).size();
+        return (int) dogAssignmentsRepository.countCurrentAndFutureByGroup(groupId, LocalDate.now());
     }
 
-    public Map<Integer, List<DogAssignmentsDTO>> getCurrentAndFutureAssignmentsByBranch(Integer branchId) {
-        List<MonthcareGroupsDTO> groups = monthcareGroupsService.getMonthcareGroupByBranch(branchId);
-        Map<Integer, List<DogAssignmentsDTO>> assignmentsByGroup = new HashMap<>();
-
-        for (MonthcareGroupsDTO group : groups) {
-            List<DogAssignmentsDTO> assignments = getCurrentAndFutureAssignmentsByGroup(group.getId());
-            assignmentsByGroup.put(group.getId(), assignments);
-        }
-
-        return assignmentsByGroup;
+    // 지점의 반별 현재/예정 배정 목록 (한 번의 조회)
+    public Map<Integer, List<GroupAssignmentDTO>> getCurrentAndFutureAssignmentsByBranch(Integer branchId) {
+        return dogAssignmentsRepository.findCurrentAndFutureByBranch(branchId, LocalDate.now()).stream()
+            .collect(Collectors.groupingBy(GroupAssignmentDTO::getMonthgroupId));
     }
 
+    // 지점의 반별 현재/예정 배정 수 (GROUP BY 집계 한 번)
     public Map<Integer, Integer> countCurrentAndFutureStudentsByBranch(Integer branchId) {
-        List<MonthcareGroupsDTO> groups = monthcareGroupsService.getMonthcareGroupByBranch(branchId);
         Map<Integer, Integer> studentCountByGroup = new HashMap<>();
-
-        for (MonthcareGroupsDTO group : groups) {
-            int studentCount = countCurrentAndFutureStudentsInGroup(group.getId());
-            studentCountByGroup.put(group.getId(), studentCount);
+        for (Object[] row : dogAssignmentsRepository.countCurrentAndFutureByBranch(branchId, LocalDate.now())) {
+            studentCountByGroup.put((Integer) row[0], ((Number) row[1]).intValue());
         }
-
         return studentCountByGroup;
     }
 
     public Map<String, Object> getAssignmentsInfoByBranch(Integer branchId) {
         Map<String, Object> result = new HashMap<>();
         List<MonthcareGroupsDTO> groups = monthcareGroupsService.getMonthcareGroupByBranch(branchId);
-        Map<Integer, List<DogAssignmentsDTO>> assignmentsByGroup = getCurrentAndFutureAssignmentsByBranch(branchId);
-        Map<Integer, Integer> studentCountByGroup = countCurrentAndFutureStudentsByBranch(branchId);
+
+        // 배정 목록 한 번 조회 후 반별로 묶고, 배정 수도 같은 목록에서 계산
+        Map<Integer, List<GroupAssignmentDTO>> assignmentsByGroup = getCurrentAndFutureAssignmentsByBranch(branchId);
+        Map<Integer, Integer> studentCountByGroup = new HashMap<>();
+        for (MonthcareGroupsDTO group : groups) {
+            List<GroupAssignmentDTO> assignments = assignmentsByGroup.computeIfAbsent(group.getId(), id -> new ArrayList<>());
+            studentCountByGroup.put(group.getId(), assignments.size());
+        }
 
         result.put("groups", groups);
         result.put("assignmentsByGroup", assignmentsByGroup);
@@ -116,4 +126,4 @@ public class DogAssignmentsService {
 
         return result;
     }
-}
\ No newline at end of file
+}
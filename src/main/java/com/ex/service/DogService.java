@@ -1,9 +1,8 @@
 package com.ex.service;
-import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import com.ex.data.DogsDTO;
@@ -19,7 +18,7 @@ public class DogService {
 
 	private final DogsRepository dogRepository;
 	private final MembersRepository membersRepository;	
-	private final String UPLOAD_PATH="C:\\spring\\upload\\";
+	private final FileUploadService fileUploadService;
 	
 	public List<DogsEntity> dogsAll(){
 		return dogRepository.findAll();
@@ -71,27 +70,14 @@ public class DogService {
 		return list;
 	}
 	
+	// 프로필 사진 저장 (아바타 포함, 이미지가 아니면 null)
 	public String profile(MultipartFile profile) {
-		String orgname = profile.getOriginalFilename();
-		String contentType = null;
-		String sysname = null;
-		String ext = null;
-		File copy = null;
-		if(profile!=null&&!orgname.equals("")) {
-			contentType=profile.getContentType();
-			if(contentType.split("/")[0].equals("image")) {
-				sysname = UUID.randomUUID().toString().replace("-", "");
-				ext = orgname.substring(orgname.lastIndexOf("."));
-				sysname += ext;
-				copy = new File(UPLOAD_PATH+sysname);
-				try {
-					profile.transferTo(copy);
-				}catch(Exception e) {
-					e.printStackTrace();
-				}
-			}
-		}
-		return sysname;
+		return fileUploadService.saveImage(profile, true);
+	}
+	
+	// 프로필 사진 비동기 저장
+	public CompletableFuture<String> profileAsync(MultipartFile profile) {
+		return fileUploadService.saveImageAsync(profile, true);
 	}
 	
 	public void createDogProfile(Integer id, String sysname) {
@@ -105,9 +91,7 @@ public class DogService {
 	
 	public boolean deleteDogProfile(Integer id) {
 		DogsEntity de = dogRepository.findById(id).get();
-		String sysname = de.getDogProfile();
-		File file = new File(UPLOAD_PATH+sysname);
-		return file.delete();
+		return fileUploadService.delete(de.getDogProfile());
 	}
 	
 	public void modifyDogs(DogsDTO dogsDTO) {
@@ -125,4 +109,9 @@ public class DogService {
 	public List<DogsEntity> findDogsByMember(MembersEntity member) {
         return dogRepository.findByMember(member);
     }
+	
+	// 회원 id 로 강아지 목록 (회원 조회 없이)
+	public List<DogsEntity> findDogsByMemberId(Integer memberId) {
+        return dogRepository.findByMemberMemberId(memberId);
+    }
 }
@@ -0,0 +1,194 @@
+package com.ex.service;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+import javax.imageio.stream.ImageInputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 업로드 파일 저장 (강아지 프로필, 접종 증명서 공용)
+// 이미지 파일만 받아 디코딩 후 긴 변을 upload.image.max-dimension 이하로 줄이고 EXIF 없이 JPEG 로 다시 인코딩해
+// UUID 이름으로 저장소(StorageService)에 저장한다. 프로필 사진은 목록/상세 화면용 정사각형 아바타({이름}_avatar.jpg)도 함께 만든다.
+// 디코딩할 수 없는 파일은 Content-Type 이 image/* 라도 저장하지 않는다 (HTML/SVG 등을 그대로 저장해 응답하는 일 방지).
+// 비동기 저장은 저장 전용 스레드풀에서 실행되므로, 컨트롤러가 CompletableFuture 를 반환하면
+// 디스크/네트워크 쓰기 동안 요청 스레드를 잡아두지 않는다 (업로드 임시 파일은 비동기 처리가 끝난 뒤 정리됨).
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileUploadService {
+
+	public static final String AVATAR_SUFFIX = "_avatar.jpg";
+
+	private static final long MAX_PIXELS = 60_000_000L;	// 디코딩을 허용할 최대 원본 화소 수
+
+	private final StorageService storageService;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${storage.upload.workers:4}")
+	private int workers;
+
+	@Value("${storage.upload.queue-capacity:100}")
+	private int queueCapacity;
+
+	@Value("${upload.image.max-dimension:1600}")
+	private int maxDimension;
+
+	@Value("${upload.image.avatar-size:320}")
+	private int avatarSize;
+
+	@Value("${upload.image.quality:0.82}")
+	private float quality;
+
+	@Value("${upload.image.max-size:20MB}")
+	private DataSize maxSize;
+
+	private ThreadPoolTaskExecutor executor;
+	private DistributionSummary bytesSaved;
+
+	@PostConstruct
+	void init() {
+		executor = BoundedExecutors.create("upload-", workers, queueCapacity, 30);
+		bytesSaved = DistributionSummary.builder("upload.image.bytes.saved")
+				.baseUnit("bytes")
+				.register(meterRegistry);
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdown();
+	}
+
+	// 이미지 저장 후 저장 이름 반환 (이미지가 아니거나 파일이 없으면 null)
+	public String saveImage(MultipartFile file) {
+		return saveImage(file, false);
+	}
+
+	// withAvatar 이면 아바타 이미지도 함께 저장
+	public String saveImage(MultipartFile file, boolean withAvatar) {
+		if (!isImage(file)) {
+			return null;
+		}
+		if (file.getSize() > maxSize.toBytes()) {
+			throw new RuntimeException("이미지 파일이 너무 큼 (최대 " + maxSize.toMegabytes() + "MB)");
+		}
+		String sysname = UUID.randomUUID().toString().replace("-", "");
+		long started = System.nanoTime();
+		try {
+			// 업로드 임시 파일에서 바로 디코딩 (원본 전체를 힙에 올리지 않음)
+			BufferedImage decoded = decode(file);
+			if (decoded == null) {
+				record("rejected", started);
+				throw new IllegalArgumentException("이미지 파일을 읽을 수 없습니다. (JPEG, PNG, GIF 등 이미지만 올릴 수 있습니다)");
+			}
+
+			byte[] normalized = encode(ImageCodec.scale(decoded, maxDimension));
+			sysname += ".jpg";
+			storageService.put(sysname, new ByteArrayInputStream(normalized), normalized.length, "image/jpeg");
+			if (withAvatar) {
+				byte[] avatar = encode(ImageCodec.squareCrop(decoded, avatarSize));
+				storageService.put(avatarName(sysname), new ByteArrayInputStream(avatar), avatar.length, "image/jpeg");
+			}
+			bytesSaved.record(Math.max(0, file.getSize() - normalized.length));
+			record("normalized", started);
+			return sysname;
+		} catch (IOException e) {
+			record("failed", started);
+			throw new RuntimeException("파일 저장 실패", e);
+		}
+	}
+
+	// 이미지 비동기 저장 (저장 스레드풀이 가득 차면 호출한 스레드에서 바로 저장)
+	public CompletableFuture<String> saveImageAsync(MultipartFile file) {
+		return saveImageAsync(file, false);
+	}
+
+	public CompletableFuture<String> saveImageAsync(MultipartFile file, boolean withAvatar) {
+		if (!isImage(file)) {
+			return CompletableFuture.completedFuture(null);
+		}
+		try {
+			return executor.submitCompletable(() -> saveImage(file, withAvatar));
+		} catch (TaskRejectedException e) {
+			log.warn("업로드 저장 대기열이 가득 차 요청 스레드에서 저장");
+			return CompletableFuture.completedFuture(saveImage(file, withAvatar));
+		}
+	}
+
+	// 아바타 이미지 저장 이름
+	public static String avatarName(String sysname) {
+		int dot = sysname.lastIndexOf(".");
+		return (dot >= 0 ? sysname.substring(0, dot) : sysname) + AVATAR_SUFFIX;
+	}
+
+	// 아바타가 있으면 아바타 이름, 없으면 (이전에 올린 사진) 원본 이름
+	public String avatarOrOriginal(String sysname) {
+		try {
+			String avatar = avatarName(sysname);
+			return storageService.stat(avatar) != null ? avatar : sysname;
+		} catch (IOException | IllegalArgumentException e) {
+			return sysname;
+		}
+	}
+
+	// 저장된 파일 삭제
+	public boolean delete(String sysname) {
+		if (sysname == null) {
+			return false;
+		}
+		try {
+			storageService.delete(avatarName(sysname));
+			return storageService.delete(sysname);
+		} catch (IOException | IllegalArgumentException e) {
+			log.warn("파일 삭제 실패 {}: {}", sysname, e.getMessage());
+			return false;
+		}
+	}
+
+	// 업로드 스트림에서 디코딩 (읽을 수 있는 이미지가 아니면 null)
+	private BufferedImage decode(MultipartFile file) {
+		try (InputStream in = file.getInputStream();
+				ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+			return ImageCodec.read(iis, maxDimension, MAX_PIXELS).image;
+		} catch (IOException | RuntimeException e) {
+			log.warn("이미지 디코딩 실패, 저장하지 않음: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	private byte[] encode(BufferedImage image) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageCodec.writeJpeg(image, out, quality);
+		return out.toByteArray();
+	}
+
+	private void record(String outcome, long startedNanos) {
+		Timer.builder("upload.image.process")
+				.tag("outcome", outcome)
+				.register(meterRegistry)
+				.record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+	}
+
+	private static boolean isImage(MultipartFile file) {
+		return file != null && !file.isEmpty() && file.getOriginalFilename() != null
+				&& !file.getOriginalFilename().isEmpty()
+				&& file.getContentType() != null && file.getContentType().startsWith("image/");
+	}
+}
@@ -0,0 +1,14 @@
+package com.ex.service;
+
+import java.util.Map;
+
+// 주소 -> 좌표 변환 제공자
+// 기본 구현은 KakaoGeocodingProvider 이며, 테스트에서는 base-url 을 로컬 스텁 서버로 바꾸거나 별도 구현을 등록해 사용한다.
+public interface GeocodingProvider {
+
+    // 제공자 이름 (캐시에 기록)
+    String getName();
+
+    // 주소를 좌표로 변환 ("latitude", "longitude"), 좌표를 찾지 못하면 RuntimeException
+    Map<String, Double> geocode(String address);
+}
@@ -0,0 +1,212 @@
+package com.ex.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Iterator;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import org.w3c.dom.Node;
+
+// 이미지 디코딩/축소/JPEG 인코딩 공용 처리 (알림장 사진, 프로필/증명서 업로드)
+// - 원본이 목표 크기보다 훨씬 크면 디코딩할 때 화소를 건너뛰며 읽어 메모리 사용을 줄인다
+// - JPEG 의 EXIF 방향값을 화소에 반영한 뒤, 다시 인코딩할 때 메타데이터(EXIF, GPS 등)는 쓰지 않는다
+final class ImageCodec {
+
+    private static final int EXIF_APP1 = 0xE1;
+    private static final int TAG_ORIENTATION = 0x0112;
+
+    private ImageCodec() {
+    }
+
+    // 디코딩 결과 (원본 크기 포함)
+    static final class Decoded {
+        final BufferedImage image;
+        final int width;    // 원본 가로 (방향 반영 전)
+        final int height;   // 원본 세로 (방향 반영 전)
+
+        Decoded(BufferedImage image, int width, int height) {
+            this.image = image;
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    // 긴 변이 targetSide 이상 남도록 건너뛰며 디코딩하고 EXIF 방향을 반영
+    static Decoded read(ImageInputStream iis, int targetSide, long maxPixels) throws IOException {
+        if (iis == null) {
+            throw new IOException("이미지를 열 수 없음");
+        }
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+        if (!readers.hasNext()) {
+            throw new IOException("지원하지 않는 이미지 형식");
+        }
+        ImageReader reader = readers.next();
+        try {
+            reader.setInput(iis, true, false);
+            int width = reader.getWidth(0);
+            int height = reader.getHeight(0);
+            if ((long) width * height > maxPixels) {
+                throw new IOException("이미지 해상도가 너무 큼 " + width + "x" + height);
+            }
+            int orientation = orientation(reader.getImageMetadata(0));
+
+            ImageReadParam param = reader.getDefaultReadParam();
+            int step = Math.max(1, Math.max(width, height) / Math.max(1, targetSide));
+            param.setSourceSubsampling(step, step, 0, 0);
+            BufferedImage image = reader.read(0, param);
+            return new Decoded(orient(image, orientation), width, height);
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    // 긴 변이 maxSide 이하가 되도록 축소 (큰 비율은 절반씩 줄여 계단 현상 방지), 투명 배경은 흰색으로
+    static BufferedImage scale(BufferedImage src, int maxSide) {
+        int w = src.getWidth();
+        int h = src.getHeight();
+        double ratio = Math.min(1.0, (double) maxSide / Math.max(w, h));
+        int targetW = Math.max(1, (int) Math.round(w * ratio));
+        int targetH = Math.max(1, (int) Math.round(h * ratio));
+
+        BufferedImage current = src;
+        while (current.getWidth() / 2 >= targetW && current.getHeight() / 2 >= targetH) {
+            current = draw(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        return draw(current, targetW, targetH);
+    }
+
+    // 정사각형 가운데 잘라내기 후 size x size 로 축소 (아바타용)
+    static BufferedImage squareCrop(BufferedImage src, int size) {
+        int side = Math.min(src.getWidth(), src.getHeight());
+        BufferedImage cropped = src.getSubimage((src.getWidth() - side) / 2, (src.getHeight() - side) / 2, side, side);
+        return scale(cropped, size);
+    }
+
+    // 메타데이터 없이 JPEG 로 인코딩
+    static void writeJpeg(BufferedImage image, OutputStream target, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target)) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static BufferedImage draw(BufferedImage src, int w, int h) {
+        BufferedImage out = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, w, h);
+            g.drawImage(src, 0, 0, w, h, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    // EXIF 방향값(1~8)에 맞게 회전/뒤집기
+    private static BufferedImage orient(BufferedImage src, int orientation) {
+        if (orientation < 2 || orientation > 8) {
+            return src;
+        }
+        int w = src.getWidth();
+        int h = src.getHeight();
+        boolean swap = orientation >= 5;
+        AffineTransform t = new AffineTransform();
+        switch (orientation) {
+            case 2: t.translate(w, 0); t.scale(-1, 1); break;                   // 좌우 반전
+            case 3: t.translate(w, h); t.rotate(Math.PI); break;                // 180도
+            case 4: t.translate(0, h); t.scale(1, -1); break;                   // 상하 반전
+            case 5: t.rotate(-Math.PI / 2); t.scale(-1, 1); break;              // 전치
+            case 6: t.translate(h, 0); t.rotate(Math.PI / 2); break;            // 시계 90도
+            case 7: t.setTransform(0, -1, -1, 0, h, w); break;                 // 역전치
+            case 8: t.translate(0, w); t.rotate(3 * Math.PI / 2); break;        // 반시계 90도
+            default: break;
+        }
+        BufferedImage out = new BufferedImage(swap ? h : w, swap ? w : h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, out.getWidth(), out.getHeight());
+            g.drawImage(src, t, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    // JPEG 메타데이터의 EXIF(APP1) 에서 방향값 읽기 (없으면 1)
+    private static int orientation(IIOMetadata metadata) {
+        if (metadata == null || !"javax_imageio_jpeg_image_1.0".equals(metadata.getNativeMetadataFormatName())) {
+            return 1;
+        }
+        try {
+            Node root = metadata.getAsTree("javax_imageio_jpeg_image_1.0");
+            for (Node n = root.getFirstChild(); n != null; n = n.getNextSibling()) {
+                if (!"markerSequence".equals(n.getNodeName())) {
+                    continue;
+                }
+                for (Node m = n.getFirstChild(); m != null; m = m.getNextSibling()) {
+                    if ("unknown".equals(m.getNodeName()) && m instanceof IIOMetadataNode node
+                            && String.valueOf(EXIF_APP1).equals(node.getAttribute("MarkerTag"))
+                            && node.getUserObject() instanceof byte[] data) {
+                        int value = exifOrientation(data);
+                        if (value > 0) {
+                            return value;
+                        }
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            // 손상된 EXIF 는 무시
+        }
+        return 1;
+    }
+
+    // "Exif\0\0" + TIFF 헤더 + IFD0 에서 방향 태그 찾기
+    private static int exifOrientation(byte[] data) {
+        if (data.length < 14 || data[0] != 'E' || data[1] != 'x' || data[2] != 'i' || data[3] != 'f') {
+            return -1;
+        }
+        ByteBuffer tiff = ByteBuffer.wrap(data, 6, data.length - 6).slice();
+        tiff.order(tiff.get(0) == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        int ifd = tiff.getInt(4);
+        if (ifd < 8 || ifd + 2 > tiff.limit()) {
+            return -1;
+        }
+        int entries = tiff.getShort(ifd) & 0xFFFF;
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > tiff.limit()) {
+                break;
+            }
+            if ((tiff.getShort(entry) & 0xFFFF) == TAG_ORIENTATION) {
+                return tiff.getShort(entry + 8) & 0xFFFF;
+            }
+        }
+        return -1;
+    }
+}
@@ -2,22 +2,20 @@ package com.ex.service;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
+
+import com.ex.entity.GeocodeCacheEntity;
+import com.ex.repository.GeocodeCacheRepository;
 
 import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.net.URI;
-import java.util.List;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 
 @Service
 // @RequiredArgsConstructor는 final 필드에 대한 생성자를 자동으로 생성
@@ -26,70 +24,55 @@ public class KakaoApiService {
     // 로깅을 위한 Logger 객체를 생성합니다.
     private static final Logger logger = LoggerFactory.getLogger(KakaoApiService.class);
     
-    // RestTemplate은 HTTP 요청을 보내는 데 사용됩니다.
-    private final RestTemplate restTemplate;
-   
-    // @Value application.properties 파일에서 값을 주입받음
-    @Value("${kakao.api.javascript.key}")
-    private String kakaoJavascriptKey;
-
-    @Value("${kakao.api.rest.key}")
-    private String kakaoRestApiKey;
+    // 주소 -> 좌표 변환 제공자 (기본: 카카오 로컬 API)
+    private final GeocodingProvider geocodingProvider;
+    // 주소 -> 좌표 변환 결과 캐시
+    private final GeocodeCacheRepository geocodeCacheRepository;
     
     // 주소를 좌표로 변환하는 메서드
+    // 정규화한 주소로 좌표 캐시(GEOCODE_CACHE)를 먼저 조회하고, 없을 때만 지오코딩 제공자를 호출해 캐시에 저장
     public Map<String, Double> getCoordinatesFromAddress(String postCode, String address, String address2) {
-        // Kakao API 엔드포인트 URL을 생성
-        URI uri = UriComponentsBuilder.fromHttpUrl("https://dapi.kakao.com/v2/local/search/address.json")
-            .queryParam("query", address)
-            .build()
-            .encode()
-            .toUri();
-        
-        // HTTP 요청 헤더를 설정
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "KakaoAK " + kakaoRestApiKey);
-        
-        HttpEntity<String> entity = new HttpEntity<>(headers);
-        
+        String addressKey = normalizeAddress(address);
+        if (addressKey.isEmpty()) {
+            throw new RuntimeException("주소를 좌표로 변환하는 중 오류가 발생했습니다: 주소가 비어 있습니다.");
+        }
+
+        Optional<GeocodeCacheEntity> cached = geocodeCacheRepository.findById(addressKey);
+        if (cached.isPresent()) {
+            logger.debug("Geocode cache hit: {}", addressKey);
+            return Map.of("latitude", cached.get().getLatitude().doubleValue(),
+                          "longitude", cached.get().getLongitude().doubleValue());
+        }
+
+        Map<String, Double> coordinates;
         try {
-            // API 요청을 로깅
-            logger.info("Sending request to Kakao API: URI={}, Address={}", uri, address);
-            
-            // API 요청을 보내고 응답을 받음
-            ResponseEntity<Map> response = restTemplate.exchange(uri, HttpMethod.GET, entity, Map.class);
-            
-            // API 응답을 로깅
-            logger.info("Received response from Kakao API: StatusCode={}", response.getStatusCode());
-            
-            Map<String, Object> body = response.getBody();
-            
-            // API 응답을 파싱하여 좌표를 추출
-            if (body != null && body.containsKey("documents")) {
-                List<Map<String, Object>> documents = (List<Map<String, Object>>) body.get("documents");
-                if (!documents.isEmpty()) {
-                    Map<String, Object> firstResult = documents.get(0);
-                    Map<String, Object> address1 = (Map<String, Object>) firstResult.get("address");
-                    Double longitude = Double.parseDouble((String) firstResult.get("x"));
-                    Double latitude = Double.parseDouble((String) firstResult.get("y"));
-                    
-                    // 좌표를 8자리 소수점으로 반올림
-                    BigDecimal latitudeBD = BigDecimal.valueOf(latitude).setScale(8, RoundingMode.HALF_UP);
-                    BigDecimal longitudeBD = BigDecimal.valueOf(longitude).setScale(8, RoundingMode.HALF_UP);
-                    
-                    logger.info("Successfully converted address to coordinates: lat={}, lng={}", latitude, longitude);
-                    return Map.of("latitude", latitudeBD.doubleValue(), "longitude", longitudeBD.doubleValue());
-                } else {
-                    logger.warn("No documents found in the API response for address: {}", address);
-                }
-            } else {
-                logger.warn("Unexpected API response structure: {}", body);
-            }
-            throw new RuntimeException("주소에 해당하는 좌표를 찾을 수 없습니다.");
+            coordinates = geocodingProvider.geocode(address);
         } catch (Exception e) {
             // 오류 발생 시 로깅하고 예외를 던짐
             logger.error("Error occurred while converting address to coordinates: {}", e.getMessage(), e);
             throw new RuntimeException("주소를 좌표로 변환하는 중 오류가 발생했습니다: " + e.getMessage(), e);
         }
+
+        try {
+            // 캐시 저장은 별도 트랜잭션 (실패해도 지점 등록 트랜잭션은 그대로 진행)
+            geocodeCacheRepository.insertIfAbsent(addressKey, address,
+                    BigDecimal.valueOf(coordinates.get("latitude")).setScale(8, RoundingMode.HALF_UP),
+                    BigDecimal.valueOf(coordinates.get("longitude")).setScale(8, RoundingMode.HALF_UP),
+                    geocodingProvider.getName(), LocalDateTime.now());
+        } catch (Exception e) {
+            // 같은 주소를 동시에 저장한 경우 등 캐시 저장 실패는 좌표 변환 결과에 영향 없음
+            logger.warn("Failed to store geocode cache for {}: {}", addressKey, e.getMessage());
+        }
+        return coordinates;
+    }
+
+    // 캐시 키용 주소 정규화 (유니코드 NFKC, 앞뒤 공백 제거, 연속 공백 하나로, 소문자)
+    static String normalizeAddress(String address) {
+        if (address == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(address, Normalizer.Form.NFKC);
+        return normalized.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
     }
     
     // 아래 주석 처리된 코드는 모든 지점의 정보를 가져오고 좌표를 확인하는 메서드
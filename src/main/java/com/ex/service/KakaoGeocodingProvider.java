@@ -0,0 +1,91 @@
+package com.ex.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+// 카카오 로컬 API 주소 검색을 이용한 좌표 변환
+@Component
+@RequiredArgsConstructor
+public class KakaoGeocodingProvider implements GeocodingProvider {
+    private static final Logger logger = LoggerFactory.getLogger(KakaoGeocodingProvider.class);
+
+    // 타임아웃이 설정된 공용 RestTemplate (RestTemplateConfig)
+    private final RestTemplate restTemplate;
+
+    @Value("${kakao.api.rest.key}")
+    private String kakaoRestApiKey;
+
+    // 카카오 로컬 API 주소 (테스트 시 로컬 스텁 서버 주소로 변경)
+    @Value("${kakao.api.local.base-url:https://dapi.kakao.com}")
+    private String baseUrl;
+
+    @Override
+    public String getName() {
+        return "KAKAO";
+    }
+
+    @Override
+    public Map<String, Double> geocode(String address) {
+        // Kakao API 엔드포인트 URL을 생성
+        URI uri = UriComponentsBuilder.fromHttpUrl(baseUrl + "/v2/local/search/address.json")
+            .queryParam("query", address)
+            .build()
+            .encode()
+            .toUri();
+
+        // HTTP 요청 헤더를 설정
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", "KakaoAK " + kakaoRestApiKey);
+
+        HttpEntity<String> entity = new HttpEntity<>(headers);
+
+        // API 요청을 로깅
+        logger.info("Sending request to Kakao API: URI={}, Address={}", uri, address);
+
+        // API 요청을 보내고 응답을 받음
+        ResponseEntity<Map> response = restTemplate.exchange(uri, HttpMethod.GET, entity, Map.class);
+
+        // API 응답을 로깅
+        logger.info("Received response from Kakao API: StatusCode={}", response.getStatusCode());
+
+        Map<String, Object> body = response.getBody();
+
+        // API 응답을 파싱하여 좌표를 추출
+        if (body != null && body.containsKey("documents")) {
+            List<Map<String, Object>> documents = (List<Map<String, Object>>) body.get("documents");
+            if (!documents.isEmpty()) {
+                Map<String, Object> firstResult = documents.get(0);
+                Double longitude = Double.parseDouble((String) firstResult.get("x"));
+                Double latitude = Double.parseDouble((String) firstResult.get("y"));
+
+                // 좌표를 8자리 소수점으로 반올림
+                BigDecimal latitudeBD = BigDecimal.valueOf(latitude).setScale(8, RoundingMode.HALF_UP);
+                BigDecimal longitudeBD = BigDecimal.valueOf(longitude).setScale(8, RoundingMode.HALF_UP);
+
+                logger.info("Successfully converted address to coordinates: lat={}, lng={}", latitude, longitude);
+                return Map.of("latitude", latitudeBD.doubleValue(), "longitude", longitudeBD.doubleValue());
+            } else {
+                logger.warn("No documents found in the API response for address: {}", address);
+            }
+        } else {
+            logger.warn("Unexpected API response structure: {}", body);
+        }
+        throw new RuntimeException("주소에 해당하는 좌표를 찾을 수 없습니다.");
+    }
+}
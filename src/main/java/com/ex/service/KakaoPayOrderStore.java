@@ -0,0 +1,42 @@
+package com.ex.service;
+
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import com.ex.data.KakaoPayDTO;
+
+// 결제 준비 ~ 승인 사이의 주문별 결제 정보 (partner_order_id -> tid, 회원, 상품, 정기결제 여부)
+// 결제마다 따로 보관하므로 동시에 여러 결제가 진행되어도 서로의 tid 를 덮어쓰지 않는다.
+// 승인까지 kakaopay.order.ttl 이 지나면 만료된 주문으로 보고 지운다. (서버 메모리 보관 : 여러 대면 세션 고정 필요)
+@Component
+public class KakaoPayOrderStore {
+
+    private final TtlCache<String, KakaoPayDTO> orders;
+
+    @Value("${kakaopay.order.ttl:30m}")
+    private Duration ttl;
+
+    public KakaoPayOrderStore() {
+        this.orders = new TtlCache<>(() -> ttl);
+    }
+
+    public void put(KakaoPayDTO order) {
+        orders.put(order.getPartner_order_id(), order);
+    }
+
+    // 주문 조회 (없거나 만료되었으면 null)
+    public KakaoPayDTO get(String partnerOrderId) {
+        return orders.get(partnerOrderId);
+    }
+
+    public void remove(String partnerOrderId) {
+        orders.remove(partnerOrderId);
+    }
+
+    // 만료된 주문 정리
+    @Scheduled(fixedDelay = 300000)
+    public void purgeExpired() {
+        orders.purgeExpired();
+    }
+}
@@ -1,162 +1,155 @@
 package com.ex.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 import com.ex.data.KakaoPayDTO;
-import java.net.URI;
-import java.net.URISyntaxException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
+// 카카오페이 결제 준비/승인
+// 공용 RestTemplate(RestTemplateConfig : 커넥션 풀, 타임아웃)을 사용하고,
+// 준비 단계에서 받은 tid 등은 주문번호(partner_order_id)별로 KakaoPayOrderStore 에 보관해 승인 때 꺼내 쓴다.
 @Service
 @RequiredArgsConstructor
 @Log
 public class KakaoPayService {
     
-   private static final String Host = "https://open-api.kakaopay.com";
-    private KakaoPayDTO kakaoPayDTO;
+    private static final String CID_ONETIME = "TC0ONETIME";   // 가맹점 코드 - 단건 결제 테스트용
+    private static final String CID_REGULAR = "TCSEQUENCE";   // 가맹점 코드 - 정기 결제 테스트용
 
-    public String kakaoPayReady(KakaoPayDTO kakaoPayDTO) {
-        RestTemplate restTemplate = new RestTemplate();
-        restTemplate.setRequestFactory(new HttpComponentsClientHttpRequestFactory()); // 정확한 에러 파악을 위해 생성
-        
-        HttpHeaders headers = new HttpHeaders();
-                                       
-        headers.set("Authorization", "SECRET_KEY" + " " + "DEV5F6A81032EF3CCD3CC043893620903DA50EB2");
-        headers.set("Content-type", "application/json");
-        
+    private final RestTemplate restTemplate;
+    private final KakaoPayOrderStore kakaoPayOrderStore;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${kakaopay.host:https://open-api.kakaopay.com}")
+    private String host;
+
+    // 비밀 키는 환경변수(KAKAOPAY_SECRET_KEY)로만 설정 (소스/설정 파일에 두지 않음)
+    @Value("${kakaopay.secret-key:}")
+    private String secretKey;
+
+    @Value("${kakaopay.redirect-base-url:http://localhost:8080}")
+    private String redirectBaseUrl;
+
+    // 카카오페이 결제 준비 : 결제 페이지 주소 반환 (실패하면 null)
+    // regular 이면 정기 결제(자동 갱신) 가맹점 코드로 준비
+    public String kakaoPayReady(KakaoPayDTO kakaoPayDTO, boolean regular) {
         // Server Request Body : 서버 요청 본문
         Map<String, String> params = new HashMap<String, String>();
         int admissionId = kakaoPayDTO.getAdmissioId();
-        params.put("cid", "TC0ONETIME"); // 가맹점 코드 - 테스트용
-        params.put("partner_order_id", kakaoPayDTO.getPartner_order_id()); // 주문 번호
+        String orderId = kakaoPayDTO.getPartner_order_id();
+        String cid = regular ? CID_REGULAR : CID_ONETIME;
+        params.put("cid", cid); // 가맹점 코드
+        params.put("partner_order_id", orderId); // 주문 번호
         params.put("partner_user_id", kakaoPayDTO.getPartner_user_id()); // 회원 아이디
         params.put("item_name", kakaoPayDTO.getItem_name()); // 상품 명  
         params.put("quantity", "1"); // 상품 수량
         params.put("total_amount", kakaoPayDTO.getTotal_amount()); // 상품 가격  
         params.put("tax_free_amount", "0"); // 상품 비과세 금액
-        params.put("approval_url", "http://localhost:8080/kakao/kakaoPaySuccess?admissionId="+admissionId); // 성공시 url
-        params.put("cancel_url", "http://localhost:8080/kakao/cancel"); // 실패시 url
-        params.put("fail_url", "http://localhost:8080/kakao/fail");
-
-        // 헤더와 바디 붙이기
-        HttpEntity<Map<String, String>> body = new HttpEntity<Map<String, String>>(params, headers);
+        params.put("approval_url", callbackUrl("/kakao/kakaoPaySuccess", admissionId, orderId)); // 성공시 url
+        params.put("cancel_url", callbackUrl("/kakao/cancel", admissionId, orderId)); // 취소시 url
+        params.put("fail_url", callbackUrl("/kakao/fail", admissionId, orderId)); // 실패시 url
 
+        long started = System.nanoTime();
         try {
-            this.kakaoPayDTO = restTemplate.postForObject(new URI(Host + "/online/v1/payment/ready"), body, KakaoPayDTO.class);
-            this.kakaoPayDTO.setItem_name(kakaoPayDTO.getItem_name());
-            this.kakaoPayDTO.setTotal_amount(kakaoPayDTO.getTotal_amount());
-            this.kakaoPayDTO.setPartner_user_id(kakaoPayDTO.getPartner_user_id());
-            this.kakaoPayDTO.setPartner_order_id(kakaoPayDTO.getPartner_order_id());
-            this.kakaoPayDTO.setPayment_method_type(kakaoPayDTO.getPayment_method_type());
-            this.kakaoPayDTO.setPayment_method_type("CARD");
-            return this.kakaoPayDTO.getNext_redirect_pc_url();
-            
+            KakaoPayDTO ready = restTemplate.postForObject(host + "/online/v1/payment/ready",
+                    new HttpEntity<Map<String, String>>(params, headers()), KakaoPayDTO.class);
+            record("ready", "success", started);
+            if (ready == null) {
+                return null;
+            }
+            // 승인 때 필요한 값은 주문별로 보관
+            ready.setCid(cid);
+            ready.setAdmissioId(admissionId);
+            ready.setItem_name(kakaoPayDTO.getItem_name());
+            ready.setTotal_amount(kakaoPayDTO.getTotal_amount());
+            ready.setPartner_user_id(kakaoPayDTO.getPartner_user_id());
+            ready.setPartner_order_id(orderId);
+            ready.setPayment_method_type("CARD");
+            ready.setAuto(regular ? "Y" : null);
+            kakaoPayOrderStore.put(ready);
+            return ready.getNext_redirect_pc_url();
         } catch (RestClientException e) {
-            e.printStackTrace();      
-        } catch (URISyntaxException e) {
-            e.printStackTrace();
+            record("ready", "failure", started);
+            log.warning("카카오페이 결제 준비 실패 " + orderId + ": " + e.getMessage());
+            return null;
         }
-      
-        return "/pay";
     }
     
     // 카카오페이 결제 승인
     // 사용자가 결제 수단을 선택하고 비밀번호를 입력해 결제 인증을 완료한 뒤, 최종적으로 결제 완료 처리를 하는 단계
-    public KakaoPayDTO payApprove(String pgToken) {
-       Map<String, String> parameters = new HashMap<>();
-        HttpHeaders headers = new HttpHeaders();                       
-        headers.set("Authorization", "SECRET_KEY" + " " + "DEV5F6A81032EF3CCD3CC043893620903DA50EB2");
-        headers.set("Content-type", "application/json");
-        
-        parameters.put("cid", "TC0ONETIME");              // 가맹점 코드(테스트용)
-        parameters.put("tid", kakaoPayDTO.getTid());                       // 결제 고유번호
-        parameters.put("partner_order_id", kakaoPayDTO.getPartner_order_id()); // 주문번호
-        parameters.put("partner_user_id", kakaoPayDTO.getPartner_user_id());    // 회원 아이디
-        parameters.put("pg_token", pgToken);              // 결제승인 요청을 인증하는 토큰
+    public KakaoPayDTO payApprove(String orderId, String pgToken, String username) {
+        KakaoPayDTO order = kakaoPayOrderStore.get(orderId);
+        if (order == null || !order.getPartner_user_id().equals(username)) {
+            throw new RuntimeException("결제 정보를 찾을 수 없습니다.");
+        }
 
-        HttpEntity<Map<String, String>> requestEntity = new HttpEntity<Map<String, String>>(parameters, headers);
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("cid", order.getCid());                              // 가맹점 코드
+        parameters.put("tid", order.getTid());                              // 결제 고유번호
+        parameters.put("partner_order_id", order.getPartner_order_id());    // 주문번호
+        parameters.put("partner_user_id", order.getPartner_user_id());      // 회원 아이디
+        parameters.put("pg_token", pgToken);                                // 결제승인 요청을 인증하는 토큰
 
-        RestTemplate template = new RestTemplate();
-        String url = "https://open-api.kakaopay.com/online/v1/payment/approve";
-        KakaoPayDTO approveResponse = template.postForObject(url, requestEntity, KakaoPayDTO.class);
+        long started = System.nanoTime();
+        KakaoPayDTO approveResponse;
+        try {
+            approveResponse = restTemplate.postForObject(host + "/online/v1/payment/approve",
+                    new HttpEntity<Map<String, String>>(parameters, headers()), KakaoPayDTO.class);
+            record("approve", "success", started);
+        } catch (RestClientException e) {
+            record("approve", "failure", started);
+            throw new RuntimeException("카카오페이 결제 승인 실패", e);
+        }
         log.info("결제승인 응답객체: " + approveResponse);
-        
-        return kakaoPayDTO;
+        if (approveResponse != null) {
+            order.setAid(approveResponse.getAid());
+            order.setSid(approveResponse.getSid());             // 정기결제 시 발급
+            order.setApproved_at(approveResponse.getApproved_at());
+            if (approveResponse.getPayment_method_type() != null) {
+                order.setPayment_method_type(approveResponse.getPayment_method_type());
+            }
+        }
+        kakaoPayOrderStore.remove(orderId);
+        return order;
     }
-    
-    public String kakaoPayReady2(KakaoPayDTO kakaoPayDTO) {
-        RestTemplate restTemplate = new RestTemplate();
-        restTemplate.setRequestFactory(new HttpComponentsClientHttpRequestFactory()); // 정확한 에러 파악을 위해 생성
-        
-        HttpHeaders headers = new HttpHeaders();
-                                       
-        headers.set("Authorization", "SECRET_KEY" + " " + "DEV5F6A81032EF3CCD3CC043893620903DA50EB2");
-        headers.set("Content-type", "application/json");
-        
-        // Server Request Body : 서버 요청 본문
-        Map<String, String> params = new HashMap<String, String>();
-        int admissionId = kakaoPayDTO.getAdmissioId();
-        params.put("cid", "TCSEQUENCE"); // 가맹점 코드 - 테스트용
-        params.put("partner_order_id", kakaoPayDTO.getPartner_order_id()); // 주문 번호
-        params.put("partner_user_id", kakaoPayDTO.getPartner_user_id()); // 회원 아이디
-        params.put("item_name", kakaoPayDTO.getItem_name()); // 상품 명  
-        params.put("quantity", "1"); // 상품 수량
-        params.put("total_amount", kakaoPayDTO.getTotal_amount()); // 상품 가격  
-        params.put("tax_free_amount", "0"); // 상품 비과세 금액
-        params.put("approval_url", "http://localhost:8080/kakao/kakaoPaySuccess?admissionId="+admissionId); // 성공시 url
-        params.put("cancel_url", "http://localhost:8080/kakao/cancel"); // 실패시 url
-        params.put("fail_url", "http://localhost:8080/kakao/fail");
 
-        // 헤더와 바디 붙이기
-        HttpEntity<Map<String, String>> body = new HttpEntity<Map<String, String>>(params, headers);
+    // 결제 취소/실패 시 보관한 주문 정보 삭제
+    public void discard(String orderId) {
+        kakaoPayOrderStore.remove(orderId);
+    }
 
-        try {
-            this.kakaoPayDTO = restTemplate.postForObject(new URI(Host + "/online/v1/payment/ready"), body, KakaoPayDTO.class);
-            this.kakaoPayDTO.setItem_name(kakaoPayDTO.getItem_name());
-            this.kakaoPayDTO.setTotal_amount(kakaoPayDTO.getTotal_amount());
-            this.kakaoPayDTO.setPartner_user_id(kakaoPayDTO.getPartner_user_id());
-            this.kakaoPayDTO.setPartner_order_id(kakaoPayDTO.getPartner_order_id());
-            this.kakaoPayDTO.setPayment_method_type(kakaoPayDTO.getPayment_method_type());
-            this.kakaoPayDTO.setPayment_method_type("CARD");
-            return this.kakaoPayDTO.getNext_redirect_pc_url();
-            
-        } catch (RestClientException e) {
-            e.printStackTrace();      
-        } catch (URISyntaxException e) {
-            e.printStackTrace();
+    private HttpHeaders headers() {
+        if (secretKey == null || secretKey.isBlank()) {
+            throw new IllegalStateException("카카오페이 비밀 키(KAKAOPAY_SECRET_KEY)가 설정되지 않았습니다.");
         }
-      
-        return "/pay";
-    }
-    
-    // 카카오페이 결제 승인
-    // 사용자가 결제 수단을 선택하고 비밀번호를 입력해 결제 인증을 완료한 뒤, 최종적으로 결제 완료 처리를 하는 단계
-    public KakaoPayDTO payApprove2(String pgToken) {
-       Map<String, String> parameters = new HashMap<>();
-        HttpHeaders headers = new HttpHeaders();                       
-        headers.set("Authorization", "SECRET_KEY" + " " + "DEV5F6A81032EF3CCD3CC043893620903DA50EB2");
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", "SECRET_KEY " + secretKey);
         headers.set("Content-type", "application/json");
-        
-        parameters.put("cid", "TCSEQUENCE");              // 가맹점 코드(테스트용)
-        parameters.put("tid", kakaoPayDTO.getTid());                       // 결제 고유번호
-        parameters.put("partner_order_id", kakaoPayDTO.getPartner_order_id()); // 주문번호
-        parameters.put("partner_user_id", kakaoPayDTO.getPartner_user_id());    // 회원 아이디
-        parameters.put("pg_token", pgToken);              // 결제승인 요청을 인증하는 토큰
+        return headers;
+    }
 
-        HttpEntity<Map<String, String>> requestEntity = new HttpEntity<Map<String, String>>(parameters, headers);
+    private String callbackUrl(String path, int admissionId, String orderId) {
+        return UriComponentsBuilder.fromHttpUrl(redirectBaseUrl + path)
+                .queryParam("admissionId", admissionId)
+                .queryParam("orderId", orderId)
+                .toUriString();
+    }
 
-        RestTemplate template = new RestTemplate();
-        String url = "https://open-api.kakaopay.com/online/v1/payment/approve";
-        KakaoPayDTO approveResponse = template.postForObject(url, requestEntity, KakaoPayDTO.class);
-        log.info("결제승인 응답객체: " + approveResponse);
-        parameters.put("sid", approveResponse.getSid());
-        
-        return kakaoPayDTO;
+    private void record(String operation, String outcome, long startedNanos) {
+        Timer.builder("kakaopay.request")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
     }
-}
\ No newline at end of file
+}
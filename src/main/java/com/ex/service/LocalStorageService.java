@@ -0,0 +1,94 @@
+package com.ex.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+import jakarta.annotation.PostConstruct;
+
+// 로컬 디스크 저장소
+// 한 폴더에 파일이 몰리지 않도록 키 해시의 앞 4자리로 두 단계 폴더를 나눈다 : {upload.path}/ab/cd/{키}
+// 이전에 upload.path 바로 아래 저장된 파일도 그대로 읽을 수 있다.
+@Service
+@ConditionalOnProperty(name = "storage.type", havingValue = "local", matchIfMissing = true)
+public class LocalStorageService implements StorageService {
+
+    @Value("${upload.path}")
+    private String uploadPath;
+
+    private Path root;
+    private Path tmpDir;
+
+    @PostConstruct
+    void init() throws IOException {
+        root = Paths.get(uploadPath).toAbsolutePath().normalize();
+        tmpDir = root.resolve("tmp");
+        Files.createDirectories(tmpDir);
+    }
+
+    @Override
+    public void put(String key, InputStream in, long contentLength, String contentType) throws IOException {
+        Path target = shardPath(StorageService.checkKey(key));
+        Files.createDirectories(target.getParent());
+        // 임시 파일에 다 쓴 뒤 옮겨서 읽는 쪽이 쓰다 만 파일을 보지 않게 한다
+        Path tmp = Files.createTempFile(tmpDir, "upload-", ".part");
+        try {
+            Files.copy(in, tmp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    @Override
+    public InputStream get(String key) throws IOException {
+        Path file = localPath(key);
+        return file == null ? null : Files.newInputStream(file);
+    }
+
+    @Override
+    public StoredObject stat(String key) throws IOException {
+        Path file = localPath(key);
+        if (file == null) {
+            return null;
+        }
+        try {
+            BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+            return new StoredObject(attrs.size(), attrs.lastModifiedTime().toMillis(), null, null);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        Path file = localPath(key);
+        return file != null && Files.deleteIfExists(file);
+    }
+
+    // 나눠진 폴더에 없으면 이전 방식(루트 바로 아래) 경로 확인
+    @Override
+    public Path localPath(String key) {
+        StorageService.checkKey(key);
+        Path sharded = shardPath(key);
+        if (Files.isRegularFile(sharded)) {
+            return sharded;
+        }
+        Path legacy = root.resolve(key);
+        return Files.isRegularFile(legacy) ? legacy : null;
+    }
+
+    private Path shardPath(String key) {
+        String hash = DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8));
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(key);
+    }
+}
@@ -0,0 +1,93 @@
+package com.ex.service;
+
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import com.ex.data.MemberProfileDTO;
+import com.ex.entity.MembersEntity;
+import com.ex.repository.MembersRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 로그인 사용자 기본 정보 캐시 (아이디 -> 회원 id, 권한 유형, 지점)
+// 같은 요청 안에서는 요청 속성에 담아 재사용하고, 요청 사이에는 member.profile.ttl 동안 공유 캐시를 사용한다.
+// 로그인할 때 UserSecurityService 가 조회한 정보로 미리 채우며, 회원/직원 정보가 바뀌면 evict 로 지운다.
+// evict 할 때마다 DB 의 회원 정보 버전(MEMBERS.PROFILE_VERSION)을 올리므로, 세션의 인증 정보가 가진 버전과 비교해
+// 권한을 다시 만들어야 하는지 알 수 있다. 버전이 DB 에 있어 다른 서버에서의 변경도 캐시 ttl 안에 반영된다.
+@Component
+public class MemberProfileCache {
+    private static final String REQUEST_ATTRIBUTE = MemberProfileCache.class.getName() + ".";
+
+    private final MembersRepository membersRepository;
+
+    // 아이디 -> 회원 정보
+    private final TtlCache<String, MemberProfileDTO> cache;
+
+    @Value("${member.profile.cache-size:10000}")
+    private int maxEntries;
+
+    @Value("${member.profile.ttl:60s}")
+    private Duration ttl;
+
+    public MemberProfileCache(MembersRepository membersRepository, MeterRegistry meterRegistry) {
+        this.membersRepository = membersRepository;
+        this.cache = new TtlCache<String, MemberProfileDTO>(() -> ttl, () -> maxEntries)
+                .recordStats(meterRegistry, "member.profile.lookup");
+    }
+
+    // 회원 정보 조회 (요청 속성 -> 공유 캐시 -> DB)
+    public MemberProfileDTO get(String username) {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            Object cached = request.getAttribute(REQUEST_ATTRIBUTE + username, RequestAttributes.SCOPE_REQUEST);
+            if (cached instanceof MemberProfileDTO profile) {
+                return profile;
+            }
+        }
+        MemberProfileDTO profile = cache.getOrLoad(username, this::load);
+        if (request != null) {
+            request.setAttribute(REQUEST_ATTRIBUTE + username, profile, RequestAttributes.SCOPE_REQUEST);
+        }
+        return profile;
+    }
+
+    // 로그인 시 조회한 정보로 캐시 채우기
+    public MemberProfileDTO put(MembersEntity member) {
+        MemberProfileDTO profile = toProfile(member);
+        cache.put(profile.getUsername(), profile);
+        return profile;
+    }
+
+    // 회원 정보 변경 시 DB 버전 증가 및 캐시 삭제 (현재 요청에 담긴 값도 삭제)
+    // 트랜잭션 안이면 커밋 후에 한 번 더 지워 커밋 전 값이 다시 캐시되지 않게 한다
+    public void evict(String username) {
+        if (username == null) {
+            return;
+        }
+        membersRepository.bumpProfileVersion(username);
+        cache.evict(username);
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            request.removeAttribute(REQUEST_ATTRIBUTE + username, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private MemberProfileDTO load(String username) {
+        MembersEntity member = membersRepository.findByUsername(username)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        return toProfile(member);
+    }
+
+    private static MemberProfileDTO toProfile(MembersEntity member) {
+        return MemberProfileDTO.builder()
+                .memberId(member.getMemberId())
+                .username(member.getUsername())
+                .name(member.getName())
+                .userType(member.getUserType())
+                .branchId(member.getBranchId())
+                .version(member.getProfileVersion() == null ? 0L : member.getProfileVersion())
+                .build();
+    }
+}
@@ -4,6 +4,7 @@ import java.util.Optional;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import com.ex.data.MemberProfileDTO;
 import com.ex.data.MembersDTO;
 import com.ex.entity.MembersEntity;
 import com.ex.repository.MembersRepository;
@@ -14,6 +15,7 @@ import lombok.RequiredArgsConstructor;
 public class MembersService {
 	private final MembersRepository membersRepository;
 	private final PasswordEncoder passwordEncoder;
+	private final MemberProfileCache memberProfileCache;
 	
 	// 회원가입
 	public void createMember(MembersDTO membersDTO) {
@@ -81,12 +83,19 @@ public class MembersService {
 		me.setEmail(membersDTO.getEmail());
 		me.setPhone(membersDTO.getPhone());
 		membersRepository.save(me);
+		memberProfileCache.evict(me.getUsername());
 	}
 	
 	// 회원 탈퇴
 	public void deleteMember(String username) {
 		MembersEntity me = membersRepository.findByUsername(username).get();
 		membersRepository.delete(me);
+		memberProfileCache.evict(username);
+	}
+	
+	// 로그인 사용자 기본 정보 (회원 id, 권한 유형, 지점) : 캐시에서 조회
+	public MemberProfileDTO getProfile(String username) {
+		return memberProfileCache.get(username);
 	}
 	
 	public MembersEntity findByUsername(String username) {
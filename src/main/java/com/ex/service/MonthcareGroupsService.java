@@ -6,10 +6,8 @@ import org.springframework.stereotype.Service;
 import com.ex.data.MembersDTO;
 import com.ex.data.MonthcareGroupsDTO;
 import com.ex.entity.BranchEntity;
-import com.ex.entity.MembersEntity;
 import com.ex.entity.MonthcareGroupsEntity;
 import com.ex.repository.BranchesRepository;
-import com.ex.repository.MembersRepository;
 import com.ex.repository.MonthcareGroupsRepository;
 import lombok.RequiredArgsConstructor;
 
@@ -18,7 +16,7 @@ import lombok.RequiredArgsConstructor;
 public class MonthcareGroupsService {
 	private final MonthcareGroupsRepository monthcareGroupsRepository;
 	private final BranchesRepository branchRepository;
-	private final MembersRepository membersRepository;
+	private final BranchStaffRoster branchStaffRoster;
 	
 	// 해당 지점(branch_id)에 속해있는 반 리스트 조회
 	public List<MonthcareGroupsDTO> getMonthcareGroupByBranch(Integer branchId){
@@ -54,20 +52,9 @@ public class MonthcareGroupsService {
 		}
 	}
 	
-	// members 테이블에서 branch_id 조회 후 해당 지점의 선생님 리스트 조회
-	public List<MembersDTO> getTeachers(Integer branch_id){		
-		List<MembersDTO> membersDTOList = new ArrayList<>();
-		List<MembersEntity> membersEntityList = membersRepository.findAll();
-		for(MembersEntity me : membersEntityList) {
-			if(me.getUserType().equals("TEACHER")&&me.getBranchId()==branch_id) {
-				MembersDTO membersDTO = new MembersDTO();
-				membersDTO.setMemberId(me.getMemberId());
-				membersDTO.setUsername(me.getUsername());
-				membersDTO.setName(me.getName());
-				membersDTOList.add(membersDTO);
-			}
-		}
-		return membersDTOList;
+	// 해당 지점의 선생님 리스트 조회 (지점별 직원 명단 캐시)
+	public List<MembersDTO> getTeachers(Integer branch_id){
+		return branchStaffRoster.teachers(branch_id);
 	}
 	
 	// 반 아이디 (monthcareGroups id)로 해당 반 정도 조회
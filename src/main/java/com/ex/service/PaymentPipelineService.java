@@ -0,0 +1,218 @@
+package com.ex.service;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.ex.data.KakaoPayDTO;
+import com.ex.entity.PaymentOutboxEntity;
+import com.ex.entity.SubscriptionsEntity;
+import com.ex.repository.PaymentOutboxRepository;
+import com.ex.repository.SubscriptionsRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 결제 승인 후처리 파이프라인
+// 결제 승인(입학 상태 변경, 구독 등록)과 후처리 작업(outbox)을 한 트랜잭션으로 기록하고,
+// 반배정 -> 출석부 등록 단계는 워커 스레드에서 처리한다. 실패한 단계는 지수 백오프로 재시도한다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentPipelineService {
+
+	public static final String STAGE_ASSIGN = "ASSIGN";
+	public static final String STAGE_ATTENDANCE = "ATTENDANCE";
+	public static final String STAGE_DONE = "DONE";
+
+	public static final String STATUS_PENDING = "PENDING";
+	public static final String STATUS_DONE = "DONE";
+	public static final String STATUS_FAILED = "FAILED";
+
+	private static final Duration STALE_AFTER = Duration.ofMinutes(5);
+
+	private final AdmissionsService admissionsService;
+	private final SubscriptionsService subscriptionsService;
+	private final DogAssignmentsService dogAssignmentsService;
+	private final AttendanceService attendanceService;
+	private final SeatReservationService seatReservationService;
+	private final SubscriptionsRepository subscriptionsRepository;
+	private final PaymentOutboxRepository paymentOutboxRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${payment.pipeline.workers:4}")
+	private int workers;
+
+	@Value("${payment.pipeline.max-attempts:5}")
+	private int maxAttempts;
+
+	private ThreadPoolTaskExecutor executor;
+
+	@PostConstruct
+	void init() {
+		executor = BoundedExecutors.create("payment-pipeline-", workers, 1000, 30);
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdown();
+	}
+
+	// 결제 승인 기록 : 입학 상태 변경, 구독 등록, 후처리 작업 등록을 한 트랜잭션으로 처리
+	// 커밋 이후 워커에 후처리 작업을 넘긴다.
+	@Transactional
+	public SubscriptionsEntity recordApproval(String username, int admissionId, KakaoPayDTO kakaoDTO) {
+		// 입학 상태 변경
+		admissionsService.updateAdmissionStatus(admissionId, "DONE", null);
+
+		// 좌석 확정 (결제 승인 전에 이미 확정되어 있으면 그대로 둠) : 좌석을 확인한 구독월
+		YearMonth month = seatReservationService.confirm(admissionId);
+
+		// 구독정보 등록 (좌석을 확보한 달로)
+		SubscriptionsEntity subs = subscriptionsService.createSubscription(username, admissionId, kakaoDTO, month);
+
+		// 입학정보에 구독정보 추가
+		admissionsService.setSubscription(subs, admissionId);
+
+		// 후처리 작업 등록 (반배정 -> 출석부 등록)
+		LocalDateTime now = LocalDateTime.now();
+		PaymentOutboxEntity outbox = paymentOutboxRepository.save(PaymentOutboxEntity.builder()
+				.admissionId(admissionId)
+				.subscriptionId(subs.getSubscriptionId())
+				.stage(STAGE_ASSIGN)
+				.status(STATUS_PENDING)
+				.attempts(0)
+				.nextAttemptAt(now)
+				.createdAt(now)
+				.updatedAt(now)
+				.build());
+
+		Integer outboxId = outbox.getId();
+		AfterCommit.run(() -> dispatch(outboxId));
+		return subs;
+	}
+
+	// 워커에 작업 전달 (큐가 가득 차면 폴러가 다시 가져간다)
+	public void dispatch(Integer outboxId) {
+		try {
+			executor.execute(() -> process(outboxId));
+		} catch (RuntimeException e) {
+			log.warn("결제 후처리 {} 워커 전달 실패, 폴러에서 재처리: {}", outboxId, e.getMessage());
+		}
+	}
+
+	// 워커 전달이 누락됐거나 재시도 대기 중인 작업, 서버 중단으로 멈춘 작업을 주기적으로 처리
+	@Scheduled(fixedDelay = 10000)
+	public void poll() {
+		LocalDateTime now = LocalDateTime.now();
+		int released = paymentOutboxRepository.releaseStale(now.minus(STALE_AFTER));
+		if (released > 0) {
+			log.warn("처리가 멈춘 결제 후처리 {}건을 다시 대기 상태로 변경", released);
+		}
+		List<PaymentOutboxEntity> due = paymentOutboxRepository
+				.findTop50ByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(STATUS_PENDING, now);
+		for (PaymentOutboxEntity outbox : due) {
+			dispatch(outbox.getId());
+		}
+	}
+
+	// 작업 선점 후 남은 단계를 순서대로 처리
+	void process(Integer outboxId) {
+		if (paymentOutboxRepository.claim(outboxId, LocalDateTime.now()) == 0) {
+			return; // 다른 워커가 이미 처리 중
+		}
+		PaymentOutboxEntity outbox = paymentOutboxRepository.findById(outboxId).orElse(null);
+		if (outbox == null) {
+			return;
+		}
+		while (!STAGE_DONE.equals(outbox.getStage())) {
+			String stage = outbox.getStage();
+			long started = System.nanoTime();
+			try {
+				outbox = transactionTemplate.execute(status -> runStage(outboxId));
+				record(stage, "success", started);
+			} catch (RuntimeException e) {
+				record(stage, "failure", started);
+				scheduleRetry(outboxId, stage, e);
+				return;
+			}
+		}
+	}
+
+	// 한 단계 실행 : 단계 작업과 outbox 단계 전진을 한 트랜잭션으로 처리
+	private PaymentOutboxEntity runStage(Integer outboxId) {
+		PaymentOutboxEntity outbox = paymentOutboxRepository.findById(outboxId)
+				.orElseThrow(() -> new RuntimeException("Payment outbox not found"));
+
+		switch (outbox.getStage()) {
+		case STAGE_ASSIGN:
+			// 강아지 반배정
+			dogAssignmentsService.assignDogToClass(outbox.getAdmissionId());
+			outbox.setStage(STAGE_ATTENDANCE);
+			break;
+		case STAGE_ATTENDANCE:
+			// 출석부 등록
+			SubscriptionsEntity subs = subscriptionsRepository.findById(outbox.getSubscriptionId())
+					.orElseThrow(() -> new RuntimeException("Subscription not found"));
+			attendanceService.setMonthAttendance(subs, outbox.getAdmissionId());
+			outbox.setStage(STAGE_DONE);
+			outbox.setStatus(STATUS_DONE);
+			break;
+		default:
+			throw new RuntimeException("Unknown payment pipeline stage: " + outbox.getStage());
+		}
+		outbox.setUpdatedAt(LocalDateTime.now());
+		return paymentOutboxRepository.save(outbox);
+	}
+
+	// 실패 기록 : 최대 시도 횟수 전까지는 지수 백오프로 재시도 예약, 초과 시 FAILED
+	private void scheduleRetry(Integer outboxId, String stage, RuntimeException cause) {
+		transactionTemplate.executeWithoutResult(status -> {
+			PaymentOutboxEntity outbox = paymentOutboxRepository.findById(outboxId).orElse(null);
+			if (outbox == null) {
+				return;
+			}
+			int attempts = outbox.getAttempts() + 1;
+			outbox.setAttempts(attempts);
+			outbox.setLastError(truncate(cause.getMessage()));
+			outbox.setUpdatedAt(LocalDateTime.now());
+			if (attempts >= maxAttempts) {
+				outbox.setStatus(STATUS_FAILED);
+				meterRegistry.counter("payment.pipeline.failed", "stage", stage).increment();
+				log.error("결제 후처리 {} {} 단계 최종 실패 ({}회): {}", outboxId, stage, attempts, cause.getMessage());
+			} else {
+				long backoffSeconds = 5L << (attempts - 1); // 5s, 10s, 20s, 40s ...
+				outbox.setStatus(STATUS_PENDING);
+				outbox.setNextAttemptAt(LocalDateTime.now().plusSeconds(backoffSeconds));
+				meterRegistry.counter("payment.pipeline.retry", "stage", stage).increment();
+				log.warn("결제 후처리 {} {} 단계 실패 ({}회), {}초 후 재시도: {}", outboxId, stage, attempts, backoffSeconds, cause.getMessage());
+			}
+			paymentOutboxRepository.save(outbox);
+		});
+	}
+
+	private void record(String stage, String outcome, long startedNanos) {
+		Timer.builder("payment.pipeline.stage")
+				.tag("stage", stage)
+				.tag("outcome", outcome)
+				.register(meterRegistry)
+				.record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+	}
+
+	private String truncate(String message) {
+		if (message == null) {
+			return null;
+		}
+		return message.length() > 1000 ? message.substring(0, 1000) : message;
+	}
+}
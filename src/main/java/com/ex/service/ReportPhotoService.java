@@ -0,0 +1,317 @@
+package com.ex.service;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.imageio.ImageIO;
+import javax.imageio.stream.ImageInputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import com.ex.data.ReportPhotosDTO;
+import com.ex.entity.AttendanceEntity;
+import com.ex.entity.DailyReportsEntity;
+import com.ex.entity.MembersEntity;
+import com.ex.entity.MonthcareGroupsEntity;
+import com.ex.entity.ReportPhotosEntity;
+import com.ex.repository.MembersRepository;
+import com.ex.repository.ReportPhotosRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 알림장 사진 처리
+// 업로드 요청에서는 원본을 저장소에 흘려 쓰고 PENDING 으로 등록만 한다.
+// 썸네일(목록용)과 웹 크기(상세보기용) 이미지는 크기가 제한된 워커 풀에서 만들고 READY 로 바꾼다.
+// 큐가 가득 차 거절되거나 서버가 재시작되어 누락된 작업은 주기적으로 다시 등록한다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReportPhotoService {
+
+	public static final String PENDING = "PENDING";
+	public static final String READY = "READY";
+	public static final String FAILED = "FAILED";
+
+	public static final String THUMB = "thumb";
+	public static final String WEB = "web";
+	public static final String ORIGINAL = "original";
+
+	private static final int THUMB_SIZE = 320;		// 썸네일 긴 변 (px)
+	private static final int WEB_SIZE = 1280;		// 웹 이미지 긴 변 (px)
+	private static final int SNIFF_BYTES = 12;		// 형식 판별에 읽는 앞부분 크기
+	private static final long MAX_PIXELS = 60_000_000L;	// 디코딩을 허용할 최대 원본 화소 수
+
+	// 허용하는 원본 형식 (SVG/HTML 등 스크립트를 담을 수 있는 형식은 받지 않는다)
+	static final Set<String> ALLOWED_TYPES = Set.of("image/jpeg", "image/png", "image/gif", "image/webp");
+
+	private final ReportPhotosRepository reportPhotosRepository;
+	private final ReportPhotoStore reportPhotoStore;
+	private final MembersRepository membersRepository;
+
+	@Value("${report.photo.workers:2}")
+	private int workers;
+
+	@Value("${report.photo.queue-capacity:200}")
+	private int queueCapacity;
+
+	private ThreadPoolTaskExecutor executor;
+
+	// 큐에 들어가 있거나 처리 중인 사진 (같은 사진 중복 등록 방지)
+	private final Set<Integer> inFlight = ConcurrentHashMap.newKeySet();
+
+	@PostConstruct
+	void init() {
+		executor = BoundedExecutors.create("report-photo-", workers, queueCapacity, 30);
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdown();
+	}
+
+	// 사진 크기 미리 확인 (알림장을 저장하기 전에 호출, 너무 크면 IllegalArgumentException)
+	public void validate(List<MultipartFile> files) {
+		if (files == null) {
+			return;
+		}
+		for (MultipartFile file : files) {
+			if (file != null && !file.isEmpty()) {
+				reportPhotoStore.checkSize(file.getSize());
+			}
+		}
+	}
+
+	// 알림장에 사진 등록 : 원본 저장 후 변환 작업 등록
+	// 형식은 클라이언트가 보낸 Content-Type 이 아니라 파일 앞부분(시그니처)으로 판단하고, 허용 형식이 아니면 건너뜀
+	public List<ReportPhotosEntity> attach(DailyReportsEntity report, List<MultipartFile> files) {
+		List<ReportPhotosEntity> saved = new ArrayList<>();
+		if (files == null) {
+			return saved;
+		}
+		for (MultipartFile file : files) {
+			if (file == null || file.isEmpty()) {
+				continue;
+			}
+			String hash;
+			String contentType;
+			try (InputStream in = new BufferedInputStream(file.getInputStream())) {
+				in.mark(SNIFF_BYTES);
+				contentType = detectType(in.readNBytes(SNIFF_BYTES));
+				if (contentType == null) {
+					log.warn("허용되지 않은 사진 형식 건너뜀: {} ({})", file.getOriginalFilename(), file.getContentType());
+					continue;
+				}
+				in.reset();
+				hash = reportPhotoStore.store(in, contentType);
+			} catch (IOException e) {
+				throw new RuntimeException("사진 저장 실패", e);
+			}
+			saved.add(reportPhotosRepository.save(ReportPhotosEntity.builder()
+					.dailyReport(report)
+					.contentHash(hash)
+					.originalName(file.getOriginalFilename())
+					.contentType(contentType)
+					.fileSize(file.getSize())
+					.status(PENDING)
+					.uploadTime(LocalDateTime.now())
+					.build()));
+		}
+
+		// 트랜잭션 안이면 커밋 후에 워커로 넘긴다 (커밋 전 행을 워커가 못 보는 문제 방지)
+		List<Integer> ids = saved.stream().map(ReportPhotosEntity::getPhotoId).toList();
+		AfterCommit.run(() -> ids.forEach(this::submit));
+		return saved;
+	}
+
+	// 알림장별 사진 목록
+	public List<ReportPhotosDTO> getPhotos(Integer reportId) {
+		List<ReportPhotosDTO> list = new ArrayList<>();
+		for (ReportPhotosEntity p : reportPhotosRepository.findByDailyReportIdOrderByPhotoIdAsc(reportId)) {
+			list.add(ReportPhotosDTO.builder()
+					.photoId(p.getPhotoId())
+					.reportId(reportId)
+					.filename(p.getOriginalName())
+					.status(p.getStatus())
+					.uploadTime(p.getUploadTime())
+					.thumbUrl("/calendar/photos/" + p.getPhotoId() + "/" + THUMB)
+					.webUrl("/calendar/photos/" + p.getPhotoId() + "/" + WEB)
+					.build());
+		}
+		return list;
+	}
+
+	// 사진 조회 (없으면 null)
+	public ReportPhotosEntity findPhoto(Integer photoId) {
+		return reportPhotosRepository.findById(photoId).orElse(null);
+	}
+
+	// 사진을 볼 수 있는지 : 관리자, 알림장을 받은 견주, 출석 지점의 직원(원장/선생님)
+	public boolean canView(ReportPhotosEntity photo, String username) {
+		if (username == null) {
+			return false;
+		}
+		MembersEntity member = membersRepository.findByUsername(username).orElse(null);
+		if (member == null) {
+			return false;
+		}
+		if ("ADMIN".equals(member.getUserType())) {
+			return true;
+		}
+		DailyReportsEntity report = photo.getDailyReport();
+		if (report == null) {
+			return false;
+		}
+		if (report.getMembers() != null && member.getMemberId().equals(report.getMembers().getMemberId())) {
+			return true;
+		}
+		Integer branchId = reportBranchId(report);
+		return ("DIRECTOR".equals(member.getUserType()) || "TEACHER".equals(member.getUserType()))
+				&& branchId != null && branchId.equals(member.getBranchId());
+	}
+
+	// 알림장의 지점 (출석부의 지점, 없으면 출석부 반의 지점)
+	private static Integer reportBranchId(DailyReportsEntity report) {
+		AttendanceEntity attendance = report.getAttendance();
+		if (attendance == null) {
+			return null;
+		}
+		if (attendance.getBranch() != null) {
+			return attendance.getBranch().getBranchId();
+		}
+		MonthcareGroupsEntity group = attendance.getMonthgroup();
+		return group != null && group.getBranches() != null ? group.getBranches().getBranchId() : null;
+	}
+
+	// 요청한 변환 이미지가 준비되었는지 (준비 전이면 원본으로 대신 응답)
+	public boolean hasVariant(ReportPhotosEntity photo, String variant) {
+		return READY.equals(photo.getStatus()) && (THUMB.equals(variant) || WEB.equals(variant));
+	}
+
+	// 응답 MIME 타입 : 변환 이미지는 JPEG, 원본은 저장 시 판별한 형식 (허용 형식이 아니면 null, 응답하지 않음)
+	public String responseType(ReportPhotosEntity photo, String variant) {
+		if (hasVariant(photo, variant)) {
+			return MediaType.IMAGE_JPEG_VALUE;
+		}
+		return ALLOWED_TYPES.contains(photo.getContentType()) ? photo.getContentType() : null;
+	}
+
+	// 파일 앞부분으로 이미지 형식 판별 (JPEG/PNG/GIF/WebP 만, 그 외는 null)
+	static String detectType(byte[] head) {
+		if (startsWith(head, 0, 0xFF, 0xD8, 0xFF)) {
+			return "image/jpeg";
+		}
+		if (startsWith(head, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+			return "image/png";
+		}
+		if (startsWith(head, 0, 'G', 'I', 'F', '8', '7', 'a') || startsWith(head, 0, 'G', 'I', 'F', '8', '9', 'a')) {
+			return "image/gif";
+		}
+		if (startsWith(head, 0, 'R', 'I', 'F', 'F') && startsWith(head, 8, 'W', 'E', 'B', 'P')) {
+			return "image/webp";
+		}
+		return null;
+	}
+
+	private static boolean startsWith(byte[] head, int offset, int... magic) {
+		if (head.length < offset + magic.length) {
+			return false;
+		}
+		for (int i = 0; i < magic.length; i++) {
+			if ((head[offset + i] & 0xFF) != magic[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// 사진 파일 저장소 키
+	public String photoKey(ReportPhotosEntity photo, String variant) {
+		return hasVariant(photo, variant)
+				? reportPhotoStore.variantKey(photo.getContentHash(), variant)
+				: reportPhotoStore.originalKey(photo.getContentHash());
+	}
+
+	// 누락된 변환 작업 재등록 (업로드 후 1분이 지나도 PENDING 인 사진)
+	@Scheduled(fixedDelay = 60000)
+	public void resubmitPending() {
+		for (ReportPhotosEntity p : reportPhotosRepository.findTop100ByStatusAndUploadTimeBeforeOrderByPhotoIdAsc(
+				PENDING, LocalDateTime.now().minusMinutes(1))) {
+			submit(p.getPhotoId());
+		}
+	}
+
+	private void submit(Integer photoId) {
+		if (!inFlight.add(photoId)) {
+			return;
+		}
+		try {
+			executor.execute(() -> {
+				try {
+					generate(photoId);
+				} finally {
+					inFlight.remove(photoId);
+				}
+			});
+		} catch (TaskRejectedException e) {
+			// 큐가 가득 찬 경우 : PENDING 으로 남겨 두면 resubmitPending 이 다시 등록한다
+			inFlight.remove(photoId);
+			log.warn("사진 {} 변환 작업 대기열이 가득 차 다음 주기에 다시 등록", photoId);
+		}
+	}
+
+	// 썸네일/웹 이미지 생성
+	void generate(Integer photoId) {
+		ReportPhotosEntity photo = reportPhotosRepository.findById(photoId).orElse(null);
+		if (photo == null || !PENDING.equals(photo.getStatus())) {
+			return;
+		}
+		String hash = photo.getContentHash();
+		try (InputStream in = reportPhotoStore.openOriginal(hash);
+				ImageInputStream iis = in == null ? null : ImageIO.createImageInputStream(in)) {
+			if (iis == null) {
+				throw new IOException("원본이 저장소에 없습니다.");
+			}
+			// 웹 크기보다 훨씬 큰 원본은 디코딩 단계에서 건너뛰며 읽어 메모리 사용을 줄인다
+			ImageCodec.Decoded decoded = ImageCodec.read(iis, WEB_SIZE, MAX_PIXELS);
+			photo.setWidth(decoded.width);
+			photo.setHeight(decoded.height);
+
+			BufferedImage web = ImageCodec.scale(decoded.image, WEB_SIZE);
+			writeJpeg(web, hash, WEB, 0.82f);
+			writeJpeg(ImageCodec.scale(web, THUMB_SIZE), hash, THUMB, 0.75f);
+			photo.setStatus(READY);
+		} catch (Exception e) {
+			log.warn("사진 {} 변환 실패: {}", photoId, e.getMessage());
+			photo.setStatus(FAILED);
+		}
+		reportPhotosRepository.save(photo);
+	}
+
+	// JPEG 로 임시 파일에 쓴 뒤 저장소에 올림
+	private void writeJpeg(BufferedImage image, String hash, String variant, float quality) throws IOException {
+		Path tmp = reportPhotoStore.tempFile();
+		try {
+			try (OutputStream out = Files.newOutputStream(tmp)) {
+				ImageCodec.writeJpeg(image, out, quality);
+			}
+			reportPhotoStore.putVariant(hash, variant, tmp);
+		} finally {
+			Files.deleteIfExists(tmp);
+		}
+	}
+}
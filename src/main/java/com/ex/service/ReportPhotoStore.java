@@ -0,0 +1,126 @@
+package com.ex.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+// 알림장 사진 파일 저장소 (내용 주소 방식, 실제 저장은 StorageService)
+// 업로드 스트림을 임시 파일로 흘려 쓰면서 SHA-256 을 계산하고, 해시 이름의 키로 저장소에 올린다.
+// 같은 사진을 여러 번 올려도 파일은 하나만 남고, 키가 곧 내용이므로 한번 쓴 파일은 바뀌지 않는다.
+// 여러 서버가 같은 저장소(S3 등)를 쓰면 어느 서버에서 올린 사진이든 다른 서버에서 변환/응답할 수 있다.
+// 키 : photo-{해시}, 변환 이미지는 photo-{해시}_{변환이름}.jpg
+@Component
+@RequiredArgsConstructor
+public class ReportPhotoStore {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String PREFIX = "photo-";
+
+    private final StorageService storageService;
+
+    @Value("${upload.path}")
+    private String uploadPath;
+
+    // 사진 한 장 최대 크기
+    @Value("${report.photo.max-size:20MB}")
+    private DataSize maxSize;
+
+    private Path tmpDir;        // 업로드/변환 중 임시 파일 ({upload.path}/tmp)
+
+    @PostConstruct
+    void init() throws IOException {
+        tmpDir = Paths.get(uploadPath, "tmp");
+        Files.createDirectories(tmpDir);
+    }
+
+    // 스트림을 저장하고 내용 해시 반환 (이미 같은 내용이 있으면 올리지 않는다)
+    public String store(InputStream in, String contentType) throws IOException {
+        Path tmp = tempFile();
+        try {
+            MessageDigest sha256 = sha256();
+            long size = 0;
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int n;
+                while ((n = in.read(buffer)) != -1) {
+                    size += n;
+                    checkSize(size);
+                    sha256.update(buffer, 0, n);
+                    out.write(buffer, 0, n);
+                }
+            }
+            String hash = HexFormat.of().formatHex(sha256.digest());
+            String key = originalKey(hash);
+            if (storageService.stat(key) == null) {
+                put(key, tmp, contentType);
+            }
+            return hash;
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    // 사진 크기 확인 (최대 크기를 넘으면 IllegalArgumentException)
+    public void checkSize(long size) {
+        if (size > maxSize.toBytes()) {
+            throw new IllegalArgumentException("사진 크기는 " + maxSize.toMegabytes() + "MB 를 넘을 수 없습니다.");
+        }
+    }
+
+    // 원본 읽기 (없으면 null)
+    public InputStream openOriginal(String hash) throws IOException {
+        return storageService.get(originalKey(hash));
+    }
+
+    // 변환 이미지 저장 (다 쓴 임시 파일을 올린다)
+    public void putVariant(String hash, String name, Path file) throws IOException {
+        put(variantKey(hash, name), file, "image/jpeg");
+    }
+
+    // 원본 키
+    public String originalKey(String hash) {
+        return PREFIX + checkHash(hash);
+    }
+
+    // 변환 이미지 키 (thumb, web 등)
+    public String variantKey(String hash, String name) {
+        return PREFIX + checkHash(hash) + "_" + name + ".jpg";
+    }
+
+    // 변환 작업용 임시 파일 (서버 디스크, 저장 후 지운다)
+    public Path tempFile() throws IOException {
+        return Files.createTempFile(tmpDir, "photo-", ".part");
+    }
+
+    private void put(String key, Path file, String contentType) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            storageService.put(key, in, Files.size(file), contentType);
+        }
+    }
+
+    private static String checkHash(String hash) {
+        if (hash == null || !hash.matches("[0-9a-f]{64}")) {
+            throw new IllegalArgumentException("잘못된 사진 해시입니다.");
+        }
+        return hash;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.ex.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+// S3 호환 저장소 (AWS S3, MinIO 등)
+// storage.s3.endpoint 를 지정하면 해당 주소로 접속한다 (로컬 MinIO 등, path-style 주소 사용).
+// 크기를 모르거나 storage.s3.part-size 보다 큰 파일은 멀티파트 업로드로 part-size 씩 나눠 보내므로
+// 파일 전체를 메모리에 올리지 않는다. 여러 서버가 같은 버킷을 쓰면 어느 서버에서든 같은 파일을 읽을 수 있다.
+@Service
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3")
+public class S3StorageService implements StorageService {
+    private static final Logger logger = LoggerFactory.getLogger(S3StorageService.class);
+
+    // S3 멀티파트 최소 조각 크기
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    @Value("${storage.s3.bucket}")
+    private String bucket;
+
+    @Value("${storage.s3.region:ap-northeast-2}")
+    private String region;
+
+    @Value("${storage.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${storage.s3.access-key:}")
+    private String accessKey;
+
+    @Value("${storage.s3.secret-key:}")
+    private String secretKey;
+
+    @Value("${storage.s3.part-size:8MB}")
+    private DataSize partSize;
+
+    private S3Client s3;
+
+    @PostConstruct
+    void init() {
+        S3ClientBuilder builder = S3Client.builder().region(Region.of(region));
+        if (!endpoint.isEmpty()) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+        if (!accessKey.isEmpty()) {
+            builder.credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)));
+        } else {
+            builder.credentialsProvider(DefaultCredentialsProvider.create());
+        }
+        s3 = builder.build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        s3.close();
+    }
+
+    @Override
+    public void put(String key, InputStream in, long contentLength, String contentType) throws IOException {
+        StorageService.checkKey(key);
+        long part = Math.max(MIN_PART_SIZE, partSize.toBytes());
+        if (contentLength >= 0 && contentLength <= part) {
+            s3.putObject(b -> b.bucket(bucket).key(key).contentType(contentType),
+                    RequestBody.fromInputStream(in, contentLength));
+            return;
+        }
+        putMultipart(key, in, contentType, (int) part);
+    }
+
+    // 멀티파트 업로드 : 조각 하나 크기의 버퍼만 사용, 실패하면 업로드 취소
+    private void putMultipart(String key, InputStream in, String contentType, int part) throws IOException {
+        String uploadId = s3.createMultipartUpload(b -> b.bucket(bucket).key(key).contentType(contentType)).uploadId();
+        try {
+            List<CompletedPart> parts = new ArrayList<>();
+            byte[] buffer = new byte[part];
+            int partNumber = 1;
+            while (true) {
+                int read = in.readNBytes(buffer, 0, buffer.length);
+                if (read == 0 && partNumber > 1) {
+                    break;
+                }
+                int number = partNumber;
+                String etag = s3.uploadPart(b -> b.bucket(bucket).key(key).uploadId(uploadId).partNumber(number),
+                        RequestBody.fromBytes(read == buffer.length ? buffer : Arrays.copyOf(buffer, read))).eTag();
+                parts.add(CompletedPart.builder().partNumber(number).eTag(etag).build());
+                partNumber++;
+                if (read < buffer.length) {
+                    break;
+                }
+            }
+            s3.completeMultipartUpload(b -> b.bucket(bucket).key(key).uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build()));
+        } catch (IOException | RuntimeException e) {
+            try {
+                s3.abortMultipartUpload(b -> b.bucket(bucket).key(key).uploadId(uploadId));
+            } catch (RuntimeException abort) {
+                logger.warn("Failed to abort multipart upload {} for {}: {}", uploadId, key, abort.getMessage());
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public InputStream get(String key) throws IOException {
+        StorageService.checkKey(key);
+        try {
+            return s3.getObject(b -> b.bucket(bucket).key(key));
+        } catch (NoSuchKeyException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public StoredObject stat(String key) throws IOException {
+        StorageService.checkKey(key);
+        try {
+            HeadObjectResponse head = s3.headObject(b -> b.bucket(bucket).key(key));
+            String etag = head.eTag() == null ? null : head.eTag().replace("\"", "");
+            return new StoredObject(head.contentLength(), head.lastModified().toEpochMilli(), etag, head.contentType());
+        } catch (NoSuchKeyException e) {
+            return null;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        StorageService.checkKey(key);
+        s3.deleteObject(b -> b.bucket(bucket).key(key));
+        return true;
+    }
+}
@@ -0,0 +1,58 @@
+package com.ex.service;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import com.ex.entity.SchedulerLockEntity;
+import com.ex.repository.SchedulerLockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 예약 작업 단일 서버 실행 (DB 잠금 테이블)
+// 작업 이름별 행의 LOCKED_UNTIL 을 조건부 UPDATE 로 가져간 서버만 실행한다.
+// lockAtMostFor 는 실행 중 서버가 죽었을 때 잠금이 풀리는 시간이므로 작업의 최대 실행 시간보다 길게 잡는다.
+// lockAtLeastFor 는 서버 간 시계 차이로 같은 주기에 두 번 실행되지 않도록 끝난 뒤에도 잠금을 유지하는 시간이다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SchedulerLockService {
+
+	private static final String NODE = ManagementFactory.getRuntimeMXBean().getName();
+
+	private final SchedulerLockRepository schedulerLockRepository;
+
+	// 잠금을 얻으면 작업 실행 후 true, 다른 서버가 실행 중이면 건너뛰고 false
+	public boolean runLocked(String name, Duration lockAtMostFor, Duration lockAtLeastFor, Runnable task) {
+		LocalDateTime now = LocalDateTime.now();
+		if (!acquire(name, now, now.plus(lockAtMostFor))) {
+			log.info("{} 작업은 다른 서버에서 실행 중이어서 건너뜀", name);
+			return false;
+		}
+		try {
+			task.run();
+			return true;
+		} finally {
+			LocalDateTime until = now.plus(lockAtLeastFor);
+			LocalDateTime releaseAt = LocalDateTime.now();
+			schedulerLockRepository.release(name, until.isAfter(releaseAt) ? until : releaseAt, NODE);
+		}
+	}
+
+	private boolean acquire(String name, LocalDateTime now, LocalDateTime until) {
+		if (schedulerLockRepository.acquire(name, until, now, NODE) > 0) {
+			return true;
+		}
+		if (schedulerLockRepository.existsById(name)) {
+			return false;
+		}
+		// 처음 실행하는 작업 : 행을 만든 서버가 잠금을 가져감 (동시에 만들면 PK 충돌로 한 서버만 성공)
+		try {
+			schedulerLockRepository.saveAndFlush(SchedulerLockEntity.builder()
+					.name(name).lockedUntil(until).lockedAt(now).lockedBy(NODE).build());
+			return true;
+		} catch (DataIntegrityViolationException e) {
+			return false;
+		}
+	}
+}
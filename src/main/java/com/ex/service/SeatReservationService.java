@@ -0,0 +1,186 @@
+package com.ex.service;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import com.ex.entity.AdmissionsEntity;
+import com.ex.entity.MonthcareGroupsEntity;
+import com.ex.entity.SeatReservationEntity;
+import com.ex.repository.AdmissionsRepository;
+import com.ex.repository.DogAssignmentsRepository;
+import com.ex.repository.MonthcareGroupsRepository;
+import com.ex.repository.SeatReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 정규반 좌석 예약 (정원 관리)
+// 예약/확정/배정 시 반 행을 SELECT ... FOR UPDATE 로 잠가 같은 반의 정원 계산을 직렬화한다.
+// 서버가 여러 대여도 DB 잠금이므로 마지막 한 자리에 동시에 결제해도 한 명만 예약된다.
+// 좌석은 구독월 단위로 센다 (예약 시점의 다음달, 구독은 확정된 구독월 1일 ~ 말일로 만든다 : SubscriptionsService.createSubscription).
+// 점유 좌석 = 구독월과 기간이 겹치는 반배정 수 (자동갱신 중인 배정은 이후 달도 포함)
+//          + 같은 달의 만료 전 HELD + 아직 반배정되지 않은 CONFIRMED
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatReservationService {
+
+	public static final String HELD = "HELD";
+	public static final String CONFIRMED = "CONFIRMED";
+	public static final String RELEASED = "RELEASED";
+
+	private final SeatReservationRepository seatReservationRepository;
+	private final MonthcareGroupsRepository monthcareGroupsRepository;
+	private final DogAssignmentsRepository dogAssignmentsRepository;
+	private final AdmissionsRepository admissionsRepository;
+
+	// 결제 대기 좌석 유지시간 (카카오페이 결제 준비 ~ 승인 유효시간)
+	@Value("${seat.reservation.hold-ttl:15m}")
+	private Duration holdTtl;
+
+	// 좌석 예약 (결제 준비 시) : 이미 진행 중인 예약이 있으면 HELD 만료시각만 연장
+	@Transactional
+	public SeatReservationEntity reserve(Integer admissionId) {
+		MonthcareGroupsEntity group = lockGroup(admissionId);
+
+		LocalDateTime now = LocalDateTime.now();
+		SeatReservationEntity reservation = seatReservationRepository.findActiveByAdmissionId(admissionId).orElse(null);
+		if (reservation != null) {
+			if (CONFIRMED.equals(reservation.getStatus())) {
+				return reservation;
+			}
+			if (reservation.getExpiresAt().isAfter(now)) {
+				reservation.setExpiresAt(now.plus(holdTtl));
+				reservation.setUpdatedAt(now);
+				return seatReservationRepository.save(reservation);
+			}
+			// 만료된 HELD 는 정리 후 정원을 다시 계산
+			releaseNow(reservation, now);
+		}
+
+		YearMonth month = seatMonth(now);
+		if (occupied(group.getId(), month, now) >= capacity(group)) {
+			throw new RuntimeException("정원이 마감된 반입니다.");
+		}
+
+		return seatReservationRepository.save(SeatReservationEntity.builder()
+				.monthgroupId(group.getId())
+				.admissionId(admissionId)
+				.monthStart(month.atDay(1))
+				.status(HELD)
+				.expiresAt(now.plus(holdTtl))
+				.createdAt(now)
+				.updatedAt(now)
+				.build());
+	}
+
+	// 좌석 확정 (결제 승인 직전) : 만료 전 HELD 만 그대로 확정, 확정된 구독월 반환
+	// 예약이 없거나 만료됐으면 반 잠금 아래에서 정원을 다시 계산해 빈자리가 있을 때만 확정하고, 없으면 실패
+	// 이미 확정된 예약은 그대로 둔다 (결제 승인 기록에서 다시 호출해도 안전)
+	// 구독은 반환한 달로 만들어야 한다. 승인 시점 기준으로 다시 계산하면 월말에 예약하고 다음 날 승인할 때
+	// 정원을 확인하지 않은 달로 구독/반배정이 만들어진다. (SubscriptionsService.createSubscription)
+	@Transactional
+	public YearMonth confirm(Integer admissionId) {
+		MonthcareGroupsEntity group = lockGroup(admissionId);
+
+		LocalDateTime now = LocalDateTime.now();
+		SeatReservationEntity reservation = seatReservationRepository.findActiveByAdmissionId(admissionId).orElse(null);
+		if (reservation != null && CONFIRMED.equals(reservation.getStatus())) {
+			return monthOf(reservation, now);
+		}
+		if (reservation != null && reservation.getExpiresAt().isAfter(now)) {
+			reservation.setStatus(CONFIRMED);
+			reservation.setUpdatedAt(now);
+			seatReservationRepository.save(reservation);
+			return monthOf(reservation, now);
+		}
+
+		YearMonth month = seatMonth(now);
+		if (reservation != null) {
+			// 만료된 예약의 달이 아직 시작 전이면 그 달로, 이미 시작했으면 지금 기준 다음달로 다시 확인
+			if (reservation.getMonthStart() != null && YearMonth.from(reservation.getMonthStart()).isAfter(YearMonth.from(now))) {
+				month = YearMonth.from(reservation.getMonthStart());
+			}
+			releaseNow(reservation, now);
+		}
+		if (occupied(group.getId(), month, now) >= capacity(group)) {
+			throw new RuntimeException("좌석 예약 시간이 지나 그 사이 정원이 마감되었습니다.");
+		}
+		log.warn("입학 {} 좌석 예약이 없거나 만료되어 빈자리 확인 후 새로 확정", admissionId);
+		seatReservationRepository.save(SeatReservationEntity.builder()
+				.monthgroupId(group.getId())
+				.admissionId(admissionId)
+				.monthStart(month.atDay(1))
+				.status(CONFIRMED)
+				.createdAt(now)
+				.updatedAt(now)
+				.build());
+		return month;
+	}
+
+	// 좌석 반환 (결제 취소/실패, 결제 승인 실패 시)
+	// 결제가 끝난(입학 DONE) 입학의 확정 좌석은 반환하지 않는다
+	@Transactional
+	public void release(Integer admissionId) {
+		seatReservationRepository.findActiveByAdmissionId(admissionId)
+				.filter(r -> HELD.equals(r.getStatus()) || !paid(admissionId))
+				.ifPresent(r -> releaseNow(r, LocalDateTime.now()));
+	}
+
+	// 빈자리 여부 (입학 신청 시 확인용, 잠금 없음)
+	public boolean hasVacancy(Integer groupId) {
+		MonthcareGroupsEntity group = monthcareGroupsRepository.findById(groupId)
+				.orElseThrow(() -> new RuntimeException("Monthcare group not found"));
+		LocalDateTime now = LocalDateTime.now();
+		return occupied(groupId, seatMonth(now), now) < capacity(group);
+	}
+
+	// 만료된 HELD 정리
+	@Scheduled(fixedDelay = 60000)
+	public void releaseExpiredHolds() {
+		int released = seatReservationRepository.releaseExpired(LocalDateTime.now());
+		if (released > 0) {
+			log.info("만료된 좌석 예약 {}건 반환", released);
+		}
+	}
+
+	// 지금 결제하면 시작되는 구독월
+	static YearMonth seatMonth(LocalDateTime now) {
+		return YearMonth.from(now).plusMonths(1);
+	}
+
+	// 예약의 구독월 (구독월이 기록되지 않은 이전 예약은 지금 결제하면 시작되는 달)
+	private static YearMonth monthOf(SeatReservationEntity reservation, LocalDateTime now) {
+		return reservation.getMonthStart() != null ? YearMonth.from(reservation.getMonthStart()) : seatMonth(now);
+	}
+
+	// 입학의 반 행 잠금
+	private MonthcareGroupsEntity lockGroup(Integer admissionId) {
+		AdmissionsEntity admission = admissionsRepository.findById(admissionId)
+				.orElseThrow(() -> new RuntimeException("Admission not found"));
+		return monthcareGroupsRepository.findByIdForUpdate(admission.getMonthcaregroups().getId())
+				.orElseThrow(() -> new RuntimeException("Monthcare group not found"));
+	}
+
+	private void releaseNow(SeatReservationEntity reservation, LocalDateTime now) {
+		reservation.setStatus(RELEASED);
+		reservation.setUpdatedAt(now);
+		seatReservationRepository.save(reservation);
+	}
+
+	private boolean paid(Integer admissionId) {
+		return admissionsRepository.findById(admissionId).map(a -> "DONE".equals(a.getStatus())).orElse(false);
+	}
+
+	private long occupied(Integer groupId, YearMonth month, LocalDateTime now) {
+		return dogAssignmentsRepository.countOverlappingByGroup(groupId, month.atDay(1), month.atEndOfMonth())
+				+ seatReservationRepository.countOccupying(groupId, month.atDay(1), now);
+	}
+
+	// 정원 미설정 반은 제한 없음
+	private int capacity(MonthcareGroupsEntity group) {
+		return group.getCapacity() != null ? group.getCapacity() : Integer.MAX_VALUE;
+	}
+}
@@ -1,10 +1,11 @@
 package com.ex.service;
 
 import com.ex.data.BranchesDTO;
+import com.ex.data.CursorPageDTO;
 import com.ex.data.StaffMgDTO;
-import com.ex.entity.BranchEntity;
 import com.ex.entity.MembersEntity;
 import com.ex.repository.BranchesRepository;
+import com.ex.repository.CursorPaging;
 import com.ex.repository.MembersMgRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -12,26 +13,24 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class StaffMgService {
 
+    // 직원 목록에서 허용하는 정렬키
+    private static final Set<String> SORTABLE = Set.of("memberId", "name", "email", "userType", "joinDate", "branchId");
+
     private final MembersMgRepository membersMgRepository;
     private final BranchesRepository branchRepository;
-
-    // 모든 직원 정보를 페이지 네이션을 사용하여 가져옴
-    public Page<StaffMgDTO> getAllStaff(int page, int size) {
-        // 페이지 요청을 생성 (page: 페이지 번호, size: 페이지 당 항목 수)
-        Pageable pageable = PageRequest.of(page, size);
-        // "REGULAR" 타입이 아닌 직원들만 가져옴
-        Page<MembersEntity> staffEntities = membersMgRepository.findByUserTypeNotIn(List.of("REGULAR"), pageable);
-        // 가져온 직원 데이터를 DTO 형태로 변환
-        return staffEntities.map(this::convertToDTOWithBranch);
-    }
+    private final BranchDirectory branchDirectory;
+    private final MemberProfileCache memberProfileCache;
+    private final BranchStaffRoster branchStaffRoster;
 
     // 모든 직원 정보를 리스트 형태로 가져옴
     public List<StaffMgDTO> getAllStaffList() {
@@ -53,8 +52,8 @@ public class StaffMgService {
 
     // 키워드로 직원 검색을 수행하고, 페이지 네이션과 정렬을 적용하여 결과를 반환함
     public Page<StaffMgDTO> searchStaff(String keyword, int page, int size, String sortBy, String sortDir) {
-        // 정렬 방향을 설정합니다.
-        Sort sort = Sort.by(sortDir.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC, sortBy);
+        // 정렬 방향을 설정합니다. (허용되지 않은 정렬키는 IllegalArgumentException)
+        Sort sort = CursorPaging.sort(sortBy, sortDir, SORTABLE);
         // 페이지 요청을 생성합니다.
         Pageable pageable = PageRequest.of(page, size, sort);
 
@@ -65,6 +64,26 @@ public class StaffMgService {
         return staffPage.map(this::convertToDTOWithBranch);
     }
 
+    // 직원 목록 커서 조회 (keyword 가 없으면 REGULAR 를 제외한 전체, 있으면 직원 유형 중 이름/이메일/유형 검색)
+    // 정렬키 + memberId 로 키셋 조회하므로 뒤 페이지도 첫 페이지와 같은 비용, withTotal 이 false 이면 전체 건수 생략
+    public CursorPageDTO<StaffMgDTO> scrollStaff(String keyword, String cursor, int size, String sortBy, String sortDir,
+                                                 boolean withTotal) {
+        Sort sort = CursorPaging.sort(sortBy, sortDir, SORTABLE);
+        Specification<MembersEntity> spec;
+        if (keyword == null || keyword.isBlank()) {
+            spec = (root, query, cb) -> cb.not(root.get("userType").in(List.of("REGULAR")));
+        } else {
+            String pattern = "%" + keyword.toLowerCase() + "%";
+            spec = (root, query, cb) -> cb.and(
+                    root.get("userType").in(List.of("TEACHER", "DIRECTOR", "ADMIN")),
+                    cb.or(cb.like(cb.lower(root.<String>get("name")), pattern),
+                          cb.like(cb.lower(root.<String>get("email")), pattern),
+                          cb.like(cb.lower(root.<String>get("userType")), pattern)));
+        }
+        return CursorPaging.scroll(membersMgRepository, spec, sort, "memberId", size, cursor, withTotal,
+                this::convertToDTOWithBranch);
+    }
+
     // "REGULAR" 타입의 모든 직원 정보를 리스트 형태로 가져
     public List<StaffMgDTO> getAllRegularMembers() {
         // "REGULAR" 타입의 직원들만 가져옵니다.
@@ -87,11 +106,14 @@ public class StaffMgService {
         }
 
         // 직원 정보를 업데이트
+        Integer previousBranchId = member.getBranchId();
         member.setUserType(staffDTO.getUsertype());
         member.setBranchId(staffDTO.getBranchId());
 
         // 업데이트된 직원을 저장
         MembersEntity savedMember = membersMgRepository.save(member);
+        memberProfileCache.evict(savedMember.getUsername());
+        branchStaffRoster.evict(previousBranchId, savedMember.getBranchId());
 
         // DTO로 변환 후, 기본적으로 활성 상태로 설정
         StaffMgDTO savedStaffDTO = convertToDTOWithBranch(savedMember);
@@ -106,6 +128,8 @@ public class StaffMgService {
         MembersEntity member = membersMgRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Staff not found"));
 
+        Integer previousBranchId = member.getBranchId();
+
         // 직원의 활성 상태에 따라 처리
         if (!staffDTO.isActive()) {
             // 퇴사 처리: 사용자 타입을 "REGULAR"로 변경하고 지점을 null로 설정
@@ -123,6 +147,8 @@ public class StaffMgService {
 
         // 업데이트된 직원을 저장하고 DTO로 변환하여 반환
         MembersEntity updatedMember = membersMgRepository.save(member);
+        memberProfileCache.evict(updatedMember.getUsername());
+        branchStaffRoster.evict(previousBranchId, updatedMember.getBranchId());
         return convertToDTOWithBranch(updatedMember);
     }
     
@@ -141,6 +167,8 @@ public class StaffMgService {
         // 사용자 타입을 업데이트하고 저장
         member.setUserType(newType);
         MembersEntity updatedMember = membersMgRepository.save(member);
+        memberProfileCache.evict(updatedMember.getUsername());
+        branchStaffRoster.evict(updatedMember.getBranchId());
         return convertToDTOWithBranch(updatedMember);
     }
 
@@ -153,6 +181,8 @@ public class StaffMgService {
             // 사용자 타입을 "INACTIVE"로 변경하고 저장
             member.setUserType("INACTIVE");
             membersMgRepository.save(member);
+            memberProfileCache.evict(member.getUsername());
+            branchStaffRoster.evict(member.getBranchId());
             return true;
         }
         return false;
@@ -167,6 +197,8 @@ public class StaffMgService {
             if (member != null && isStaff(member.getUserType())) {
                 // 직원을 삭제
                 membersMgRepository.deleteById(id);
+                memberProfileCache.evict(member.getUsername());
+                branchStaffRoster.evict(member.getBranchId());
                 return true;
             }
         }
@@ -176,7 +208,7 @@ public class StaffMgService {
     // 모든 지점 정보를 리스트 형태로 가져
     public List<BranchesDTO> getAllBranches() {
         return branchRepository.findAll().stream()
-                .map(this::convertToBranchDTO)
+                .map(BranchesDTO::from)
                 .collect(Collectors.toList());
     }
 
@@ -209,25 +241,9 @@ public class StaffMgService {
             .build();
 
         if (member.getBranchId() != null) {
-            // 지점 ID로 BranchEntity를 찾고 DTO에 지점 이름을 설정
-            BranchEntity branch = branchRepository.findById(member.getBranchId())
-                .orElse(null);
-            if (branch != null) {
-                dto.setBranchName(branch.getName());
-            }
+            // 지점 디렉터리에서 지점 이름을 찾아 DTO에 설정 (직원마다 DB 조회하지 않음)
+            dto.setBranchName(branchDirectory.getBranchName(member.getBranchId()));
         }
         return dto;
     }
-
-    // BranchEntity를 BranchesDTO로 변환
-    private BranchesDTO convertToBranchDTO(BranchEntity branch) {
-        return BranchesDTO.builder()
-                .branchId(branch.getBranchId())
-                .branchesName(branch.getName())
-                .address(branch.getAddress())
-                .address2(branch.getAddress2())
-                .phone(branch.getPhone())
-                .active(branch.getActive())
-                .build();
-    }
 }
@@ -0,0 +1,68 @@
+package com.ex.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+// 업로드 파일 저장소
+// storage.type 으로 구현을 고른다 : local (기본, 해시 접두 폴더로 나눈 로컬 디스크), s3 (S3 호환 저장소)
+// 키는 업로드 시 만든 파일 이름(UUID + 확장자)이며 폴더 구분자는 쓰지 않는다.
+public interface StorageService {
+
+    // 저장 (스트림을 끝까지 읽어 저장, contentLength 를 모르면 -1)
+    void put(String key, InputStream in, long contentLength, String contentType) throws IOException;
+
+    // 읽기 (없으면 null)
+    InputStream get(String key) throws IOException;
+
+    // 메타정보 (없으면 null)
+    StoredObject stat(String key) throws IOException;
+
+    // 삭제 (삭제했으면 true)
+    boolean delete(String key) throws IOException;
+
+    // 로컬 디스크 경로 (로컬 저장소이고 파일이 있을 때만, 그 외에는 null)
+    // 파일 응답 시 sendfile 을 쓸 수 있는지 판단하는 데 사용
+    default Path localPath(String key) {
+        return null;
+    }
+
+    // 저장된 파일 메타정보
+    final class StoredObject {
+        private final long size;
+        private final long lastModified;
+        private final String etag;          // 저장소가 준 ETag (따옴표 없음, 없으면 null)
+        private final String contentType;   // 저장 시 MIME 타입 (모르면 null)
+
+        public StoredObject(long size, long lastModified, String etag, String contentType) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.etag = etag;
+            this.contentType = contentType;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public long getLastModified() {
+            return lastModified;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+    }
+
+    // 키 검사 : 파일 이름 형태만 허용 (경로 이동 방지)
+    static String checkKey(String key) {
+        if (key == null || !key.matches("[A-Za-z0-9][A-Za-z0-9._-]{0,199}") || key.contains("..")) {
+            throw new IllegalArgumentException("잘못된 파일 이름입니다.");
+        }
+        return key;
+    }
+}
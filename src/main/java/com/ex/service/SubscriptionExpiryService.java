@@ -0,0 +1,58 @@
+package com.ex.service;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.ex.repository.SubscriptionsRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 이용 기간이 끝난 구독 만료 처리
+// 종료일이 지난 ACTIVE 구독(환불 건 제외)을 UPDATE 한 문장으로 청크씩 바꾸며, 청크마다 트랜잭션을 나눠 잠금을 오래 잡지 않는다.
+// 서버가 여러 대여도 SchedulerLockService 로 한 서버에서만 실행된다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SubscriptionExpiryService {
+
+	private static final String LOCK_NAME = "subscription-expiry";
+
+	private final SubscriptionsRepository subscriptionsRepository;
+	private final SchedulerLockService schedulerLockService;
+	private final TransactionTemplate transactionTemplate;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${subscription.expiry.chunk-size:500}")
+	private int chunkSize;
+
+	// 매일 0시 10분 실행 (1일에 시작하지 않은 구독도 종료일 다음날 만료)
+	@Scheduled(cron = "0 10 0 * * ?")
+	public void expireDaily() {
+		schedulerLockService.runLocked(LOCK_NAME, Duration.ofMinutes(30), Duration.ofMinutes(1),
+				() -> expire(LocalDate.now()));
+	}
+
+	// today 이전에 끝난 구독 만료, 바꾼 건수 반환
+	public int expire(LocalDate today) {
+		long started = System.nanoTime();
+		int expired = 0;
+		int chunk;
+		do {
+			chunk = transactionTemplate.execute(status -> subscriptionsRepository.expireEnded(today, chunkSize));
+			expired += chunk;
+		} while (chunk == chunkSize);
+
+		long elapsed = System.nanoTime() - started;
+		meterRegistry.counter("subscription.expiry.rows").increment(expired);
+		Timer.builder("subscription.expiry.duration")
+				.register(meterRegistry)
+				.record(elapsed, TimeUnit.NANOSECONDS);
+		log.info("구독 만료 처리 완료: {}건, {}ms", expired, TimeUnit.NANOSECONDS.toMillis(elapsed));
+		return expired;
+	}
+}
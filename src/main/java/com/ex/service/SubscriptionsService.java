@@ -1,16 +1,11 @@
 package com.ex.service;
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.Comparator;
+import java.time.YearMonth;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import com.ex.data.KakaoPayDTO;
-import com.ex.data.SubscriptionsDTO;
+import com.ex.data.SubscriptionHistoryDTO;
 import com.ex.entity.AdmissionsEntity;
-import com.ex.entity.DogsEntity;
 import com.ex.entity.MembersEntity;
 import com.ex.entity.SubscriptionsEntity;
 import com.ex.repository.AdmissionsRepository;
@@ -26,13 +21,13 @@ public class SubscriptionsService {
 	private final AdmissionsRepository admissionsRepository;
 	private final MembersRepository membersRepository;
 	
-	public SubscriptionsEntity createSubscription(String username, Integer admissionId, KakaoPayDTO kakaoDTO) {
+	// 구독 등록 : month 는 좌석을 확정한 구독월 (SeatReservationService.confirm), 그 달 1일 ~ 말일
+	public SubscriptionsEntity createSubscription(String username, Integer admissionId, KakaoPayDTO kakaoDTO, YearMonth month) {
 		MembersEntity me = membersRepository.findByUsername(username).get();
 		AdmissionsEntity ae = admissionsRepository.findById(admissionId).get();
 		
-		LocalDate today = LocalDate.now();
-		LocalDate nextMonthFirstDay = today.plusMonths(1).withDayOfMonth(1);
-		LocalDate nextMonthLastDay = nextMonthFirstDay.withDayOfMonth(nextMonthFirstDay.lengthOfMonth());
+		LocalDate startDate = month.atDay(1);
+		LocalDate endDate = month.atEndOfMonth();
 		
 		String auto = null;
 		if(kakaoDTO.getAuto()==null) {
@@ -41,7 +36,7 @@ public class SubscriptionsService {
 			auto = "Y";
 		}
 		
-		SubscriptionsEntity se = SubscriptionsEntity.builder().startDate(nextMonthFirstDay).endDate(nextMonthLastDay).admissions(ae)
+		SubscriptionsEntity se = SubscriptionsEntity.builder().startDate(startDate).endDate(endDate).admissions(ae)
 				.autoRenewal(auto).status("ACTIVE").paymentDate(kakaoDTO.getCreated_at()).dogs(ae.getDogs()).member(me)
 				.amount(Integer.parseInt(kakaoDTO.getTotal_amount())).paymethod(kakaoDTO.getPayment_method_type())
 				.ticket(ae.getMonthcaregroups().getTicket()).build();
@@ -49,44 +44,23 @@ public class SubscriptionsService {
 		return se;
 	}
 	
-	public List<SubscriptionsDTO> mysubsInfo(String username){
-		List<SubscriptionsDTO> subsDTOList = new ArrayList<>();
-		SubscriptionsDTO subDTO = null;
-		MembersEntity me = membersRepository.findByUsername(username).get();
-		List<DogsEntity> de = me.getDogs();
-		for(DogsEntity dog : de) {
-			List<AdmissionsEntity> ae = dog.getAdmissions();
-			for(AdmissionsEntity admissions : ae) {
-				Optional <SubscriptionsEntity> op = subscriptionsRepository.findByAdmissions(admissions);
-				if(op.isPresent()) {
-					SubscriptionsEntity subs = op.get();
-					subDTO = new SubscriptionsDTO().builder().subscriptionId(subs.getSubscriptionId())
-							.startDate(subs.getStartDate()).endDate(subs.getEndDate()).autoRenewal(subs.getAutoRenewal())
-							.status(subs.getStatus()).usageCount(subs.getUsageCount()).amount(subs.getAmount())
-							.paymentDate(subs.getPaymentDate()).paymethod(subs.getPaymethod()).refund(subs.getRefund())
-							.admissions(subs.getAdmissions()).ticket(subs.getTicket()).dogs(subs.getDogs())
-							.member(subs.getMember()).build();
-					subsDTOList.add(subDTO);
-				}
-			}
-		}		
-		return subsDTOList.stream()
-	            .sorted(Comparator.comparing(SubscriptionsDTO::getPaymentDate).reversed())
-	            .collect(Collectors.toList());
-	} 
+	// 내 이용권 조회 : 해당 연도 구독 내역 (견주 기준 한 번의 조회, 구매일 최신순 정렬은 DB 에서)
+	public List<SubscriptionHistoryDTO> mysubsInfo(String username, int year){
+		LocalDate from = LocalDate.of(year, 1, 1);
+		return subscriptionsRepository.findHistory(username, from, from.plusYears(1));
+	}
+	
+	// 구독 내역이 있는 연도 (최신순)
+	public List<Integer> mysubsYears(String username){
+		return subscriptionsRepository.findHistoryYears(username);
+	}
+	
+	// 미결제 구독 내역 (구매일이 없어 연도별 내역에 나오지 않는 구독)
+	public List<SubscriptionHistoryDTO> mysubsUnpaid(String username){
+		return subscriptionsRepository.findUnpaidHistory(username);
+	}
 	
-	@Scheduled(cron = "0 0 0 1 * ?")
-	public void subsExpired() {
-		LocalDate today = LocalDate.now();
-		LocalDate lastMonthFirstDay = today.minusMonths(1).withDayOfMonth(1);
-		List<SubscriptionsEntity> subscriptionsList = subscriptionsRepository.findByStartDate(lastMonthFirstDay);
-		if(!subscriptionsList.isEmpty()) {
-			for(SubscriptionsEntity subs : subscriptionsList) {
-				if(subs.getRefund()==null) {
-					subs.setStatus("EXPIRED");
-					subscriptionsRepository.save(subs);
-				}				
-			}
-		}		
+	public boolean hasUnpaidSubs(String username){
+		return subscriptionsRepository.countUnpaid(username) > 0;
 	}
 }
@@ -2,13 +2,13 @@ package com.ex.service;
 import java.util.ArrayList;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import com.ex.data.CursorPageDTO;
 import com.ex.data.TicketDTO;
 import com.ex.entity.TicketEntity;
+import com.ex.repository.CursorPaging;
 import com.ex.repository.TicketRepository;
 import lombok.RequiredArgsConstructor;
 
@@ -19,11 +19,22 @@ public class TicketService {
 	@Autowired
 	private final TicketRepository ticketRepository;
 	
-	public Page<TicketEntity> getTicketsAll(int page){
-		List<Sort.Order> sorts = new ArrayList<>();
-		sorts.add((Sort.Order.desc("id").desc("salesstatus")));
-		Pageable pageable = PageRequest.of(page, 10, Sort.by(sorts));
-		return ticketRepository.findAll(pageable);
+	// 전체 이용권 커서 조회 (id 내림차순 키셋, withTotal 이 false 이면 전체 건수 생략)
+	public CursorPageDTO<TicketDTO> scrollTickets(String cursor, int size, boolean withTotal){
+		return CursorPaging.scroll(ticketRepository, Specification.where(null), Sort.by(Sort.Direction.DESC, "id"),
+				"id", size, cursor, withTotal, this::toDTO);
+	}
+	
+	private TicketDTO toDTO(TicketEntity t) {
+		return TicketDTO.builder()
+				.id(t.getId())
+				.ticketname(t.getTicketname())
+				.price(t.getPrice())
+				.groupType(t.getGroupType())
+				.salesstatus(t.getSalesstatus())
+				.dayofweek(t.getDayofweek())
+				.ticketcount(t.getTicketcount())
+				.build();
 	}
 	
 	// 판매중인 이용권 티켓만 목록 조회 (판매상태=1)
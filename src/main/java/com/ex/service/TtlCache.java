@@ -0,0 +1,142 @@
+package com.ex.service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 메모리 TTL 캐시 (회원 정보, 직원 명단, 캘린더 피드, 결제 주문 공용)
+// - ttl/최대 건수는 조회할 때마다 supplier 로 읽으므로 @Value 필드를 그대로 넘길 수 있다
+// - 최대 건수에 닿으면 만료된 항목을 먼저 지우고, 그래도 가득 차 있으면 전체를 비운다
+// - getOrLoad 는 맵 잠금 밖에서 읽어 오고, 읽는 동안 evict 가 있었으면 읽은 값을 캐시에 남기지 않는다
+// - evict 는 바로 지우고, 트랜잭션 안이면 커밋 후에 한 번 더 지워 커밋 전 값이 다시 캐시되지 않게 한다
+public final class TtlCache<K, V> {
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    // evict 횟수 (읽는 중에 evict 가 있었는지 확인용)
+    private final AtomicLong evictions = new AtomicLong();
+    private final Supplier<Duration> ttl;
+    private final IntSupplier maxEntries;
+    private Counter hits;
+    private Counter misses;
+
+    private static final class Entry<V> {
+        final V value;
+        final long expiresAt;
+
+        Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    // 건수 제한 없음 (만료된 항목은 purgeExpired 로 정리)
+    public TtlCache(Supplier<Duration> ttl) {
+        this(ttl, () -> Integer.MAX_VALUE);
+    }
+
+    public TtlCache(Supplier<Duration> ttl, IntSupplier maxEntries) {
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+    }
+
+    // getOrLoad 의 hit/miss 를 {name}{result=hit|miss} 카운터로 기록
+    public TtlCache<K, V> recordStats(MeterRegistry meterRegistry, String name) {
+        this.hits = meterRegistry.counter(name, "result", "hit");
+        this.misses = meterRegistry.counter(name, "result", "miss");
+        return this;
+    }
+
+    // 만료되지 않은 값 (없으면 null)
+    public V get(K key) {
+        Entry<V> entry = key == null ? null : entries.get(key);
+        return entry != null && entry.expiresAt > System.currentTimeMillis() ? entry.value : null;
+    }
+
+    // 캐시에 없거나 만료되었으면 loader 로 읽어 저장 (loader 가 null 을 주면 저장하지 않음)
+    public V getOrLoad(K key, Function<? super K, ? extends V> loader) {
+        Entry<V> cached = entries.get(key);
+        if (cached != null && cached.expiresAt > System.currentTimeMillis()) {
+            increment(hits);
+            return cached.value;
+        }
+        increment(misses);
+        long generation = evictions.get();
+        V value = loader.apply(key);
+        if (value == null) {
+            return null;
+        }
+        Entry<V> loaded = new Entry<>(value, System.currentTimeMillis() + ttl.get().toMillis());
+        makeRoom();
+        boolean stored = cached == null ? entries.putIfAbsent(key, loaded) == null : entries.replace(key, cached, loaded);
+        if (stored && evictions.get() != generation) {
+            entries.remove(key, loaded);
+        }
+        return value;
+    }
+
+    public void put(K key, V value) {
+        makeRoom();
+        entries.put(key, new Entry<>(value, System.currentTimeMillis() + ttl.get().toMillis()));
+    }
+
+    // 지우기만 함 (다 쓴 항목 정리 등)
+    public void remove(K key) {
+        if (key != null) {
+            entries.remove(key);
+        }
+    }
+
+    // 원본 데이터 변경 시 제거 (트랜잭션 안이면 커밋 후에 한 번 더)
+    @SafeVarargs
+    public final void evict(K... keys) {
+        evict(Arrays.asList(keys));
+    }
+
+    public void evict(Collection<K> keys) {
+        removeAll(keys);
+        AfterCommit.run(() -> removeAll(keys));
+    }
+
+    // 만료된 항목 정리
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(e -> e.expiresAt <= now);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void removeAll(Collection<K> keys) {
+        for (K key : keys) {
+            if (key != null) {
+                entries.remove(key);
+            }
+        }
+        evictions.incrementAndGet();
+    }
+
+    private void makeRoom() {
+        int max = maxEntries.getAsInt();
+        if (entries.size() >= max) {
+            purgeExpired();
+            if (entries.size() >= max) {
+                entries.clear();
+            }
+        }
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
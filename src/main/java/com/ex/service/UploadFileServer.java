@@ -0,0 +1,272 @@
+package com.ex.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+// 업로드 파일 응답 (강아지 프로필, 접종 증명서, 알림장 사진 공용)
+// - 파일 크기/수정시각이 같으면 이전에 계산한 ETag(내용 MD5)와 MIME 타입을 재사용 (요청마다 probe/해시 계산 없음)
+// - If-None-Match 가 같으면 304, Range 요청은 한 구간만 206 으로 응답 (여러 구간이면 전체 응답)
+// - 톰캣이 sendfile 을 지원하면 본문 전송을 커널에 맡기고, 아니면 FileChannel.transferTo 로 복사
+// - 원격 저장소(S3 등) 파일은 저장소 ETag 로 304 를 처리하고 본문은 스트림으로 전달
+// - UUID 이름 파일은 같은 이름으로 내용이 바뀌지 않으므로 immutable 로 1년 캐시
+@Component
+@RequiredArgsConstructor
+public class UploadFileServer {
+    private static final Pattern RANGE = Pattern.compile("^bytes=(\\d*)-(\\d*)$");
+    private static final Pattern UUID_NAME = Pattern.compile("^[0-9a-f]{32}(_[a-z]+)?(\\.[A-Za-z0-9]{1,10})?$");
+    private static final String IMMUTABLE = "private, max-age=31536000, immutable";
+    private static final int MAX_META_ENTRIES = 10000;
+    // 화면에 바로 보여줄 업로드 파일 형식 (그 외는 내려받기)
+    private static final Set<String> INLINE_TYPES = Set.of(
+            MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_GIF_VALUE, "image/webp", "image/bmp");
+
+    // 톰캣 sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final StorageService storageService;
+
+    // 파일 경로 -> 메타정보 (크기/수정시각이 바뀌면 다시 계산)
+    private final Map<Path, FileMeta> metaCache = new ConcurrentHashMap<>();
+    // 확장자 -> MIME 타입
+    private final Map<String, String> mimeCache = new ConcurrentHashMap<>();
+
+    private static final class FileMeta {
+        final long size;
+        final long lastModified;
+        final String etag;
+        final String contentType;
+
+        FileMeta(long size, long lastModified, String etag, String contentType) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.etag = etag;
+            this.contentType = contentType;
+        }
+    }
+
+    // 업로드 파일 응답 (UUID 이름이면 immutable)
+    // 로컬 저장소면 파일 경로로 응답(sendfile, Range 지원), 원격 저장소면 저장소 스트림을 그대로 전달
+    // 이미지 형식이 아닌 파일(이전에 원본 그대로 저장된 HTML/SVG 등)은 화면에 열지 않고 내려받기로 응답
+    public void serveUpload(String filename, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        boolean immutable;
+        try {
+            immutable = UUID_NAME.matcher(StorageService.checkKey(filename)).matches();
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        String contentType = mimeType(filename);
+        if (!INLINE_TYPES.contains(contentType)) {
+            contentType = MediaType.APPLICATION_OCTET_STREAM_VALUE;
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment");
+        }
+        serveStored(filename, immutable, contentType, request, response);
+    }
+
+    // 저장소 파일 응답 (contentType 이 null 이면 저장소 메타정보나 확장자로 결정)
+    public void serveStored(String filename, boolean immutable, String contentType,
+                            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        // 브라우저가 내용을 보고 형식을 추측(HTML 로 실행 등)하지 않게 한다
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        Path local;
+        try {
+            local = storageService.localPath(filename);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        if (local != null) {
+            serve(local, immutable, contentType, request, response);
+            return;
+        }
+
+        StorageService.StoredObject object = storageService.stat(filename);
+        if (object == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        String etag = object.getEtag() != null ? "\"" + object.getEtag() + "\"" : null;
+        if (etag != null) {
+            response.setHeader(HttpHeaders.ETAG, etag);
+        }
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, object.getLastModified());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, immutable ? IMMUTABLE : "no-cache");
+        if (etag != null && etagMatches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        response.setContentType(contentType != null ? contentType
+                : object.getContentType() != null ? object.getContentType() : mimeType(filename));
+        response.setContentLengthLong(object.getSize());
+        if ("HEAD".equalsIgnoreCase(request.getMethod())) {
+            return;
+        }
+        try (InputStream in = storageService.get(filename)) {
+            if (in != null) {
+                in.transferTo(response.getOutputStream());
+            }
+        }
+    }
+
+    // 파일 응답 : immutable 이면 1년 캐시, 아니면 매번 ETag 로 재검증
+    // contentType 이 null 이면 확장자로 결정
+    public void serve(Path file, boolean immutable, String contentType,
+                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        FileMeta meta = meta(file);
+        if (meta == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        response.setHeader(HttpHeaders.ETAG, meta.etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, meta.lastModified);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, immutable ? IMMUTABLE : "no-cache");
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (etagMatches(request.getHeader(HttpHeaders.IF_NONE_MATCH), meta.etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long end = meta.size - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || ifRange.equals(meta.etag))) {
+            Matcher m = RANGE.matcher(range.trim());
+            if (m.matches() && !(m.group(1).isEmpty() && m.group(2).isEmpty())) {
+                if (m.group(1).isEmpty()) {
+                    // bytes=-n : 마지막 n 바이트
+                    start = Math.max(0, meta.size - position(m.group(2)));
+                } else {
+                    start = position(m.group(1));
+                    if (!m.group(2).isEmpty()) {
+                        end = Math.min(end, position(m.group(2)));
+                    }
+                }
+                if (start >= meta.size || start > end) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + meta.size);
+                    response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + meta.size);
+            }
+        }
+
+        long length = end - start + 1;
+        response.setContentType(contentType != null ? contentType : meta.contentType);
+        response.setContentLengthLong(length);
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || length <= 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 응답 본문은 톰캣이 sendfile 로 전송
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    // Range 의 바이트 위치 (숫자만 들어옴, long 범위를 넘으면 어떤 파일보다도 큰 값으로 본다)
+    private static long position(String digits) {
+        try {
+            return Long.parseLong(digits);
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    // 파일 메타정보 (없으면 null)
+    private FileMeta meta(Path file) throws IOException {
+        BasicFileAttributes attrs;
+        try {
+            attrs = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (IOException e) {
+            metaCache.remove(file);
+            return null;
+        }
+        if (!attrs.isRegularFile()) {
+            return null;
+        }
+        long size = attrs.size();
+        long lastModified = attrs.lastModifiedTime().toMillis();
+        FileMeta meta = metaCache.get(file);
+        if (meta != null && meta.size == size && meta.lastModified == lastModified) {
+            return meta;
+        }
+
+        String etag;
+        try (InputStream in = Files.newInputStream(file)) {
+            etag = "\"" + DigestUtils.md5DigestAsHex(in) + "\"";
+        }
+        meta = new FileMeta(size, lastModified, etag, mimeType(file.getFileName().toString()));
+        if (metaCache.size() >= MAX_META_ENTRIES) {
+            metaCache.clear();
+        }
+        metaCache.put(file, meta);
+        return meta;
+    }
+
+    // 확장자별 MIME 타입 (처음 한 번만 조회)
+    private String mimeType(String filename) {
+        int dot = filename.lastIndexOf('.');
+        String ext = dot < 0 ? "" : filename.substring(dot + 1).toLowerCase();
+        return mimeCache.computeIfAbsent(ext, e -> MediaTypeFactory.getMediaType(filename)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+    }
+
+    private static boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,13 +1,7 @@
 package com.ex.service;
-import java.io.File;
-import java.net.MalformedURLException;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.List;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -20,7 +14,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class VaccinationsService {
     private final VaccinationsRepository vaccinationsRepository;
-	private final String UPLOAD_PATH="C:\\spring\\upload\\";
+    private final FileUploadService fileUploadService;
 
    
 
@@ -33,27 +27,17 @@ public class VaccinationsService {
         vaccinationsRepository.save(vaccination);
     }
 
+    // 증명서 파일은 업로드 스레드풀에서 저장하고, 저장이 끝나면 접종 정보를 등록
+    public CompletableFuture<Void> saveVaccinationWithFileAsync(VaccinationsDTO vaccinationDTO, MultipartFile file) {
+        return fileUploadService.saveImageAsync(file).thenAccept(filename -> {
+            vaccinationDTO.setFilename(filename);
+            vaccinationsRepository.save(convertToEntity(vaccinationDTO));
+        });
+    }
+
+    // 증명서 이미지 저장 (이미지가 아니면 null)
     public String profile(MultipartFile profile) {
-        String orgname = profile.getOriginalFilename();
-        String contentType = null;
-        String sysname = null;
-        String ext = null;
-        File copy = null;
-        if(profile != null && !orgname.equals("")) {
-            contentType = profile.getContentType();
-            if(contentType != null && contentType.split("/")[0].equals("image")) {
-                sysname = UUID.randomUUID().toString().replace("-", "");
-                ext = orgname.substring(orgname.lastIndexOf("."));
-                sysname += ext;
-                copy = new File(UPLOAD_PATH + sysname);
-                try {
-                    profile.transferTo(copy);
-                } catch(Exception e) {
-                    e.printStackTrace();
-                }
-            }
-        }
-        return sysname;
+        return fileUploadService.saveImage(profile);
     }
 
     private VaccinationsEntity convertToEntity(VaccinationsDTO dto) {
@@ -77,19 +61,4 @@ public class VaccinationsService {
                 .filter(vaccination -> vaccination.getDogs().getDogId().equals(dogId))
                 .collect(Collectors.toList());
     }
-    public Resource loadFileAsResource(String filename) {
-        try {
-            Path filePath = Paths.get(UPLOAD_PATH).resolve(filename).normalize();
-            org.springframework.core.io.Resource resource = new UrlResource(filePath.toUri());
-            if(resource.exists()) {
-                return resource;
-            } else {
-                throw new RuntimeException("File not found " + filename);
-            }
-        } catch (MalformedURLException ex) {
-            throw new RuntimeException("File not found " + filename, ex);
-        }
-    }
-    }
-
-
+}
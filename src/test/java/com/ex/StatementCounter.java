@@ -0,0 +1,83 @@
+package com.ex;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+// 테스트용 DB 왕복 횟수 집계
+// DataSource 를 감싸 Statement 의 execute* 호출 수를 센다 (JPA, JdbcTemplate, MyBatis 공통, batch 전송은 1회)
+@TestConfiguration
+public class StatementCounter {
+
+	private static final AtomicInteger executed = new AtomicInteger();
+
+	public static void reset() {
+		executed.set(0);
+	}
+
+	public static int count() {
+		return executed.get();
+	}
+
+	@Bean
+	static BeanPostProcessor statementCountingPostProcessor() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof DataSource dataSource && !(bean instanceof CountingDataSource)) {
+					return new CountingDataSource(dataSource);
+				}
+				return bean;
+			}
+		};
+	}
+
+	private static final class CountingDataSource extends DelegatingDataSource {
+
+		CountingDataSource(DataSource target) {
+			super(target);
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			return wrap(super.getConnection(), Connection.class);
+		}
+
+		@Override
+		public Connection getConnection(String username, String password) throws SQLException {
+			return wrap(super.getConnection(username, password), Connection.class);
+		}
+	}
+
+	// Connection 이 돌려주는 Statement 도 감싸고, Statement 의 execute* 는 횟수를 센다
+	@SuppressWarnings("unchecked")
+	private static <T> T wrap(T target, Class<T> type) {
+		return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+			if ("unwrap".equals(method.getName()) && ((Class<?>) args[0]).isInstance(target)) {
+				return target;
+			}
+			if (target instanceof Statement && method.getName().startsWith("execute")) {
+				executed.incrementAndGet();
+			}
+			Object result;
+			try {
+				result = method.invoke(target, args);
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+			if (target instanceof Connection && result instanceof Statement
+					&& Statement.class.isAssignableFrom(method.getReturnType())) {
+				return wrap(result, (Class<Object>) method.getReturnType());
+			}
+			return result;
+		});
+	}
+}
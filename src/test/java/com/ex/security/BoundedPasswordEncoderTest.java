@@ -0,0 +1,99 @@
+package com.ex.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 비밀번호 해시 스레드풀 : 대기열 초과/시간 초과는 AuthenticationServiceException, 시간 초과된 작업은 실행되지 않음
+// (해시 스레드 1개, 대기열 1개, timeout 1초)
+class BoundedPasswordEncoderTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private BoundedPasswordEncoder encoder;
+	private BCryptPasswordEncoder delegate;
+	private ThreadPoolTaskExecutor executor;
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		encoder = new BoundedPasswordEncoder(meterRegistry);
+		ReflectionTestUtils.setField(encoder, "cost", 4);
+		ReflectionTestUtils.setField(encoder, "workers", 1);
+		ReflectionTestUtils.setField(encoder, "queueCapacity", 1);
+		ReflectionTestUtils.setField(encoder, "timeoutSeconds", 1);
+		encoder.init();
+		delegate = spy((BCryptPasswordEncoder) ReflectionTestUtils.getField(encoder, "delegate"));
+		ReflectionTestUtils.setField(encoder, "delegate", delegate);
+		executor = (ThreadPoolTaskExecutor) ReflectionTestUtils.getField(encoder, "executor");
+	}
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		encoder.shutdown();
+	}
+
+	@Test
+	void encodesAndMatches() {
+		String hash = encoder.encode("secret");
+
+		assertTrue(encoder.matches("secret", hash));
+		assertFalse(encoder.matches("other", hash));
+		assertEquals(3, outcomeCount("success"));
+	}
+
+	@Test
+	void rejectsWhenQueueIsFull() throws Exception {
+		blockWorker();
+		executor.submit(() -> null);	// 대기열 1개를 채움
+
+		assertThrows(AuthenticationServiceException.class, () -> encoder.matches("secret", "$2a$04$x"));
+		assertEquals(1, outcomeCount("rejected"));
+	}
+
+	@Test
+	void timedOutTaskIsCancelled() throws Exception {
+		blockWorker();
+
+		assertThrows(AuthenticationServiceException.class, () -> encoder.matches("secret", "$2a$04$x"));
+		assertEquals(1, outcomeCount("timeout"));
+
+		// 작업자를 풀고 뒤에 넣은 작업이 끝날 때까지 기다리면, 취소된 해시 작업은 실행되지 않았어야 한다
+		release.countDown();
+		executor.submit(() -> null).get(5, TimeUnit.SECONDS);
+		verify(delegate, never()).matches(any(), any());
+	}
+
+	// 하나뿐인 해시 스레드를 release 전까지 붙잡아 둔다
+	private void blockWorker() throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		executor.submit(() -> {
+			started.countDown();
+			release.await();
+			return null;
+		});
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+	}
+
+	private long outcomeCount(String outcome) {
+		return meterRegistry.find("security.password.hash").tag("outcome", outcome).timers().stream()
+				.mapToLong(t -> t.count()).sum();
+	}
+}
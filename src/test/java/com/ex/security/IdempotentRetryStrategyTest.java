@@ -0,0 +1,43 @@
+package com.ex.security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import org.apache.hc.core5.http.message.BasicHttpRequest;
+import org.apache.hc.core5.http.message.BasicHttpResponse;
+import org.apache.hc.core5.http.protocol.HttpCoreContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.junit.jupiter.api.Test;
+
+// 외부 API 재시도 : 429/503 응답과 연결 오류 모두 멱등 요청(GET)만 재시도, 결제 POST 는 재시도하지 않음
+class IdempotentRetryStrategyTest {
+
+	private final RestTemplateConfig.IdempotentRetryStrategy strategy =
+			new RestTemplateConfig.IdempotentRetryStrategy(2, TimeValue.ofSeconds(1));
+
+	@Test
+	void retriesBusyResponseOnlyForIdempotentRequests() {
+		for (int status : new int[] {429, 503}) {
+			assertTrue(strategy.retryRequest(new BasicHttpResponse(status), 1, context("GET")));
+			assertFalse(strategy.retryRequest(new BasicHttpResponse(status), 1, context("POST")));
+		}
+		assertFalse(strategy.retryRequest(new BasicHttpResponse(500), 1, context("GET")));
+		assertFalse(strategy.retryRequest(new BasicHttpResponse(503), 3, context("GET")));
+	}
+
+	@Test
+	void retriesIoErrorOnlyForIdempotentRequests() {
+		IOException error = new IOException("Connection reset");
+		assertTrue(strategy.retryRequest(new BasicHttpRequest("GET", "/v2/local/search/address.json"), error, 1,
+				HttpCoreContext.create()));
+		assertFalse(strategy.retryRequest(new BasicHttpRequest("POST", "/online/v1/payment/approve"), error, 1,
+				HttpCoreContext.create()));
+	}
+
+	private static HttpCoreContext context(String method) {
+		HttpCoreContext context = HttpCoreContext.create();
+		context.setAttribute(HttpCoreContext.HTTP_REQUEST, new BasicHttpRequest(method, "/v2/local/search/address.json"));
+		return context;
+	}
+}
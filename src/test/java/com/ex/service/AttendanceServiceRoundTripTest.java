@@ -0,0 +1,94 @@
+package com.ex.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+import com.ex.StatementCounter;
+import com.ex.data.AttendanceDTO;
+import com.ex.data.MonthAttendanceTargetDTO;
+import com.ex.entity.DogsEntity;
+import com.ex.entity.MonthcareGroupsEntity;
+import com.ex.repository.DogsRepository;
+import com.ex.repository.MonthcareGroupsRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+// 월 출석부 등록 DB 왕복 횟수 : 행 단위 등록(이전 방식) vs 일괄 등록
+// 이전 방식은 날짜마다 createAttendance (지점 조회 + 시퀀스 조회 + insert) 를 호출하던 흐름을 그대로 재현한다.
+// 테스트 트랜잭션은 롤백되므로 데이터는 남지 않는다. (강아지, 정규반 데이터가 있어야 실행됨)
+@SpringBootTest
+@Import(StatementCounter.class)
+@Transactional
+class AttendanceServiceRoundTripTest {
+	private static final Logger logger = LoggerFactory.getLogger(AttendanceServiceRoundTripTest.class);
+
+	private static final String DAY_OF_WEEK = "1,2,3,4,5";
+
+	@Autowired
+	AttendanceService attendanceService;
+	@Autowired
+	DogsRepository dogsRepository;
+	@Autowired
+	MonthcareGroupsRepository monthcareGroupsRepository;
+	@PersistenceContext
+	EntityManager entityManager;
+
+	@Test
+	void monthAttendanceRoundTrips() {
+		List<DogsEntity> dogs = dogsRepository.findAll(PageRequest.of(0, 1)).getContent();
+		List<MonthcareGroupsEntity> groups = monthcareGroupsRepository.findAll(PageRequest.of(0, 1)).getContent();
+		assumeTrue(!dogs.isEmpty() && !groups.isEmpty() && groups.get(0).getBranches() != null, "강아지/정규반 데이터 없음");
+		DogsEntity dog = dogs.get(0);
+		MonthcareGroupsEntity group = groups.get(0);
+		Integer branchId = group.getBranches().getBranchId();
+		entityManager.clear();
+
+		// 이전 방식 : 날짜마다 등록 (요청마다 영속성 컨텍스트가 새로 시작되던 것처럼 행마다 비움)
+		YearMonth perRowMonth = YearMonth.of(2099, 1);
+		List<LocalDate> dates = attendanceService.getAttendanceDates(DAY_OF_WEEK, perRowMonth);
+		StatementCounter.reset();
+		for (LocalDate date : dates) {
+			attendanceService.createAttendance(branchId, AttendanceDTO.builder()
+					.attendancedate(date)
+					.status("PRESENT")
+					.notes("")
+					.dog(dog)
+					.monthgroup(group)
+					.build());
+			entityManager.flush();
+			entityManager.clear();
+		}
+		int perRow = StatementCounter.count();
+
+		// 일괄 등록
+		YearMonth batchMonth = YearMonth.of(2099, 2);
+		MonthAttendanceTargetDTO target = MonthAttendanceTargetDTO.builder()
+				.subscriptionId(0)
+				.dogId(dog.getDogId())
+				.branchId(branchId)
+				.monthgroupId(group.getId())
+				.dayofweek(DAY_OF_WEEK)
+				.build();
+		StatementCounter.reset();
+		int created = attendanceService.createMonthAttendance(batchMonth, List.of(target));
+		int batched = StatementCounter.count();
+
+		logger.info("월 출석부 등록 DB 왕복: 행 단위 {}건 {}회 -> 일괄 {}건 {}회", dates.size(), perRow, created, batched);
+		assertEquals(attendanceService.getAttendanceDates(DAY_OF_WEEK, batchMonth).size(), created);
+		// 기존 출석부 확인 1회 + id 블록 할당 1회 + batch insert 1회
+		assertTrue(batched <= 3, "일괄 등록 DB 왕복 " + batched + "회");
+		assertTrue(perRow >= dates.size() * 2, "행 단위 등록 DB 왕복 " + perRow + "회");
+	}
+}
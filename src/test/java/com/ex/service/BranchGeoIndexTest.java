@@ -0,0 +1,91 @@
+package com.ex.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.ex.data.BranchesNearbyDTO;
+import com.ex.entity.BranchEntity;
+import com.ex.repository.BranchesRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 가까운 지점 검색 : 격자 탐색 결과가 전체 거리 계산과 같고, 먼 위치/큰 k 도 지점 수만큼의 계산으로 끝난다
+class BranchGeoIndexTest {
+
+	private static final int BRANCHES = 40;
+
+	private final List<BranchEntity> branches = new ArrayList<>();
+	private BranchGeoIndex index;
+
+	@BeforeEach
+	void setUp() {
+		// 서울 ~ 부산 사이에 흩어진 활성 지점
+		Random random = new Random(7);
+		for (int i = 1; i <= BRANCHES; i++) {
+			branches.add(BranchEntity.builder()
+					.branchId(i)
+					.name("지점" + i)
+					.active(true)
+					.latitude(BigDecimal.valueOf(35.0 + random.nextDouble() * 2.6))
+					.longitude(BigDecimal.valueOf(126.7 + random.nextDouble() * 2.4))
+					.build());
+		}
+		BranchesRepository repository = mock(BranchesRepository.class);
+		when(repository.findAll()).thenAnswer(inv -> new ArrayList<>(branches));
+		BranchDirectory directory = new BranchDirectory(repository, new ObjectMapper(), new SimpleMeterRegistry());
+		index = new BranchGeoIndex(directory);
+	}
+
+	@Test
+	void matchesBruteForceInsideIndexedArea() {
+		Random random = new Random(11);
+		for (int q = 0; q < 50; q++) {
+			double lat = 35.0 + random.nextDouble() * 2.6;
+			double lng = 126.7 + random.nextDouble() * 2.4;
+			assertEquals(bruteForce(lat, lng, 5), ids(index.nearest(lat, lng, 5, null)));
+		}
+	}
+
+	@Test
+	void farAwayQueryIsAnsweredByLinearScan() {
+		List<BranchesNearbyDTO> result = assertTimeoutPreemptively(Duration.ofMillis(500),
+				() -> index.nearest(-90, -180, 3, null));
+		assertEquals(bruteForce(-90, -180, 3), ids(result));
+
+		result = assertTimeoutPreemptively(Duration.ofMillis(500), () -> index.nearest(90, 180, 3, null));
+		assertEquals(bruteForce(90, 180, 3), ids(result));
+	}
+
+	@Test
+	void kLargerThanBranchCountReturnsEveryBranchInOrder() {
+		List<BranchesNearbyDTO> result = assertTimeoutPreemptively(Duration.ofMillis(500),
+				() -> index.nearest(37.5, 127.0, 50, null));
+		assertEquals(bruteForce(37.5, 127.0, BRANCHES), ids(result));
+
+		result = assertTimeoutPreemptively(Duration.ofMillis(500), () -> index.nearest(-33.9, 151.2, 50, null));
+		assertEquals(BRANCHES, result.size());
+	}
+
+	private List<Integer> bruteForce(double lat, double lng, int k) {
+		return branches.stream()
+				.sorted(Comparator.comparingDouble(b -> BranchGeoIndex.haversineKm(lat, lng,
+						b.getLatitude().doubleValue(), b.getLongitude().doubleValue())))
+				.limit(k)
+				.map(BranchEntity::getBranchId)
+				.toList();
+	}
+
+	private static List<Integer> ids(List<BranchesNearbyDTO> result) {
+		return result.stream().map(BranchesNearbyDTO::getBranchId).toList();
+	}
+}
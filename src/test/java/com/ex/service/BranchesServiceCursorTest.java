@@ -0,0 +1,98 @@
+package com.ex.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import com.ex.data.BranchesDTO;
+import com.ex.data.BranchesListResponseDTO;
+import com.ex.entity.BranchEntity;
+import com.ex.repository.BranchesRepository;
+
+// 지점 목록 커서 조회 : NULL 정렬키가 있어도 모든 행을 한 번씩, NULL 은 마지막에 (테스트 데이터는 롤백)
+@SpringBootTest
+@Transactional
+class BranchesServiceCursorTest {
+
+	@Autowired
+	private BranchesService branchesService;
+	@Autowired
+	private BranchesRepository branchesRepository;
+
+	@BeforeEach
+	void setUp() {
+		// 같은 전화번호, NULL 전화번호가 여러 건 섞이도록 추가
+		for (int i = 0; i < 7; i++) {
+			branchesRepository.save(BranchEntity.builder()
+					.name("커서테스트" + i)
+					.address("주소" + i)
+					.phone(i % 3 == 0 ? null : "010-0000-000" + (i % 2))
+					.active(i % 2 == 0)
+					.build());
+		}
+		branchesRepository.flush();
+	}
+
+	@Test
+	void walksEveryRowOnceWithNullsLast() {
+		Set<Integer> all = new HashSet<>();
+		branchesRepository.findAll().forEach(b -> all.add(b.getBranchId()));
+
+		for (String dir : List.of("asc", "desc")) {
+			List<BranchesDTO> seen = walk("phone", dir);
+			Set<Integer> ids = new HashSet<>();
+			seen.forEach(b -> ids.add(b.getBranchId()));
+			assertEquals(seen.size(), ids.size(), "중복 없이 조회되어야 함 (" + dir + ")");
+			assertEquals(all, ids, "모든 지점이 조회되어야 함 (" + dir + ")");
+
+			// NULL 이 나오기 시작하면 끝까지 NULL
+			boolean nullSeen = false;
+			for (BranchesDTO b : seen) {
+				if (b.getPhone() == null) {
+					nullSeen = true;
+				} else {
+					assertFalse(nullSeen, "NULL 정렬키는 마지막에 와야 함 (" + dir + ")");
+				}
+			}
+		}
+	}
+
+	@Test
+	void unknownSortIsRejected() {
+		assertThrows(IllegalArgumentException.class,
+				() -> branchesService.listBranches(null, 10, "latitude; drop", "asc", false, false));
+		assertThrows(IllegalArgumentException.class,
+				() -> branchesService.listBranches(0, 10, "nope", "asc", false));
+	}
+
+	@Test
+	void cursorFromOtherSortIsRejected() {
+		BranchesListResponseDTO first = branchesService.listBranches(null, 2, "name", "asc", false, false);
+		assertThrows(IllegalArgumentException.class,
+				() -> branchesService.listBranches(first.getNextCursor(), 2, "phone", "asc", false, false));
+	}
+
+	private List<BranchesDTO> walk(String sortBy, String sortDir) {
+		List<BranchesDTO> seen = new ArrayList<>();
+		String cursor = null;
+		do {
+			BranchesListResponseDTO page = branchesService.listBranches(cursor, 3, sortBy, sortDir, false, false);
+			seen.addAll(page.getBranches());
+			cursor = page.getNextCursor();
+			if (!page.isHasNext()) {
+				assertNull(cursor);
+			}
+		} while (cursor != null);
+		return seen;
+	}
+}
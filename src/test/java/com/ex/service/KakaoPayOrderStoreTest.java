@@ -0,0 +1,62 @@
+package com.ex.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import com.ex.data.KakaoPayDTO;
+
+// 결제 주문 보관 : ttl 안에서만 조회되고, 만료된 주문은 정리 때 지워진다
+class KakaoPayOrderStoreTest {
+
+	private KakaoPayOrderStore store;
+
+	@BeforeEach
+	void setUp() {
+		store = new KakaoPayOrderStore();
+		ReflectionTestUtils.setField(store, "ttl", Duration.ofMinutes(30));
+	}
+
+	@Test
+	void returnsOrderWithinTtl() {
+		KakaoPayDTO order = order("A-1");
+		store.put(order);
+
+		assertSame(order, store.get("A-1"));
+		assertNull(store.get("A-2"));
+		assertNull(store.get(null));
+
+		store.remove("A-1");
+		assertNull(store.get("A-1"));
+	}
+
+	@Test
+	void expiredOrderIsNotReturnedAndIsPurged() {
+		ReflectionTestUtils.setField(store, "ttl", Duration.ZERO);
+		store.put(order("OLD"));
+		ReflectionTestUtils.setField(store, "ttl", Duration.ofMinutes(30));
+		store.put(order("NEW"));
+
+		assertNull(store.get("OLD"));
+		assertEquals("NEW", store.get("NEW").getPartner_order_id());
+
+		store.purgeExpired();
+		assertEquals(1, orders().size());
+		assertEquals("NEW", store.get("NEW").getPartner_order_id());
+	}
+
+	private TtlCache<?, ?> orders() {
+		return (TtlCache<?, ?>) ReflectionTestUtils.getField(store, "orders");
+	}
+
+	private static KakaoPayDTO order(String orderId) {
+		KakaoPayDTO order = new KakaoPayDTO();
+		order.setPartner_order_id(orderId);
+		order.setTid("T" + orderId);
+		return order;
+	}
+}
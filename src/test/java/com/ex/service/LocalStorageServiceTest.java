@@ -0,0 +1,82 @@
+package com.ex.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.DigestUtils;
+
+// 로컬 저장소 : 키 해시 앞 4자리 폴더에 저장/조회/삭제, 루트 바로 아래의 이전 파일 조회, 경로가 섞인 키 거부
+class LocalStorageServiceTest {
+
+	private static final byte[] CONTENT = "happy jelly".getBytes(StandardCharsets.UTF_8);
+
+	@TempDir
+	Path root;
+
+	private LocalStorageService storage;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		storage = new LocalStorageService();
+		ReflectionTestUtils.setField(storage, "uploadPath", root.toString());
+		storage.init();
+	}
+
+	@Test
+	void roundTripsThroughShardedFolder() throws Exception {
+		String key = "0123456789abcdef0123456789abcdef.jpg";
+		storage.put(key, new ByteArrayInputStream(CONTENT), CONTENT.length, "image/jpeg");
+
+		String hash = DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8));
+		Path expected = root.toAbsolutePath().normalize()
+				.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(key);
+		assertEquals(expected, storage.localPath(key));
+		assertFalse(Files.exists(root.resolve(key)));
+
+		assertEquals(CONTENT.length, storage.stat(key).getSize());
+		try (InputStream in = storage.get(key)) {
+			assertArrayEquals(CONTENT, in.readAllBytes());
+		}
+
+		assertTrue(storage.delete(key));
+		assertNull(storage.get(key));
+		assertNull(storage.stat(key));
+		assertFalse(storage.delete(key));
+	}
+
+	@Test
+	void readsLegacyFileAtRoot() throws Exception {
+		String key = "legacy-avatar.png";
+		Files.write(root.resolve(key), CONTENT);
+
+		assertEquals(root.toAbsolutePath().normalize().resolve(key), storage.localPath(key));
+		assertEquals(CONTENT.length, storage.stat(key).getSize());
+		try (InputStream in = storage.get(key)) {
+			assertArrayEquals(CONTENT, in.readAllBytes());
+		}
+	}
+
+	@Test
+	void rejectsKeysWithPaths() {
+		for (String key : new String[] {"../secret.txt", "a/b.jpg", "..", ".hidden", "", "a\\b.jpg"}) {
+			assertThrows(IllegalArgumentException.class,
+					() -> storage.put(key, new ByteArrayInputStream(CONTENT), CONTENT.length, null), key);
+			assertThrows(IllegalArgumentException.class, () -> storage.get(key), key);
+			assertThrows(IllegalArgumentException.class, () -> storage.delete(key), key);
+		}
+		assertThrows(IllegalArgumentException.class, () -> storage.get(null));
+	}
+}
@@ -0,0 +1,151 @@
+package com.ex.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import com.ex.entity.AttendanceEntity;
+import com.ex.entity.BranchEntity;
+import com.ex.entity.DailyReportsEntity;
+import com.ex.entity.MembersEntity;
+import com.ex.entity.ReportPhotosEntity;
+import com.ex.repository.MembersRepository;
+import com.ex.repository.ReportPhotosRepository;
+
+// 알림장 사진 형식/권한 검사 (저장소와 DB 는 목 객체)
+class ReportPhotoServiceTest {
+
+	private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, 0x0D, 'I', 'H'};
+	private static final byte[] JPEG = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 0, 0x10, 'J', 'F', 'I', 'F'};
+	private static final byte[] GIF = "GIF89a-----".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] WEBP = "RIFF\0\0\0\0WEBPVP8 ".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] SVG = "<svg xmlns=\"http://www.w3.org/2000/svg\" onload=\"alert(1)\"/>"
+			.getBytes(StandardCharsets.US_ASCII);
+
+	private ReportPhotosRepository reportPhotosRepository;
+	private ReportPhotoStore reportPhotoStore;
+	private MembersRepository membersRepository;
+	private ReportPhotoService service;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		reportPhotosRepository = mock(ReportPhotosRepository.class);
+		reportPhotoStore = mock(ReportPhotoStore.class);
+		membersRepository = mock(MembersRepository.class);
+		service = new ReportPhotoService(reportPhotosRepository, reportPhotoStore, membersRepository);
+		ReflectionTestUtils.setField(service, "workers", 1);
+		ReflectionTestUtils.setField(service, "queueCapacity", 10);
+		service.init();
+
+		AtomicInteger ids = new AtomicInteger();
+		when(reportPhotosRepository.save(any())).thenAnswer(inv -> {
+			ReportPhotosEntity e = inv.getArgument(0);
+			e.setPhotoId(ids.incrementAndGet());
+			return e;
+		});
+		when(reportPhotosRepository.findById(any())).thenReturn(Optional.empty());
+		// 저장소는 스트림을 끝까지 읽고 고정 해시를 돌려준다
+		when(reportPhotoStore.store(any(), any())).thenAnswer(inv -> {
+			((InputStream) inv.getArgument(0)).readAllBytes();
+			return "0".repeat(64);
+		});
+	}
+
+	@AfterEach
+	void tearDown() {
+		service.shutdown();
+	}
+
+	@Test
+	void detectsAllowedTypesBySignature() {
+		assertEquals("image/png", ReportPhotoService.detectType(PNG));
+		assertEquals("image/jpeg", ReportPhotoService.detectType(JPEG));
+		assertEquals("image/gif", ReportPhotoService.detectType(GIF));
+		assertEquals("image/webp", ReportPhotoService.detectType(WEBP));
+		assertNull(ReportPhotoService.detectType(SVG));
+		assertNull(ReportPhotoService.detectType("<html><script>".getBytes(StandardCharsets.US_ASCII)));
+		assertNull(ReportPhotoService.detectType(new byte[] {(byte) 0xFF}));
+	}
+
+	@Test
+	void svgIsRejectedEvenWithImageContentType() throws Exception {
+		List<ReportPhotosEntity> saved = service.attach(new DailyReportsEntity(), List.of(
+				new MockMultipartFile("photos", "x.svg", "image/svg+xml", SVG),
+				new MockMultipartFile("photos", "x.png", "image/png", SVG)));
+
+		assertTrue(saved.isEmpty());
+		verify(reportPhotoStore, never()).store(any(), any());
+	}
+
+	@Test
+	void storesDetectedTypeInsteadOfClientType() throws Exception {
+		List<ReportPhotosEntity> saved = service.attach(new DailyReportsEntity(), List.of(
+				new MockMultipartFile("photos", "a.svg", "image/svg+xml", PNG),
+				new MockMultipartFile("photos", "b.jpg", "text/html", JPEG)));
+
+		assertEquals(2, saved.size());
+		assertEquals("image/png", saved.get(0).getContentType());
+		assertEquals("image/jpeg", saved.get(1).getContentType());
+	}
+
+	@Test
+	void legacyUnsafeOriginalIsNotServed() {
+		ReportPhotosEntity photo = ReportPhotosEntity.builder()
+				.contentHash("0".repeat(64)).contentType("image/svg+xml").status(ReportPhotoService.PENDING).build();
+		assertNull(service.responseType(photo, ReportPhotoService.ORIGINAL));
+
+		photo.setStatus(ReportPhotoService.READY);
+		assertEquals("image/jpeg", service.responseType(photo, ReportPhotoService.THUMB));
+		assertNull(service.responseType(photo, ReportPhotoService.ORIGINAL));
+	}
+
+	@Test
+	void onlyOwnerBranchStaffAndAdminCanView() {
+		BranchEntity branch = BranchEntity.builder().branchId(7).build();
+		AttendanceEntity attendance = new AttendanceEntity();
+		attendance.setBranch(branch);
+		DailyReportsEntity report = new DailyReportsEntity();
+		report.setMembers(member(1, "owner", "REGULAR", null));
+		report.setAttendance(attendance);
+		ReportPhotosEntity photo = ReportPhotosEntity.builder().dailyReport(report).build();
+
+		member(2, "other", "REGULAR", null);
+		member(3, "teacher", "TEACHER", 7);
+		member(4, "elsewhere", "TEACHER", 8);
+		member(5, "admin", "ADMIN", null);
+
+		assertTrue(service.canView(photo, "owner"));
+		assertFalse(service.canView(photo, "other"));
+		assertTrue(service.canView(photo, "teacher"));
+		assertFalse(service.canView(photo, "elsewhere"));
+		assertTrue(service.canView(photo, "admin"));
+		assertFalse(service.canView(photo, null));
+		assertFalse(service.canView(photo, "unknown"));
+	}
+
+	private MembersEntity member(int id, String username, String userType, Integer branchId) {
+		MembersEntity m = new MembersEntity();
+		m.setMemberId(id);
+		m.setUsername(username);
+		m.setUserType(userType);
+		m.setBranchId(branchId);
+		when(membersRepository.findByUsername(username)).thenReturn(Optional.of(m));
+		return m;
+	}
+}
@@ -0,0 +1,192 @@
+package com.ex.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.unit.DataSize;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+// S3 저장소 멀티파트 업로드 : 로컬 가짜 S3(endpoint 지정)로 보내 조각 크기/순서/완료 요청을 확인
+// 조각 크기는 S3 최소값(5MB)으로 맞춰지므로 part-size 를 더 작게 줘도 5MB 씩 나눈다.
+// (http 주소에서는 SDK 가 본문을 aws-chunked 로 서명해 보내므로 가짜 S3 에서 풀어서 비교)
+class S3StorageServiceTest {
+
+	private static final int MB = 1024 * 1024;
+	private static final String XMLNS = "http://s3.amazonaws.com/doc/2006-03-01/";
+
+	private HttpServer server;
+	private S3StorageService storage;
+
+	// 받은 요청 (메서드, 쿼리, 본문)
+	private final List<Request> requests = new CopyOnWriteArrayList<>();
+
+	private record Request(String method, String query, byte[] body) {
+	}
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/", this::handle);
+		server.start();
+
+		storage = new S3StorageService();
+		ReflectionTestUtils.setField(storage, "bucket", "photos");
+		ReflectionTestUtils.setField(storage, "region", "ap-northeast-2");
+		ReflectionTestUtils.setField(storage, "endpoint", "http://127.0.0.1:" + server.getAddress().getPort());
+		ReflectionTestUtils.setField(storage, "accessKey", "test");
+		ReflectionTestUtils.setField(storage, "secretKey", "test");
+		ReflectionTestUtils.setField(storage, "partSize", DataSize.ofKilobytes(64));
+		storage.init();
+	}
+
+	@AfterEach
+	void tearDown() {
+		storage.shutdown();
+		server.stop(0);
+	}
+
+	@Test
+	void largeUploadIsSplitIntoMinimumSizeParts() throws Exception {
+		byte[] content = random(12 * MB);
+		storage.put("photo-large", new ByteArrayInputStream(content), content.length, "image/jpeg");
+
+		List<Request> parts = parts();
+		assertEquals(List.of(5 * MB, 5 * MB, 2 * MB), parts.stream().map(r -> r.body().length).toList());
+		for (int i = 0; i < parts.size(); i++) {
+			assertTrue(parts.get(i).query().contains("partNumber=" + (i + 1)), parts.get(i).query());
+		}
+		assertArrayEquals(content, concat(parts));
+		assertCompletedWith(3);
+	}
+
+	@Test
+	void exactMultipleOfPartSizeSendsNoEmptyPart() throws Exception {
+		byte[] content = random(10 * MB);
+		storage.put("photo-exact", new ByteArrayInputStream(content), content.length, "image/jpeg");
+
+		assertEquals(List.of(5 * MB, 5 * MB), parts().stream().map(r -> r.body().length).toList());
+		assertCompletedWith(2);
+	}
+
+	@Test
+	void smallUploadOfUnknownLengthIsOnePart() throws Exception {
+		byte[] content = random(1000);
+		storage.put("photo-small", new ByteArrayInputStream(content), -1, "image/jpeg");
+
+		List<Request> parts = parts();
+		assertEquals(1, parts.size());
+		assertArrayEquals(content, parts.get(0).body());
+		assertCompletedWith(1);
+	}
+
+	@Test
+	void knownSmallUploadIsSinglePut() throws Exception {
+		byte[] content = random(1000);
+		storage.put("photo-single", new ByteArrayInputStream(content), content.length, "image/jpeg");
+
+		assertEquals(1, requests.size());
+		assertEquals("PUT", requests.get(0).method());
+		assertArrayEquals(content, requests.get(0).body());
+	}
+
+	// 가짜 S3 : 멀티파트 시작/조각/완료, 단일 PUT 에 응답
+	private void handle(HttpExchange exchange) throws IOException {
+		byte[] body = exchange.getRequestBody().readAllBytes();
+		if (exchange.getRequestHeaders().containsKey("x-amz-decoded-content-length")) {
+			body = decodeChunked(body);
+		}
+		String method = exchange.getRequestMethod();
+		String query = exchange.getRequestURI().getRawQuery() == null ? "" : exchange.getRequestURI().getRawQuery();
+		requests.add(new Request(method, query, body));
+
+		String xml = null;
+		if ("POST".equals(method) && query.startsWith("uploads")) {
+			xml = "<InitiateMultipartUploadResult xmlns=\"" + XMLNS + "\"><Bucket>photos</Bucket><Key>k</Key>"
+					+ "<UploadId>upload-1</UploadId></InitiateMultipartUploadResult>";
+		} else if ("POST".equals(method)) {
+			xml = "<CompleteMultipartUploadResult xmlns=\"" + XMLNS + "\"><Bucket>photos</Bucket><Key>k</Key>"
+					+ "<ETag>\"done\"</ETag></CompleteMultipartUploadResult>";
+		} else if ("PUT".equals(method)) {
+			exchange.getResponseHeaders().add("ETag", "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+		}
+		byte[] response = xml == null ? new byte[0] : xml.getBytes(StandardCharsets.UTF_8);
+		if (xml != null) {
+			exchange.getResponseHeaders().add("Content-Type", "application/xml");
+		}
+		exchange.sendResponseHeaders(200, response.length == 0 ? -1 : response.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(response);
+		}
+	}
+
+	// 서명된 aws-chunked 본문 ("크기;chunk-signature=...\r\n 데이터 \r\n" 반복, 크기 0 이면 끝)에서 데이터만 꺼냄
+	private static byte[] decodeChunked(byte[] body) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		int pos = 0;
+		while (true) {
+			int lineEnd = indexOfCrlf(body, pos);
+			String header = new String(body, pos, lineEnd - pos, StandardCharsets.US_ASCII);
+			int size = Integer.parseInt(header.split(";")[0], 16);
+			if (size == 0) {
+				return out.toByteArray();
+			}
+			out.write(body, lineEnd + 2, size);
+			pos = lineEnd + 2 + size + 2;
+		}
+	}
+
+	private static int indexOfCrlf(byte[] body, int from) {
+		for (int i = from; i < body.length - 1; i++) {
+			if (body[i] == '\r' && body[i + 1] == '\n') {
+				return i;
+			}
+		}
+		throw new IllegalStateException("잘못된 aws-chunked 본문");
+	}
+
+	private List<Request> parts() {
+		return requests.stream().filter(r -> "PUT".equals(r.method()) && r.query().contains("partNumber=")).toList();
+	}
+
+	// 시작 1번, 완료 1번이고 완료 요청에 조각 번호가 모두 들어 있어야 한다
+	private void assertCompletedWith(int partCount) {
+		List<Request> posts = requests.stream().filter(r -> "POST".equals(r.method())).toList();
+		assertEquals(2, posts.size());
+		assertTrue(posts.get(0).query().startsWith("uploads"));
+		String complete = new String(posts.get(1).body(), StandardCharsets.UTF_8);
+		assertTrue(posts.get(1).query().contains("uploadId=upload-1"));
+		for (int i = 1; i <= partCount; i++) {
+			assertTrue(complete.contains("<PartNumber>" + i + "</PartNumber>"), complete);
+		}
+		assertFalse(complete.contains("<PartNumber>" + (partCount + 1) + "</PartNumber>"), complete);
+	}
+
+	private static byte[] concat(List<Request> parts) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		parts.forEach(p -> out.writeBytes(p.body()));
+		return out.toByteArray();
+	}
+
+	private static byte[] random(int size) {
+		byte[] bytes = new byte[size];
+		new Random(size).nextBytes(bytes);
+		return bytes;
+	}
+}
@@ -0,0 +1,204 @@
+package com.ex.service;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Example;
+import com.ex.entity.AdmissionsEntity;
+import com.ex.entity.DogAssignmentsEntity;
+import com.ex.entity.MonthcareGroupsEntity;
+import com.ex.entity.SeatReservationEntity;
+import com.ex.repository.AdmissionsRepository;
+import com.ex.repository.DogAssignmentsRepository;
+import com.ex.repository.MonthcareGroupsRepository;
+import com.ex.repository.SeatReservationRepository;
+
+// 좌석 예약 정원 검증 (설정된 DB 에 테스트용 반/입학을 만들고 끝나면 지운다)
+@SpringBootTest
+class SeatReservationServiceTest {
+
+	private static final int PAYERS = 200;
+	private static final int CAPACITY = 5;
+
+	@Autowired
+	SeatReservationService seatReservationService;
+	@Autowired
+	SeatReservationRepository seatReservationRepository;
+	@Autowired
+	MonthcareGroupsRepository monthcareGroupsRepository;
+	@Autowired
+	AdmissionsRepository admissionsRepository;
+	@Autowired
+	DogAssignmentsRepository dogAssignmentsRepository;
+
+	private MonthcareGroupsEntity group;
+	private final List<AdmissionsEntity> admissions = new ArrayList<>();
+	private final List<DogAssignmentsEntity> assignments = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		group = monthcareGroupsRepository.save(MonthcareGroupsEntity.builder()
+				.name("seat-test")
+				.capacity(CAPACITY)
+				.build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		seatReservationRepository.deleteAll(seatReservationRepository.findAll(
+				Example.of(SeatReservationEntity.builder().monthgroupId(group.getId()).build())));
+		dogAssignmentsRepository.deleteAll(assignments);
+		admissionsRepository.deleteAll(admissions);
+		monthcareGroupsRepository.deleteById(group.getId());
+	}
+
+	// 동시에 결제를 시작해도 정원만큼만 예약된다
+	@Test
+	void concurrentReservationsFillExactlyCapacity() throws Exception {
+		List<Integer> ids = new ArrayList<>();
+		for (int i = 0; i < PAYERS; i++) {
+			ids.add(newAdmission().getAdmissionId());
+		}
+
+		ExecutorService pool = Executors.newFixedThreadPool(50);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger reserved = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+		List<Future<?>> futures = new ArrayList<>();
+		try {
+			for (Integer id : ids) {
+				futures.add(pool.submit(() -> {
+					start.await();
+					try {
+						seatReservationService.reserve(id);
+						reserved.incrementAndGet();
+					} catch (RuntimeException e) {
+						if (!"정원이 마감된 반입니다.".equals(e.getMessage())) {
+							throw e;
+						}
+						rejected.incrementAndGet();
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get(2, TimeUnit.MINUTES);
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+
+		assertEquals(CAPACITY, reserved.get());
+		assertEquals(PAYERS - CAPACITY, rejected.get());
+		assertEquals(CAPACITY, seatReservationRepository.count(Example.of(SeatReservationEntity.builder()
+				.monthgroupId(group.getId())
+				.status(SeatReservationService.HELD)
+				.build())));
+	}
+
+	// 반환한 좌석은 다른 결제가 예약할 수 있다
+	@Test
+	void releasedSeatCanBeReservedAgain() {
+		fillGroup();
+		AdmissionsEntity late = newAdmission();
+		assertThrows(RuntimeException.class, () -> seatReservationService.reserve(late.getAdmissionId()));
+
+		seatReservationService.release(admissions.get(0).getAdmissionId());
+		assertDoesNotThrow(() -> seatReservationService.reserve(late.getAdmissionId()));
+	}
+
+	// 만료된 예약은 그 사이 다른 결제가 좌석을 가져갔으면 확정되지 않는다
+	@Test
+	void confirmFailsWhenExpiredHoldLostItsSeat() {
+		fillGroup();
+		AdmissionsEntity expired = admissions.get(0);
+		SeatReservationEntity hold = seatReservationRepository.findActiveByAdmissionId(expired.getAdmissionId()).get();
+		hold.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+		seatReservationRepository.save(hold);
+
+		AdmissionsEntity other = newAdmission();
+		seatReservationService.reserve(other.getAdmissionId());
+
+		assertThrows(RuntimeException.class, () -> seatReservationService.confirm(expired.getAdmissionId()));
+		assertDoesNotThrow(() -> seatReservationService.confirm(other.getAdmissionId()));
+		// 이미 확정된 예약은 다시 확정해도 그대로
+		assertDoesNotThrow(() -> seatReservationService.confirm(other.getAdmissionId()));
+	}
+
+	// 만료됐어도 빈자리가 있으면 확정된다
+	@Test
+	void confirmSucceedsAfterExpiryWhenSeatIsFree() {
+		AdmissionsEntity admission = newAdmission();
+		SeatReservationEntity hold = seatReservationService.reserve(admission.getAdmissionId());
+		hold.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+		seatReservationRepository.save(hold);
+
+		assertDoesNotThrow(() -> seatReservationService.confirm(admission.getAdmissionId()));
+		assertEquals(SeatReservationService.CONFIRMED,
+				seatReservationRepository.findActiveByAdmissionId(admission.getAdmissionId()).get().getStatus());
+	}
+
+	// 확정된 구독월은 승인 시각이 아니라 예약한 달 (월말 예약 후 다음 날 승인해도 예약한 달로 구독 생성)
+	@Test
+	void confirmReturnsReservedMonth() {
+		AdmissionsEntity admission = newAdmission();
+		SeatReservationEntity hold = seatReservationService.reserve(admission.getAdmissionId());
+		// 지난달 말에 잡은 예약처럼 이번 달로 기록
+		YearMonth reserved = YearMonth.now();
+		hold.setMonthStart(reserved.atDay(1));
+		seatReservationRepository.save(hold);
+
+		assertEquals(reserved, seatReservationService.confirm(admission.getAdmissionId()));
+		// 결제 승인 기록에서 다시 호출해도 같은 달
+		assertEquals(reserved, seatReservationService.confirm(admission.getAdmissionId()));
+	}
+
+	// 이번 달에 끝나는 배정은 다음 달 좌석을 차지하지 않는다 (재등록 시 정원 초과로 막히지 않음)
+	@Test
+	void currentMonthAssignmentsDoNotHoldNextMonthSeats() {
+		YearMonth thisMonth = YearMonth.now();
+		for (int i = 0; i < CAPACITY; i++) {
+			DogAssignmentsEntity assignment = new DogAssignmentsEntity();
+			assignment.setMonthgroup(group);
+			assignment.setStartDate(thisMonth.atDay(1));
+			assignment.setEndDate(thisMonth.atEndOfMonth());
+			assignments.add(dogAssignmentsRepository.save(assignment));
+		}
+
+		assertTrue(seatReservationService.hasVacancy(group.getId()));
+		assertDoesNotThrow(() -> seatReservationService.reserve(newAdmission().getAdmissionId()));
+	}
+
+	private void fillGroup() {
+		for (int i = 0; i < CAPACITY; i++) {
+			seatReservationService.reserve(newAdmission().getAdmissionId());
+		}
+	}
+
+	private AdmissionsEntity newAdmission() {
+		AdmissionsEntity admission = admissionsRepository.save(AdmissionsEntity.builder()
+				.status("APPROVED")
+				.monthcaregroups(group)
+				.build());
+		admissions.add(admission);
+		return admission;
+	}
+}
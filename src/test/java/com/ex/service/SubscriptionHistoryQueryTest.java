@@ -0,0 +1,118 @@
+package com.ex.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+import com.ex.StatementCounter;
+import com.ex.data.SubscriptionHistoryDTO;
+import com.ex.entity.DogsEntity;
+import com.ex.entity.SubscriptionsEntity;
+import com.ex.repository.DogsRepository;
+import com.ex.repository.SubscriptionsRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+// 내 이용권 조회 SQL 실행 횟수 : 구독 건수와 상관없이 연도별/미결제 내역 모두 같은 횟수
+// 구독 2건일 때와 8건일 때의 실행 횟수를 비교한다. (테스트 데이터는 롤백, 견주가 있는 강아지가 있어야 실행됨)
+@SpringBootTest
+@Import(StatementCounter.class)
+@Transactional
+class SubscriptionHistoryQueryTest {
+
+	private static final int YEAR = 2098;
+
+	@Autowired
+	SubscriptionsService subscriptionsService;
+	@Autowired
+	SubscriptionsRepository subscriptionsRepository;
+	@Autowired
+	DogsRepository dogsRepository;
+	@PersistenceContext
+	EntityManager entityManager;
+
+	private DogsEntity dog;
+	private String username;
+
+	@BeforeEach
+	void setUp() {
+		List<DogsEntity> dogs = dogsRepository.findAll(PageRequest.of(0, 1)).getContent();
+		assumeTrue(!dogs.isEmpty() && dogs.get(0).getMember() != null, "견주가 있는 강아지 데이터 없음");
+		dog = dogs.get(0);
+		username = dog.getMember().getUsername();
+	}
+
+	@Test
+	void yearHistoryStatementCountDoesNotGrowWithHistory() {
+		addPaid(1, 2);
+		StatementCounter.reset();
+		List<SubscriptionHistoryDTO> small = subscriptionsService.mysubsInfo(username, YEAR);
+		int smallCount = StatementCounter.count();
+
+		addPaid(3, 6);
+		StatementCounter.reset();
+		List<SubscriptionHistoryDTO> large = subscriptionsService.mysubsInfo(username, YEAR);
+		int largeCount = StatementCounter.count();
+
+		assertEquals(2, small.size());
+		assertEquals(8, large.size());
+		assertEquals(smallCount, largeCount);
+		large.forEach(h -> assertEquals(YEAR, h.getPaymentDate().getYear()));
+	}
+
+	@Test
+	void unpaidHistoryStatementCountDoesNotGrowWithHistory() {
+		addUnpaid(2);
+		StatementCounter.reset();
+		List<SubscriptionHistoryDTO> small = subscriptionsService.mysubsUnpaid(username);
+		int smallCount = StatementCounter.count();
+
+		addUnpaid(6);
+		StatementCounter.reset();
+		List<SubscriptionHistoryDTO> large = subscriptionsService.mysubsUnpaid(username);
+		int largeCount = StatementCounter.count();
+
+		assertEquals(6, large.size() - small.size());
+		assertEquals(smallCount, largeCount);
+		large.forEach(h -> assertNull(h.getPaymentDate()));
+		assertTrue(subscriptionsService.hasUnpaidSubs(username));
+	}
+
+	// YEAR 년 fromMonth 월부터 한 달씩 구매일 있는 구독 추가
+	private void addPaid(int fromMonth, int count) {
+		for (int month = fromMonth; month < fromMonth + count; month++) {
+			subscriptionsRepository.save(SubscriptionsEntity.builder()
+					.dogs(dog).status("ACTIVE")
+					.startDate(LocalDate.of(YEAR, month, 1)).endDate(LocalDate.of(YEAR, month, 28))
+					.paymentDate(LocalDate.of(YEAR, month, 1))
+					.build());
+		}
+		flush();
+	}
+
+	// 구매일 없는 구독 추가
+	private void addUnpaid(int count) {
+		for (int i = 0; i < count; i++) {
+			subscriptionsRepository.save(SubscriptionsEntity.builder()
+					.dogs(dog).status("ACTIVE")
+					.startDate(LocalDate.of(YEAR, 12, 1)).endDate(LocalDate.of(YEAR, 12, 28))
+					.build());
+		}
+		flush();
+	}
+
+	private void flush() {
+		subscriptionsRepository.flush();
+		entityManager.clear();
+	}
+}
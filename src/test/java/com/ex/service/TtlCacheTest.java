@@ -0,0 +1,66 @@
+package com.ex.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// TTL 캐시 : 만료/최대 건수 정리, 읽는 중 evict 된 값은 남기지 않음, hit/miss 기록
+class TtlCacheTest {
+
+	@Test
+	void loadsOnceWithinTtl() {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		TtlCache<String, String> cache = new TtlCache<String, String>(() -> Duration.ofMinutes(1))
+				.recordStats(meterRegistry, "test.lookup");
+		AtomicInteger loads = new AtomicInteger();
+
+		assertEquals("A1", cache.getOrLoad("A", k -> k + loads.incrementAndGet()));
+		assertEquals("A1", cache.getOrLoad("A", k -> k + loads.incrementAndGet()));
+
+		assertEquals(1, loads.get());
+		assertEquals(1, meterRegistry.counter("test.lookup", "result", "hit").count());
+		assertEquals(1, meterRegistry.counter("test.lookup", "result", "miss").count());
+	}
+
+	@Test
+	void expiredEntryIsReloadedAndPurged() {
+		TtlCache<String, String> cache = new TtlCache<>(() -> Duration.ZERO);
+		cache.put("A", "old");
+
+		assertNull(cache.get("A"));
+		assertEquals("new", cache.getOrLoad("A", k -> "new"));
+
+		cache.purgeExpired();
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	void valueEvictedWhileLoadingIsNotCached() {
+		TtlCache<String, String> cache = new TtlCache<>(() -> Duration.ofMinutes(1));
+
+		String loaded = cache.getOrLoad("A", k -> {
+			cache.evict("A");	// 읽는 동안 원본이 바뀜
+			return "stale";
+		});
+
+		assertEquals("stale", loaded);
+		assertNull(cache.get("A"));
+		assertEquals("fresh", cache.getOrLoad("A", k -> "fresh"));
+		assertEquals("fresh", cache.get("A"));
+	}
+
+	@Test
+	void fullCacheDropsEntriesBeforeAdding() {
+		TtlCache<Integer, Integer> cache = new TtlCache<>(() -> Duration.ofMinutes(1), () -> 3);
+		for (int i = 0; i < 10; i++) {
+			cache.put(i, i);
+			assertTrue(cache.size() <= 3);
+		}
+		assertEquals(Integer.valueOf(9), cache.get(9));
+	}
+}
@@ -0,0 +1,98 @@
+package com.ex.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+// 파일 응답 Range 처리 : long 범위를 넘는 위치도 500 이 아니라 RFC 대로 응답한다
+// 업로드 파일은 nosniff 로 응답하고, 이미지가 아닌 파일은 화면에 열지 않고 내려받기로 응답한다
+class UploadFileServerTest {
+
+	private static final byte[] CONTENT = "0123456789".getBytes();
+	private static final String HUGE = "99999999999999999999999";
+
+	@TempDir
+	Path dir;
+
+	private final StorageService storageService = mock(StorageService.class);
+	private final UploadFileServer server = new UploadFileServer(storageService);
+
+	@Test
+	void servesRequestedRange() throws Exception {
+		MockHttpServletResponse response = serve("bytes=2-4");
+
+		assertEquals(206, response.getStatus());
+		assertEquals("bytes 2-4/10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+		assertArrayEquals("234".getBytes(), response.getContentAsByteArray());
+	}
+
+	@Test
+	void overflowingStartIsNotSatisfiable() throws Exception {
+		MockHttpServletResponse response = serve("bytes=" + HUGE + "-");
+
+		assertEquals(416, response.getStatus());
+		assertEquals("bytes */10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+	}
+
+	@Test
+	void overflowingEndIsClampedToFileSize() throws Exception {
+		MockHttpServletResponse response = serve("bytes=8-" + HUGE);
+
+		assertEquals(206, response.getStatus());
+		assertArrayEquals("89".getBytes(), response.getContentAsByteArray());
+	}
+
+	@Test
+	void overflowingSuffixServesWholeFile() throws Exception {
+		MockHttpServletResponse response = serve("bytes=-" + HUGE);
+
+		assertEquals(206, response.getStatus());
+		assertArrayEquals(CONTENT, response.getContentAsByteArray());
+	}
+
+	@Test
+	void uploadedImageIsServedInlineWithNosniff() throws Exception {
+		MockHttpServletResponse response = serveUpload("0123456789abcdef0123456789abcdef.png");
+
+		assertEquals(200, response.getStatus());
+		assertEquals("image/png", response.getContentType());
+		assertEquals("nosniff", response.getHeader("X-Content-Type-Options"));
+		assertNull(response.getHeader(HttpHeaders.CONTENT_DISPOSITION));
+	}
+
+	@Test
+	void uploadedHtmlIsServedAsDownload() throws Exception {
+		MockHttpServletResponse response = serveUpload("0123456789abcdef0123456789abcdef.html");
+
+		assertEquals("application/octet-stream", response.getContentType());
+		assertEquals("attachment", response.getHeader(HttpHeaders.CONTENT_DISPOSITION));
+		assertEquals("nosniff", response.getHeader("X-Content-Type-Options"));
+	}
+
+	private MockHttpServletResponse serveUpload(String filename) throws Exception {
+		Path file = Files.write(dir.resolve(filename), CONTENT);
+		when(storageService.localPath(filename)).thenReturn(file);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		server.serveUpload(filename, new MockHttpServletRequest("GET", "/upload/" + filename), response);
+		return response;
+	}
+
+	private MockHttpServletResponse serve(String range) throws Exception {
+		Path file = Files.write(dir.resolve("file.txt"), CONTENT);
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/upload/file.txt");
+		request.addHeader(HttpHeaders.RANGE, range);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		server.serve(file, false, null, request, response);
+		return response;
+	}
+}